@@ -0,0 +1,49 @@
+package com.example.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.Main;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Takes the usual JMH options, but unless {@code -rf}/{@code -rff} are
+ * given the results are also written as JSON to {@code benchmark-results/jmh-result-<label>.json}, so runs on
+ * different commits can be diffed or loaded into a JMH visualizer. The label is the {@code benchmark.label}
+ * system property, or the start time if unset.
+ *
+ * <pre>
+ * java -Dbenchmark.label=$(git rev-parse --short HEAD) -jar libs/benchmarks/target/benchmarks.jar
+ * </pre>
+ */
+public final class BenchmarkMain {
+
+    private static final Path RESULTS_DIRECTORY = Path.of("benchmark-results");
+
+    private BenchmarkMain() {}
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(args));
+        if (!arguments.contains("-rf")) {
+            arguments.add("-rf");
+            arguments.add("json");
+        }
+        if (!arguments.contains("-rff")) {
+            arguments.add("-rff");
+            arguments.add(defaultResultFile().toString());
+        }
+        Main.main(arguments.toArray(String[]::new));
+    }
+
+    private static Path defaultResultFile() throws IOException {
+        String label = System.getProperty("benchmark.label");
+        if (label == null || label.isBlank()) {
+            label = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        }
+        Files.createDirectories(RESULTS_DIRECTORY);
+        return RESULTS_DIRECTORY.resolve("jmh-result-" + label + ".json");
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.benchmarks.events;
+
+import com.example.core.events.EventSourcedRepository;
+import com.example.core.events.snapshot.SnapshotPolicy;
+import com.example.core.events.snapshot.SnapshotSerializer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time for {@link EventSourcedRepository#load} to rehydrate an aggregate with {@code history} events followed by
+ * another {@value #TAIL}, rebuilt from the full history ({@code snapshotEvery=0}) and from its latest snapshot,
+ * taken at {@code history}, plus the tail. With snapshots, every history length replays the same tail.
+ *
+ * <pre>
+ * docker compose up -d postgres
+ * java -jar libs/benchmarks/target/benchmarks.jar AggregateLoadBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AggregateLoadBenchmark {
+
+    private static final int TAIL = 50;
+    private static final int EVENTS_PER_SAVE = 10;
+
+    @Param({"100", "1000", "10000"})
+    public int history;
+
+    @Param({"0", "100"})
+    public int snapshotEvery;
+
+    private EventSourcedRepository<UserAggregate> repository;
+    private String aggregateId;
+
+    @Setup
+    public void setUp(EventStoreBenchmarkDatabase database) {
+        repository = new EventSourcedRepository<>(
+                UserAggregate::new,
+                database.eventStore(),
+                database.snapshotStore(),
+                new SnapshotSerializer(List.of()),
+                new SnapshotPolicy(snapshotEvery),
+                database.transactionManager());
+
+        aggregateId = EventStoreBenchmarkDatabase.newAggregateId();
+        // Grown a few events per command, as a real aggregate would, snapshotting along the way
+        UserAggregate aggregate = new UserAggregate();
+        for (int version = 1; version <= history; version++) {
+            aggregate.register(aggregateId, "User " + version, "user" + version + "@example.com");
+            if (version % EVENTS_PER_SAVE == 0) {
+                repository.save(aggregate);
+            }
+        }
+        repository.save(aggregate);
+        for (int version = history + 1; version <= history + TAIL; version++) {
+            aggregate.register(aggregateId, "User " + version, "user" + version + "@example.com");
+        }
+        repository.save(aggregate);
+    }
+
+    @Benchmark
+    public UserAggregate load() {
+        return repository.load(aggregateId).orElseThrow();
+    }
+}
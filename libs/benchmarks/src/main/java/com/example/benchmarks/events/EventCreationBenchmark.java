@@ -0,0 +1,68 @@
+package com.example.benchmarks.events;
+
+import com.example.core.events.DomainEvent;
+import com.example.core.messaging.event.BaseEvent;
+import com.example.core.web.config.JacksonConfig;
+import com.example.userapi.event.UserCreatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of creating an event and of writing it as JSON with the {@link JacksonConfig} {@code ObjectMapper}, for
+ * an integration event ({@link UserCreatedEvent}, a {@link BaseEvent}) and a {@link DomainEvent}. Both base
+ * classes draw a random UUID and read the clock on construction, which is most of the creation cost.
+ *
+ * <pre>
+ * java -jar libs/benchmarks/target/benchmarks.jar EventCreationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventCreationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private UserCreatedEvent baseEvent;
+    private UserRegistered domainEvent;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        baseEvent = new UserCreatedEvent(123456L, "John Doe", "john.doe@example.com");
+        domainEvent = new UserRegistered("123456", 1L, "John Doe", "john.doe@example.com");
+    }
+
+    @Benchmark
+    public BaseEvent createBaseEvent() {
+        return new UserCreatedEvent(123456L, "John Doe", "john.doe@example.com");
+    }
+
+    @Benchmark
+    public DomainEvent createDomainEvent() {
+        return new UserRegistered("123456", 1L, "John Doe", "john.doe@example.com");
+    }
+
+    @Benchmark
+    public byte[] serializeBaseEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(baseEvent);
+    }
+
+    @Benchmark
+    public byte[] serializeDomainEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(domainEvent);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.benchmarks.events;
+
+import com.example.core.events.DomainEvent;
+import com.example.core.events.store.JdbcEventStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link JdbcEventStore} against PostgreSQL (see {@link EventStoreBenchmarkDatabase} for the connection):
+ *
+ * <ul>
+ *   <li>{@code append*}: events appended per second to new aggregates, in batches of 1, 10 and 100 events per
+ *       {@code saveEvents} call, each in its own transaction
+ *   <li>{@code load}: time to read back an aggregate of {@code eventsPerAggregate} events
+ * </ul>
+ *
+ * <pre>
+ * docker compose up -d postgres
+ * java -jar libs/benchmarks/target/benchmarks.jar EventStoreBenchmark
+ * </pre>
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventStoreBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class StoredAggregate {
+
+        @Param({"10", "100", "1000", "10000"})
+        public int eventsPerAggregate;
+
+        private String aggregateId;
+
+        @Setup
+        public void setUp(EventStoreBenchmarkDatabase database) {
+            aggregateId = EventStoreBenchmarkDatabase.newAggregateId();
+            // Appended in chunks, as an aggregate would have grown
+            for (long version = 0; version < eventsPerAggregate; version += 100) {
+                int count = (int) Math.min(100, eventsPerAggregate - version);
+                database.eventStore().saveEvents(aggregateId, events(aggregateId, version, count), version);
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void append1(EventStoreBenchmarkDatabase database) {
+        append(database.eventStore(), 1);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(10)
+    public void append10(EventStoreBenchmarkDatabase database) {
+        append(database.eventStore(), 10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(100)
+    public void append100(EventStoreBenchmarkDatabase database) {
+        append(database.eventStore(), 100);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<DomainEvent> load(EventStoreBenchmarkDatabase database, StoredAggregate aggregate) {
+        return database.eventStore().getEvents(aggregate.aggregateId);
+    }
+
+    private static void append(JdbcEventStore eventStore, int count) {
+        String aggregateId = EventStoreBenchmarkDatabase.newAggregateId();
+        eventStore.saveEvents(aggregateId, events(aggregateId, 0, count), 0L);
+    }
+
+    private static List<DomainEvent> events(String aggregateId, long afterVersion, int count) {
+        List<DomainEvent> events = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            long version = afterVersion + i;
+            events.add(new UserRegistered(aggregateId, version, "User " + version, "user" + version + "@example.com"));
+        }
+        return events;
+    }
+}
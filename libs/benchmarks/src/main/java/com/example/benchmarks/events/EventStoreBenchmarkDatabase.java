@@ -0,0 +1,72 @@
+package com.example.benchmarks.events;
+
+import com.example.core.events.snapshot.JdbcSnapshotStore;
+import com.example.core.events.store.DomainEventSerializer;
+import com.example.core.events.store.DomainEventTypeRegistry;
+import com.example.core.events.store.JdbcEventStore;
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * The PostgreSQL database the event store benchmarks run against, migrated with the user API's Flyway scripts.
+ * Defaults to the dev database; override with {@code -Dbenchmark.jdbc.url}, {@code -Dbenchmark.jdbc.username}
+ * and {@code -Dbenchmark.jdbc.password}. Benchmark aggregates are prefixed so {@link #tearDown()} removes
+ * only what the benchmark wrote.
+ */
+@State(Scope.Benchmark)
+public class EventStoreBenchmarkDatabase {
+
+    private static final String AGGREGATE_ID_PREFIX = "benchmark-";
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcEventStore eventStore;
+    private JdbcSnapshotStore snapshotStore;
+    private DataSourceTransactionManager transactionManager;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5433/userdb"),
+                System.getProperty("benchmark.jdbc.username", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "postgres"),
+                true);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        eventStore = new JdbcEventStore(
+                jdbcTemplate, new DomainEventSerializer(new DomainEventTypeRegistry(List.of(UserRegistered.class))));
+        snapshotStore = new JdbcSnapshotStore(jdbcTemplate);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    JdbcEventStore eventStore() {
+        return eventStore;
+    }
+
+    JdbcSnapshotStore snapshotStore() {
+        return snapshotStore;
+    }
+
+    DataSourceTransactionManager transactionManager() {
+        return transactionManager;
+    }
+
+    static String newAggregateId() {
+        return AGGREGATE_ID_PREFIX + UUID.randomUUID();
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM domain_events WHERE aggregate_id LIKE ?", AGGREGATE_ID_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM aggregate_snapshots WHERE aggregate_id LIKE ?", AGGREGATE_ID_PREFIX + "%");
+        dataSource.destroy();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.benchmarks.events;
+
+import com.example.core.events.AggregateRoot;
+import com.example.core.events.DomainEvent;
+import com.example.core.events.snapshot.Snapshottable;
+
+/** A user whose registration details are re-recorded by every {@link UserRegistered} event. */
+public class UserAggregate extends AggregateRoot implements Snapshottable<UserAggregate.State> {
+
+    private String id;
+    private String name;
+    private String email;
+    private long registrations;
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public long getRegistrations() {
+        return registrations;
+    }
+
+    public void register(String aggregateId, String name, String email) {
+        applyChange(new UserRegistered(aggregateId, getVersion() + 1, name, email));
+        incrementVersion();
+    }
+
+    @Override
+    protected void handle(DomainEvent event) {
+        UserRegistered registered = (UserRegistered) event;
+        id = registered.getAggregateId();
+        name = registered.getUserName();
+        email = registered.getUserEmail();
+        registrations++;
+    }
+
+    @Override
+    public Class<State> getSnapshotType() {
+        return State.class;
+    }
+
+    @Override
+    public State takeSnapshot() {
+        return new State(id, name, email, registrations);
+    }
+
+    @Override
+    public void restoreSnapshot(State snapshot) {
+        id = snapshot.id;
+        name = snapshot.name;
+        email = snapshot.email;
+        registrations = snapshot.registrations;
+    }
+
+    public static class State {
+        public String id;
+        public String name;
+        public String email;
+        public long registrations;
+
+        public State() {}
+
+        State(String id, String name, String email, long registrations) {
+            this.id = id;
+            this.name = name;
+            this.email = email;
+            this.registrations = registrations;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.benchmarks.events;
+
+import com.example.core.events.DomainEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
+
+/** No domain events ship with the platform yet, so this mirrors {@code UserCreatedEvent}'s payload. */
+public class UserRegistered extends DomainEvent {
+
+    @JsonProperty("userName")
+    private final String userName;
+
+    @JsonProperty("userEmail")
+    private final String userEmail;
+
+    public UserRegistered(String aggregateId, Long version, String userName, String userEmail) {
+        super(aggregateId, "User", version);
+        this.userName = userName;
+        this.userEmail = userEmail;
+    }
+
+    @JsonCreator
+    public UserRegistered(
+            @JsonProperty("eventId") String eventId,
+            @JsonProperty("aggregateId") String aggregateId,
+            @JsonProperty("aggregateType") String aggregateType,
+            @JsonProperty("version") Long version,
+            @JsonProperty("occurredAt") Instant occurredAt,
+            @JsonProperty("userName") String userName,
+            @JsonProperty("userEmail") String userEmail) {
+        super(eventId, aggregateId, aggregateType, version, occurredAt);
+        this.userName = userName;
+        this.userEmail = userEmail;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+}
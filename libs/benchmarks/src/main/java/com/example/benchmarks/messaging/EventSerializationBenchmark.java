@@ -0,0 +1,116 @@
+package com.example.benchmarks.messaging;
+
+import com.example.core.messaging.serialization.BinaryEventDeserializer;
+import com.example.core.messaging.serialization.BinaryEventSerializer;
+import com.example.core.messaging.serialization.EventSchemaRegistry;
+import com.example.userapi.event.UserCreatedEvent;
+import com.example.userapi.event.schema.UserCreatedEventSchema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * Compares the JSON event path (Spring's {@code JsonSerializer}/{@code JsonDeserializer}, as configured by
+ * {@code KafkaConfig}) with {@link BinaryEventSerializer} for a {@link UserCreatedEvent}.
+ *
+ * <p>Reports ns/op for each direction; the encoded size of each format is printed once per fork.
+ *
+ * <pre>
+ * java -jar libs/benchmarks/target/benchmarks.jar EventSerializationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventSerializationBenchmark {
+
+    private static final String TOPIC = "user-events";
+
+    private JsonSerializer<Object> jsonSerializer;
+    private JsonDeserializer<Object> jsonDeserializer;
+    private BinaryEventSerializer binarySerializer;
+    private BinaryEventDeserializer binaryDeserializer;
+
+    private UserCreatedEvent event;
+    private RecordHeaders jsonHeaders;
+    private byte[] jsonMessage;
+    private byte[] binaryMessage;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        EventSchemaRegistry registry = new EventSchemaRegistry(List.of(new UserCreatedEventSchema()));
+
+        jsonSerializer = new JsonSerializer<>(objectMapper);
+        jsonDeserializer = new JsonDeserializer<>(objectMapper);
+        // Keep the type headers so the same record can be read on every invocation
+        jsonDeserializer.configure(
+                Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*", JsonDeserializer.REMOVE_TYPE_INFO_HEADERS, false),
+                false);
+        binarySerializer = new BinaryEventSerializer(registry, null);
+        binaryDeserializer = new BinaryEventDeserializer(registry, null);
+
+        event = new UserCreatedEvent(123456L, "John Doe", "john.doe@example.com");
+        jsonHeaders = new RecordHeaders();
+        jsonMessage = jsonSerializer.serialize(TOPIC, jsonHeaders, event);
+        binaryMessage = binarySerializer.serialize(TOPIC, event);
+
+        // Sizes are constant per format, so they are reported once rather than measured
+        System.out.printf(
+                "bytes/message: json=%d (+%d header bytes), binary=%d%n",
+                jsonMessage.length, headerBytes(jsonHeaders), binaryMessage.length);
+    }
+
+    private static int headerBytes(RecordHeaders headers) {
+        int total = 0;
+        for (Header header : headers) {
+            total += header.key().length() + header.value().length;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        // Type headers are part of the JSON path's cost, so they are written as KafkaTemplate would
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return binarySerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return jsonDeserializer.deserialize(TOPIC, jsonHeaders, jsonMessage);
+    }
+
+    @Benchmark
+    public Object binaryDeserialize() {
+        return binaryDeserializer.deserialize(TOPIC, binaryMessage);
+    }
+}
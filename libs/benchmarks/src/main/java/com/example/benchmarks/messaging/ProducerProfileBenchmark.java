@@ -0,0 +1,109 @@
+package com.example.benchmarks.messaging;
+
+import com.example.core.messaging.config.ProducerProfile;
+import com.example.userapi.event.UserCreatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+/**
+ * Events per second a burst of {@value #BURST} {@link UserCreatedEvent}s reaches under each
+ * {@link ProducerProfile}, counting an event once the broker has acknowledged it. Sends go to the broker at
+ * {@code -Dbenchmark.kafka.bootstrap-servers}, or to an in-process KRaft broker when that is unset, so no
+ * container is needed; the in-process broker shares the CPU with the producer, so compare profiles on the
+ * same setup rather than reading the numbers as absolute.
+ *
+ * <pre>
+ * java -jar libs/benchmarks/target/benchmarks.jar ProducerProfileBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProducerProfileBenchmark {
+
+    private static final String TOPIC = "user-events";
+    private static final int PARTITIONS = 3;
+    private static final int BURST = 10_000;
+
+    @Param({"low-latency", "high-throughput"})
+    public String profile;
+
+    private EmbeddedKafkaBroker broker;
+    private DefaultKafkaProducerFactory<String, Object> producerFactory;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private UserCreatedEvent[] events;
+
+    @Setup
+    public void setUp() {
+        String bootstrapServers = System.getProperty("benchmark.kafka.bootstrap-servers");
+        if (bootstrapServers == null) {
+            broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+            broker.afterPropertiesSet();
+            bootstrapServers = broker.getBrokersAsString();
+        }
+
+        // Mirrors KafkaConfig.producerFactory
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.RETRIES_CONFIG, 3);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        ProducerProfile.fromName(profile).applyTo(props);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        producerFactory =
+                new DefaultKafkaProducerFactory<>(props, new StringSerializer(), new JsonSerializer<>(objectMapper));
+        kafkaTemplate = new KafkaTemplate<>(producerFactory);
+
+        events = new UserCreatedEvent[BURST];
+        for (int i = 0; i < BURST; i++) {
+            long id = i + 1;
+            events[i] = new UserCreatedEvent(id, "User " + id, "user" + id + "@example.com");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        producerFactory.destroy();
+        if (broker != null) {
+            broker.destroy();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void sendBurst() throws Exception {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[BURST];
+        for (int i = 0; i < BURST; i++) {
+            UserCreatedEvent event = events[i];
+            futures[i] = kafkaTemplate.send(TOPIC, Long.toString(event.getUserId()), event);
+        }
+        CompletableFuture.allOf(futures).get(2, TimeUnit.MINUTES);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.benchmarks.security;
+
+import com.example.core.security.authentication.JwtAuthoritiesMapper;
+import com.example.core.security.filter.JwtAuthenticationFilter;
+import com.example.core.security.jwt.HmacJwtKeyProvider;
+import com.example.core.security.jwt.JwtService;
+import com.example.core.security.jwt.VerifiedToken;
+import com.example.core.security.revocation.TokenRevocationList;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Time and allocation per request through the JWT authentication filter, with the verified-token cache on so
+ * that signature checking does not hide the filter's own cost:
+ *
+ * <ul>
+ *   <li>{@code eager}: the previous filter, which built a {@code UsernamePasswordAuthenticationToken} and
+ *       {@code WebAuthenticationDetails} on every request
+ *   <li>{@code lightweight}: {@link JwtAuthenticationFilter} with shared authorities, and details built only
+ *       if something asks for them
+ * </ul>
+ *
+ * <p>Run with the GC profiler and compare {@code gc.alloc.rate.norm} (bytes per request):
+ *
+ * <pre>
+ * java -jar libs/benchmarks/target/benchmarks.jar JwtAuthenticationAllocationBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationAllocationBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey1234567890123456789012345";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+    @Param({"eager", "lightweight"})
+    public String mode;
+
+    private OncePerRequestFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService(
+                new HmacJwtKeyProvider(SECRET), new TokenRevocationList(0), 3600, 86400, 10_000, Duration.ofHours(1));
+        filter = mode.equals("eager")
+                ? new EagerJwtAuthenticationFilter(jwtService)
+                : new JwtAuthenticationFilter(jwtService, new JwtAuthoritiesMapper("roles", "ROLE_"));
+        String token = jwtService.generateAccessToken("john@example.com", Map.of("roles", List.of("USER")));
+        // OncePerRequestFilter clears its "already filtered" marker when it returns, so the request can be
+        // reused and only the filter's own allocations are measured
+        request = new MockHttpServletRequest("GET", "/api/users/1");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        try {
+            filter.doFilter(request, response, NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * The filter as it was before {@code JwtAuthenticationToken}: no authorities, details built eagerly.
+     */
+    static class EagerJwtAuthenticationFilter extends OncePerRequestFilter {
+
+        private final JwtService jwtService;
+
+        EagerJwtAuthenticationFilter(JwtService jwtService) {
+            this.jwtService = jwtService;
+        }
+
+        @Override
+        protected void doFilterInternal(
+                HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            String token = request.getHeader("Authorization").substring("Bearer ".length());
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                String username =
+                        jwtService.verify(token).map(VerifiedToken::getSubject).orElse(null);
+                if (username != null) {
+                    UsernamePasswordAuthenticationToken authToken =
+                            new UsernamePasswordAuthenticationToken(username, null, Collections.emptyList());
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                }
+            }
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.benchmarks.security;
+
+import com.example.core.security.authentication.JwtAuthoritiesMapper;
+import com.example.core.security.filter.JwtAuthenticationFilter;
+import com.example.core.security.jwt.HmacJwtKeyProvider;
+import com.example.core.security.jwt.JwtService;
+import com.example.core.security.revocation.TokenRevocationList;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Requests/ms through the JWT authentication filter for a valid bearer token:
+ *
+ * <ul>
+ *   <li>{@code legacy}: the previous filter, which built a new parser and verified the signature twice
+ *   <li>{@code parse-once}: {@link JwtAuthenticationFilter} with the verified-token cache disabled
+ *   <li>{@code cached}: {@link JwtAuthenticationFilter} with the verified-token cache, as deployed
+ * </ul>
+ *
+ * <pre>
+ * java -jar libs/benchmarks/target/benchmarks.jar JwtAuthenticationFilterBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey1234567890123456789012345";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+    @Param({"legacy", "parse-once", "cached"})
+    public String mode;
+
+    private OncePerRequestFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        long cacheSize = mode.equals("cached") ? 10_000 : 0;
+        JwtService jwtService = new JwtService(
+                new HmacJwtKeyProvider(SECRET),
+                new TokenRevocationList(0),
+                3600,
+                86400,
+                cacheSize,
+                Duration.ofHours(1));
+        filter = mode.equals("legacy")
+                ? new LegacyJwtAuthenticationFilter(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                : new JwtAuthenticationFilter(jwtService, new JwtAuthoritiesMapper("roles", "ROLE_"));
+        authorization = "Bearer " + jwtService.generateAccessToken("john@example.com", Map.of("role", "USER"));
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        // OncePerRequestFilter marks the request as filtered, so each invocation needs a fresh one
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * The filter as it was before the parser was shared: validate, then parse again for the subject.
+     */
+    static class LegacyJwtAuthenticationFilter extends OncePerRequestFilter {
+
+        private final SecretKey secretKey;
+
+        LegacyJwtAuthenticationFilter(SecretKey secretKey) {
+            this.secretKey = secretKey;
+        }
+
+        @Override
+        protected void doFilterInternal(
+                HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            String token = request.getHeader("Authorization").substring("Bearer ".length());
+            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+            String username = Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload()
+                    .getSubject();
+            SecurityContextHolder.getContext()
+                    .setAuthentication(
+                            new UsernamePasswordAuthenticationToken(username, null, Collections.emptyList()));
+            filterChain.doFilter(request, response);
+        }
+    }
+}
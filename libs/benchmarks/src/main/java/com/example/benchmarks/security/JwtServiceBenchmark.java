@@ -0,0 +1,68 @@
+package com.example.benchmarks.security;
+
+import com.example.core.security.jwt.HmacJwtKeyProvider;
+import com.example.core.security.jwt.JwtService;
+import com.example.core.security.revocation.TokenRevocationList;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of issuing an HMAC access token and of validating one with {@link JwtService}, with the verified-token
+ * cache disabled ({@code 0}) and enabled as deployed ({@code 10000}). Generation never touches the cache.
+ *
+ * <pre>
+ * java -jar libs/benchmarks/target/benchmarks.jar JwtServiceBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey1234567890123456789012345";
+    private static final String SUBJECT = "john@example.com";
+    private static final Map<String, Object> CLAIMS = Map.of("role", "USER");
+
+    @Param({"0", "10000"})
+    public long tokenCacheSize;
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(
+                new HmacJwtKeyProvider(SECRET),
+                new TokenRevocationList(0),
+                3600,
+                86400,
+                tokenCacheSize,
+                Duration.ofHours(1));
+        token = jwtService.generateAccessToken(SUBJECT, CLAIMS);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(SUBJECT, CLAIMS);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(token);
+    }
+}
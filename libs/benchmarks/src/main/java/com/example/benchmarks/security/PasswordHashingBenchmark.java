@@ -0,0 +1,70 @@
+package com.example.benchmarks.security;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Hashes/sec on a single thread, i.e. per core, for the algorithms {@code PasswordHashingConfig} can be set
+ * to. Divide the expected login rate by this to size {@code security.password.hashing.threads}.
+ *
+ * <ul>
+ *   <li>{@code bcrypt-10}: bcrypt at the default cost
+ *   <li>{@code bcrypt-12}: bcrypt at four times the work
+ *   <li>{@code argon2id}: Argon2id with the default parameters (19 MiB, two iterations, one lane)
+ * </ul>
+ *
+ * <pre>
+ * java -jar libs/benchmarks/target/benchmarks.jar PasswordHashingBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"bcrypt-10", "bcrypt-12", "argon2id"})
+    public String algorithm;
+
+    private PasswordEncoder passwordEncoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = switch (algorithm) {
+            case "bcrypt-10" -> new BCryptPasswordEncoder(10);
+            case "bcrypt-12" -> new BCryptPasswordEncoder(12);
+            case "argon2id" -> new Argon2PasswordEncoder(16, 32, 1, 19456, 2);
+            default -> throw new IllegalArgumentException(algorithm);};
+        hash = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, hash);
+    }
+}
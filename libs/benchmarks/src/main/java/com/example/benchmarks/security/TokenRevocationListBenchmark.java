@@ -0,0 +1,66 @@
+package com.example.benchmarks.security;
+
+import com.example.core.security.revocation.TokenRevocationList;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the per-request revocation check with {@code revoked} tokens already on the list, for a token that
+ * is not revoked (the Bloom filter answers) and one that is (the exact set confirms).
+ *
+ * <pre>
+ * java -jar libs/benchmarks/target/benchmarks.jar TokenRevocationListBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenRevocationListBenchmark {
+
+    @Param({"0", "10000", "100000"})
+    public int revoked;
+
+    private TokenRevocationList revocationList;
+    private String validTokenId;
+    private String revokedTokenId;
+
+    @Setup
+    public void setUp() {
+        revocationList = new TokenRevocationList(100_000);
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        for (int i = 0; i < revoked; i++) {
+            revocationList.revoke(UUID.randomUUID().toString(), expiresAt);
+        }
+        revokedTokenId = UUID.randomUUID().toString();
+        revocationList.revoke(revokedTokenId, expiresAt);
+        validTokenId = UUID.randomUUID().toString();
+        // Token ids come from cached verified tokens, so their hash codes are already computed
+        validTokenId.hashCode();
+        revokedTokenId.hashCode();
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return revocationList.isRevoked(validTokenId);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return revocationList.isRevoked(revokedTokenId);
+    }
+}
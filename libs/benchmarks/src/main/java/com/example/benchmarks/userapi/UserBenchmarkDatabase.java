@@ -0,0 +1,57 @@
+package com.example.benchmarks.userapi;
+
+import com.example.userapi.repository.UserRepository;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * The PostgreSQL database the user repository benchmarks run against, migrated with the user API's Flyway
+ * scripts. Defaults to the dev database; override with {@code -Dbenchmark.jdbc.url},
+ * {@code -Dbenchmark.jdbc.username} and {@code -Dbenchmark.jdbc.password}. Benchmark users get emails under
+ * {@value #EMAIL_DOMAIN} so {@link #tearDown()} removes only what the benchmark wrote.
+ */
+@State(Scope.Benchmark)
+public class UserBenchmarkDatabase {
+
+    static final String EMAIL_DOMAIN = "benchmark.example.com";
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private UserRepository userRepository;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5433/userdb"),
+                System.getProperty("benchmark.jdbc.username", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "postgres"),
+                true);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        userRepository = new UserRepository(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate));
+    }
+
+    JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    UserRepository userRepository() {
+        return userRepository;
+    }
+
+    void deleteBenchmarkUsers() {
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", "%@" + EMAIL_DOMAIN);
+    }
+
+    @TearDown
+    public void tearDown() {
+        deleteBenchmarkUsers();
+        dataSource.destroy();
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.benchmarks.userapi;
+
+import com.example.core.web.response.PageResult;
+import com.example.core.web.response.TotalCountStrategy;
+import com.example.userapi.controller.UserController;
+import com.example.userapi.model.User;
+import com.example.userapi.service.UserService;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Latency of the user endpoints over embedded Tomcat under closed-loop load, with platform request threads and
+ * with {@code spring.threads.virtual.enabled}. {@link UserController} runs against a stubbed service: reads by
+ * id are cache hits, while page reads hold one of {@link #POOL_SIZE} connections, the Hikari pool size, for
+ * {@link #QUERY_TIME}. The {@code mixed} group runs four cache-hit clients per page client, 250 in all against
+ * {@link #TOMCAT_THREADS} workers, so on platform threads cache hits queue behind page reads waiting for a
+ * connection; on virtual threads they should not. Compare the {@code p0.99} of {@code byId} across the two.
+ * The {@code virtual} mode needs a Java 21 JVM.
+ *
+ * <pre>
+ * java -jar libs/benchmarks/target/benchmarks.jar UserEndpointsLoadBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserEndpointsLoadBenchmark {
+
+    private static final int TOMCAT_THREADS = 50;
+    private static final int POOL_SIZE = 10;
+    private static final Duration QUERY_TIME = Duration.ofMillis(20);
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private ServletWebServerApplicationContext context;
+    private HttpClient client;
+    private HttpRequest byIdRequest;
+    private HttpRequest pageRequest;
+
+    @Setup
+    public void setUp() {
+        boolean virtual = threads.equals("virtual");
+        if (virtual && Runtime.version().feature() < 21) {
+            // Spring ignores the property below Java 21, which would silently measure platform threads again
+            throw new IllegalStateException("Virtual threads need Java 21, running on " + Runtime.version());
+        }
+        context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(LoadTestConfig.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "spring.main.banner-mode=off",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "logging.level.root=WARN")
+                .run();
+        URI base = URI.create("http://localhost:" + context.getWebServer().getPort());
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        byIdRequest = HttpRequest.newBuilder(base.resolve("/api/users/1")).build();
+        pageRequest = HttpRequest.newBuilder(base.resolve("/api/users?page=0&size=10"))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(200)
+    public int byId() throws IOException, InterruptedException {
+        return send(byIdRequest);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(50)
+    public int page() throws IOException, InterruptedException {
+        return send(pageRequest);
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        int status =
+                client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) {
+            throw new IllegalStateException("Unexpected status " + status + " for " + request.uri());
+        }
+        return status;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({
+        ServletWebServerFactoryAutoConfiguration.class,
+        DispatcherServletAutoConfiguration.class,
+        WebMvcAutoConfiguration.class,
+        HttpMessageConvertersAutoConfiguration.class,
+        JacksonAutoConfiguration.class,
+        TaskExecutionAutoConfiguration.class
+    })
+    @Import(UserController.class)
+    static class LoadTestConfig {
+
+        @Bean
+        UserService userService() {
+            return new StubUserService();
+        }
+    }
+
+    /**
+     * Serves one user from memory; pages wait for a pooled connection and then for the query.
+     */
+    static class StubUserService extends UserService {
+
+        private final User user = new User("Load Test", "load.test@example.com");
+        private final Semaphore connections = new Semaphore(POOL_SIZE, true);
+
+        StubUserService() {
+            super(null, null, null);
+            user.setId(1L);
+        }
+
+        @Override
+        public User getUserById(Long id) {
+            return user;
+        }
+
+        @Override
+        public PageResult<User> getAllUsers(int page, int size, TotalCountStrategy totalCountStrategy) {
+            connections.acquireUninterruptibly();
+            try {
+                Thread.sleep(QUERY_TIME.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                connections.release();
+            }
+            return new PageResult<>(List.of(user), page, size, 1);
+        }
+    }
+}
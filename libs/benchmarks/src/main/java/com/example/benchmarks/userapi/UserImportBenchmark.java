@@ -0,0 +1,81 @@
+package com.example.benchmarks.userapi;
+
+import com.example.userapi.model.User;
+import com.example.userapi.repository.UserRepository;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rows per second written into {@code users} by the three write paths, each loading {@value #ROWS} new users
+ * in one transaction: one INSERT per row ({@code singleInserts}), JDBC batches via {@code saveAll}
+ * ({@code batchedInserts}) and streaming COPY via {@code importUsers} ({@code copyImport}). Runs against
+ * PostgreSQL, see {@link UserBenchmarkDatabase} for the connection.
+ *
+ * <pre>
+ * docker compose up -d postgres
+ * java -jar libs/benchmarks/target/benchmarks.jar UserImportBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserImportBenchmark {
+
+    private static final int ROWS = 5_000;
+
+    private UserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+    private List<User> users;
+
+    @Setup
+    public void setUp(UserBenchmarkDatabase database) {
+        userRepository = database.userRepository();
+        transactionTemplate = new TransactionTemplate(
+                new DataSourceTransactionManager(database.jdbcTemplate().getDataSource()));
+    }
+
+    @Setup(Level.Invocation)
+    public void newUsers(UserBenchmarkDatabase database) {
+        // Every invocation inserts fresh rows, so the table is emptied rather than left to grow across runs
+        database.deleteBenchmarkUsers();
+        users = IntStream.range(0, ROWS)
+                .mapToObj(i -> new User("User " + i, "user" + i + "@" + UserBenchmarkDatabase.EMAIL_DOMAIN))
+                .toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void singleInserts() {
+        transactionTemplate.executeWithoutResult(status -> users.forEach(userRepository::save));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<User> batchedInserts() {
+        return transactionTemplate.execute(status -> userRepository.saveAll(users));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Long copyImport() {
+        return transactionTemplate.execute(status -> userRepository.importUsers(users.iterator()));
+    }
+}
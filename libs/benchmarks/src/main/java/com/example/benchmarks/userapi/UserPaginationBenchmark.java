@@ -0,0 +1,87 @@
+package com.example.benchmarks.userapi;
+
+import com.example.core.database.pagination.KeysetCursor;
+import com.example.userapi.model.User;
+import com.example.userapi.repository.UserRepository;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to read one page of users at increasing depths, with OFFSET ({@code offsetPage}) and with a keyset
+ * cursor ({@code keysetPage}), against PostgreSQL (see {@link UserBenchmarkDatabase} for the connection).
+ * Keyset pages should stay flat while OFFSET pages grow with the number of rows skipped.
+ *
+ * <pre>
+ * docker compose up -d postgres
+ * java -jar libs/benchmarks/target/benchmarks.jar UserPaginationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserPaginationBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String SEED_USERS =
+            """
+            INSERT INTO users (name, email, created_at, updated_at)
+            SELECT 'User ' || g, 'user' || g || '@' || ?,
+                   TIMESTAMP '2024-01-01' + (g || ' seconds')::interval,
+                   TIMESTAMP '2024-01-01' + (g || ' seconds')::interval
+            FROM generate_series(1, ?) AS g
+            """;
+
+    private static final String SELECT_ROW_AT_DEPTH =
+            """
+            SELECT id, created_at FROM users ORDER BY created_at DESC, id DESC LIMIT 1 OFFSET ?
+            """;
+
+    @Param({"0", "1000", "10000", "100000", "190000"})
+    public int depth;
+
+    private UserRepository userRepository;
+    private KeysetCursor cursor;
+
+    @Setup
+    public void setUp(UserBenchmarkDatabase database) {
+        database.deleteBenchmarkUsers();
+        database.jdbcTemplate().update(SEED_USERS, UserBenchmarkDatabase.EMAIL_DOMAIN, ROWS);
+        // Reclaim the rows a previous trial deleted, which would otherwise slow the first index scans
+        database.jdbcTemplate().execute("VACUUM ANALYZE users");
+        userRepository = database.userRepository();
+        cursor = depth == 0
+                ? null
+                : database.jdbcTemplate()
+                        .queryForObject(
+                                SELECT_ROW_AT_DEPTH,
+                                (rs, rowNum) -> new KeysetCursor(
+                                        rs.getTimestamp("created_at").toLocalDateTime(), rs.getLong("id")),
+                                depth - 1);
+    }
+
+    @Benchmark
+    public List<User> offsetPage() {
+        return userRepository.findAll(PAGE_SIZE, depth);
+    }
+
+    @Benchmark
+    public List<User> keysetPage() {
+        return userRepository.findAllAfter(cursor, PAGE_SIZE);
+    }
+}
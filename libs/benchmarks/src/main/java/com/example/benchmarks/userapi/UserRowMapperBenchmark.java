@@ -0,0 +1,62 @@
+package com.example.benchmarks.userapi;
+
+import com.example.userapi.model.User;
+import com.example.userapi.repository.UserRowMapper;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of mapping one {@code users} row with {@link UserRowMapper}, i.e. the per-row overhead every list and
+ * page query pays on top of the database. The row comes from an in-memory {@code ResultSet} that resolves
+ * columns by label the way a driver does, so the database and the network are not part of the number.
+ *
+ * <pre>
+ * java -jar libs/benchmarks/target/benchmarks.jar UserRowMapperBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserRowMapperBenchmark {
+
+    private UserRowMapper rowMapper;
+    private SimpleResultSet resultSet;
+
+    @Setup
+    public void setUp() throws SQLException {
+        rowMapper = new UserRowMapper();
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 12, 0));
+        resultSet = new SimpleResultSet();
+        resultSet.addColumn("id", Types.BIGINT, 19, 0);
+        resultSet.addColumn("name", Types.VARCHAR, 255, 0);
+        resultSet.addColumn("email", Types.VARCHAR, 255, 0);
+        resultSet.addColumn("created_at", Types.TIMESTAMP, 26, 6);
+        resultSet.addColumn("updated_at", Types.TIMESTAMP, 26, 6);
+        resultSet.addRow(123456L, "John Doe", "john.doe@example.com", createdAt, createdAt);
+        // Stay on the row so every invocation reads the same one
+        resultSet.next();
+    }
+
+    @Benchmark
+    public User mapRow() throws SQLException {
+        return rowMapper.mapRow(resultSet, 0);
+    }
+}
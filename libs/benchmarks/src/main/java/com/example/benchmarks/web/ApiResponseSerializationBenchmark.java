@@ -0,0 +1,80 @@
+package com.example.benchmarks.web;
+
+import com.example.core.web.config.JacksonConfig;
+import com.example.core.web.controller.BaseController.PagedResponse;
+import com.example.core.web.response.ApiResponse;
+import com.example.core.web.response.TotalCountStrategy;
+import com.example.userapi.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of writing the response envelopes the controllers return, through the {@link JacksonConfig}
+ * {@code ObjectMapper}: a single user in an {@link ApiResponse}, and a page of {@code pageSize} users in an
+ * {@code ApiResponse<PagedResponse<User>>}.
+ *
+ * <pre>
+ * java -jar libs/benchmarks/target/benchmarks.jar ApiResponseSerializationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<User> userResponse;
+    private ApiResponse<PagedResponse<User>> pageResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+
+        List<User> users = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            users.add(user(id));
+        }
+        userResponse = ApiResponse.success(users.get(0));
+        pageResponse = ApiResponse.success(new PagedResponse<>(
+                users, 0, pageSize, 10_000L, 10_000 / pageSize, true, false, TotalCountStrategy.CACHED));
+    }
+
+    private static User user(long id) {
+        User user = new User("User " + id, "user" + id + "@example.com");
+        user.setId(id);
+        user.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(id));
+        user.setUpdatedAt(user.getCreatedAt());
+        return user;
+    }
+
+    @Benchmark
+    public byte[] serializeUser() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(userResponse);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pageResponse);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * {@link EntityCache} bounded by entry count and time since write. Concurrent misses for the same key share a
+ * single load, and statistics are recorded so the native cache can be bound to a meter registry.
+ */
+public class CaffeineEntityCache<K, V> implements EntityCache<K, V> {
+
+    private final Cache<K, V> cache;
+
+    public CaffeineEntityCache(long maximumSize, Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<V> get(K key, Function<? super K, Optional<V>> loader) {
+        return Optional.ofNullable(cache.get(key, k -> loader.apply(k).orElse(null)));
+    }
+
+    @Override
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+
+    @Override
+    public void invalidate(K key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public Cache<K, V> getNativeCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.core.database.cache;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * In-process read-through cache in front of a repository lookup. Only values that were found are cached, so a
+ * miss for an absent key always reaches the loader.
+ */
+public interface EntityCache<K, V> {
+
+    Optional<V> get(K key, Function<? super K, Optional<V>> loader);
+
+    void put(K key, V value);
+
+    void invalidate(K key);
+
+    void invalidateAll();
+}
@@ -0,0 +1,24 @@
+package com.example.core.database.cache;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * {@link EntityCache} that always delegates to the loader, used when caching is disabled.
+ */
+public class NoOpEntityCache<K, V> implements EntityCache<K, V> {
+
+    @Override
+    public Optional<V> get(K key, Function<? super K, Optional<V>> loader) {
+        return loader.apply(key);
+    }
+
+    @Override
+    public void put(K key, V value) {}
+
+    @Override
+    public void invalidate(K key) {}
+
+    @Override
+    public void invalidateAll() {}
+}
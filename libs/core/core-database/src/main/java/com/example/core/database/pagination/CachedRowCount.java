@@ -0,0 +1,61 @@
+package com.example.core.database.pagination;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Holds an exact row count for a fixed time-to-live so paginated endpoints do not run {@code COUNT(*)} on
+ * every request. When the value expires only one caller reloads it; concurrent callers keep receiving the
+ * stale value until the reload completes.
+ */
+public class CachedRowCount {
+
+    private final long ttlNanos;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public CachedRowCount(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public long get(LongSupplier loader) {
+        Snapshot current = snapshot;
+        long now = System.nanoTime();
+        if (current != null && current.expiresAt - now > 0) {
+            return current.count;
+        }
+        if (current != null && !reloadLock.tryLock()) {
+            return current.count;
+        }
+        if (current == null) {
+            reloadLock.lock();
+        }
+        try {
+            Snapshot latest = snapshot;
+            if (latest != null && latest.expiresAt - System.nanoTime() > 0) {
+                return latest.count;
+            }
+            long count = loader.getAsLong();
+            snapshot = new Snapshot(count, System.nanoTime() + ttlNanos);
+            return count;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    private static final class Snapshot {
+        private final long count;
+        private final long expiresAt;
+
+        private Snapshot(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.core.database.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of the last row of a keyset page ordered by {@code (created_at DESC, id DESC)}.
+ *
+ * <p>The cursor is handed to clients as an opaque, URL-safe token. Clients must send it back untouched
+ * to fetch the next page; its format is not part of the API contract.
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final LocalDateTime createdAt;
+    private final long id;
+
+    public KeysetCursor(LocalDateTime createdAt, long id) {
+        this.createdAt = Objects.requireNonNull(createdAt, "createdAt");
+        this.id = id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separator));
+            long id = Long.parseLong(raw.substring(separator + 1));
+            return new KeysetCursor(createdAt, id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KeysetCursor other)) {
+            return false;
+        }
+        return id == other.id && createdAt.equals(other.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, id);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetCursor{" + "createdAt=" + createdAt + ", id=" + id + '}';
+    }
+}
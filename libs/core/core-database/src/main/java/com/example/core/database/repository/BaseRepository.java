@@ -1,25 +1,52 @@
 package com.example.core.database.repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 
 public abstract class BaseRepository<T, ID> {
 
+    protected static final int DEFAULT_BATCH_SIZE = 1000;
+    protected static final int DEFAULT_STREAM_FETCH_SIZE = 500;
+
+    private static final String ESTIMATE_ROW_COUNT =
+            "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
     protected final JdbcTemplate jdbcTemplate;
     protected final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    protected final CopyBulkLoader copyBulkLoader;
 
     protected BaseRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
         this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.copyBulkLoader = new CopyBulkLoader(jdbcTemplate.getDataSource());
     }
 
     public abstract T save(T entity);
 
+    /**
+     * Saves every entity and returns them in the same order. The default implementation calls {@link #save}
+     * once per entity; repositories that expect large imports should override it with a JDBC batch.
+     */
+    public List<T> saveAll(List<T> entities) {
+        List<T> saved = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
     public abstract Optional<T> findById(ID id);
 
     public abstract List<T> findAll();
@@ -33,4 +60,67 @@ public abstract class BaseRepository<T, ID> {
         namedParameterJdbcTemplate.update(sql, params, keyHolder, new String[] {"id"});
         return keyHolder.getKey().longValue();
     }
+
+    /**
+     * Inserts all rows using JDBC batching, {@link #DEFAULT_BATCH_SIZE} rows per round trip, and returns the
+     * generated ids in input order. With the PostgreSQL driver's {@code reWriteBatchedInserts} enabled, each
+     * batch is further collapsed into multi-row {@code INSERT ... VALUES} statements.
+     */
+    protected List<Long> executeBatchInsertAndReturnKeys(String sql, List<? extends SqlParameterSource> batch) {
+        List<Long> keys = new ArrayList<>(batch.size());
+        for (int from = 0; from < batch.size(); from += DEFAULT_BATCH_SIZE) {
+            List<? extends SqlParameterSource> chunk =
+                    batch.subList(from, Math.min(from + DEFAULT_BATCH_SIZE, batch.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            namedParameterJdbcTemplate.batchUpdate(
+                    sql, chunk.toArray(new SqlParameterSource[0]), keyHolder, new String[] {"id"});
+            for (Map<String, Object> row : keyHolder.getKeyList()) {
+                keys.add(((Number) row.get("id")).longValue());
+            }
+        }
+        return keys;
+    }
+
+    protected void executeBatchUpdate(String sql, List<? extends SqlParameterSource> batch) {
+        for (int from = 0; from < batch.size(); from += DEFAULT_BATCH_SIZE) {
+            List<? extends SqlParameterSource> chunk =
+                    batch.subList(from, Math.min(from + DEFAULT_BATCH_SIZE, batch.size()));
+            namedParameterJdbcTemplate.batchUpdate(sql, chunk.toArray(new SqlParameterSource[0]));
+        }
+    }
+
+    /**
+     * Runs {@code sql} and hands each mapped row to {@code consumer} as it is read, without collecting a list.
+     * The statement uses a fetch size so the PostgreSQL driver reads through a server-side cursor,
+     * {@link #DEFAULT_STREAM_FETCH_SIZE} rows at a time, instead of buffering the whole result. The driver only
+     * does this when auto-commit is off, so callers must run inside a transaction.
+     */
+    protected void streamQuery(String sql, RowMapper<T> rowMapper, Consumer<? super T> consumer, Object... args) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps =
+                            connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(DEFAULT_STREAM_FETCH_SIZE);
+                    for (int i = 0; i < args.length; i++) {
+                        ps.setObject(i + 1, args[i]);
+                    }
+                    return ps;
+                },
+                rs -> {
+                    consumer.accept(rowMapper.mapRow(rs, rs.getRow()));
+                });
+    }
+
+    /**
+     * Returns PostgreSQL's planner estimate for the number of rows in {@code tableName}, as maintained by
+     * {@code ANALYZE} and autovacuum. This is a catalog lookup rather than a table scan, so it is cheap enough
+     * for every request. Returns {@code -1} if the table has never been analyzed.
+     */
+    protected long estimateRowCount(String tableName) {
+        List<Long> estimate = jdbcTemplate.queryForList(ESTIMATE_ROW_COUNT, Long.class, tableName);
+        if (estimate.isEmpty() || estimate.get(0) == null) {
+            return -1L;
+        }
+        return estimate.get(0);
+    }
 }
@@ -0,0 +1,219 @@
+package com.example.core.database.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Streams rows into PostgreSQL with {@code COPY ... FROM STDIN (FORMAT csv)}.
+ *
+ * <p>Rows are pulled from an {@link Iterator} and encoded into a fixed-size buffer that is flushed to the
+ * server as it fills, so memory use does not depend on the number of rows. The loader uses the connection
+ * bound to the current Spring transaction, if any, so a load can be committed or rolled back together with
+ * other work.
+ */
+public class CopyBulkLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CopyBulkLoader.class);
+
+    private static final int FLUSH_THRESHOLD_CHARS = 64 * 1024;
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final DataSource dataSource;
+    private final SQLExceptionTranslator exceptionTranslator;
+
+    public CopyBulkLoader(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.exceptionTranslator = new SQLErrorCodeSQLExceptionTranslator(dataSource);
+    }
+
+    /**
+     * Copies rows straight into {@code table}. Any constraint violation aborts the whole copy.
+     *
+     * @param rowMapper maps a row to its column values, in {@code columns} order
+     * @return the number of rows copied
+     */
+    public <R> long copyIn(String table, List<String> columns, Iterator<R> rows, Function<R, Object[]> rowMapper) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return copy(connection, table, columns, rows, rowMapper);
+        } catch (SQLException e) {
+            throw translate("COPY into " + table, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Copies rows into a temporary staging table shaped like {@code table}, then merges them with a single
+     * {@code INSERT ... SELECT ... ON CONFLICT}. Rows whose {@code conflictColumns} match an existing row update
+     * {@code updateColumns}, or are skipped when {@code updateColumns} is empty. When the input repeats a
+     * conflict key, the last occurrence wins.
+     *
+     * <p>Must run inside a transaction: the staging table is dropped on commit.
+     *
+     * @return the number of rows inserted or updated in {@code table}
+     */
+    public <R> long stageAndMerge(
+            String table,
+            List<String> columns,
+            List<String> conflictColumns,
+            List<String> updateColumns,
+            Iterator<R> rows,
+            Function<R, Object[]> rowMapper) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("stageAndMerge requires an active transaction");
+        }
+        String stagingTable = identifier(table) + "_staging";
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + stagingTable);
+            statement.execute(
+                    "CREATE TEMP TABLE " + stagingTable + " (LIKE " + table + " INCLUDING DEFAULTS) ON COMMIT DROP");
+
+            long staged = copy(connection, stagingTable, columns, rows, rowMapper);
+            long merged =
+                    statement.executeUpdate(mergeSql(table, stagingTable, columns, conflictColumns, updateColumns));
+            statement.execute("DROP TABLE " + stagingTable);
+
+            logger.debug("Staged {} rows and merged {} rows into {}", staged, merged, table);
+            return merged;
+        } catch (SQLException e) {
+            throw translate("COPY merge into " + table, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private <R> long copy(
+            Connection connection,
+            String table,
+            List<String> columns,
+            Iterator<R> rows,
+            Function<R, Object[]> rowMapper)
+            throws SQLException {
+        String sql = "COPY " + identifier(table) + " (" + columnList(columns) + ") FROM STDIN WITH (FORMAT csv)";
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD_CHARS + 1024);
+        try {
+            while (rows.hasNext()) {
+                appendRow(buffer, rowMapper.apply(rows.next()));
+                if (buffer.length() >= FLUSH_THRESHOLD_CHARS) {
+                    flush(copyIn, buffer);
+                }
+            }
+            flush(copyIn, buffer);
+            return copyIn.endCopy();
+        } catch (SQLException | RuntimeException e) {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+            throw e;
+        }
+    }
+
+    private DataAccessException translate(String task, SQLException e) {
+        DataAccessException translated = exceptionTranslator.translate(task, null, e);
+        return translated != null ? translated : new UncategorizedSQLException(task, null, e);
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static void appendRow(StringBuilder buffer, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            Object value = values[i];
+            if (value == null) {
+                // An unquoted empty field is NULL in CSV format
+                continue;
+            }
+            String text = value.toString();
+            buffer.append('"');
+            for (int c = 0; c < text.length(); c++) {
+                char ch = text.charAt(c);
+                if (ch == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(ch);
+            }
+            buffer.append('"');
+        }
+        buffer.append('\n');
+    }
+
+    private static String mergeSql(
+            String table,
+            String stagingTable,
+            List<String> columns,
+            List<String> conflictColumns,
+            List<String> updateColumns) {
+        String columnList = columnList(columns);
+        String conflictList = columnList(conflictColumns);
+        StringBuilder sql = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(identifier(table))
+                .append(" (")
+                .append(columnList)
+                .append(") SELECT DISTINCT ON (")
+                .append(conflictList)
+                .append(") ")
+                .append(columnList)
+                .append(" FROM ")
+                .append(stagingTable)
+                .append(" ORDER BY ")
+                .append(conflictList)
+                .append(", ctid DESC ON CONFLICT (")
+                .append(conflictList)
+                .append(") ");
+        if (updateColumns.isEmpty()) {
+            sql.append("DO NOTHING");
+        } else {
+            sql.append("DO UPDATE SET ");
+            for (int i = 0; i < updateColumns.size(); i++) {
+                String column = identifier(updateColumns.get(i));
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(column).append(" = EXCLUDED.").append(column);
+            }
+        }
+        return sql.toString();
+    }
+
+    private static String columnList(List<String> columns) {
+        return String.join(
+                ", ", columns.stream().map(CopyBulkLoader::identifier).toList());
+    }
+
+    private static String identifier(String name) {
+        if (!IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid SQL identifier: " + name);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.core.database.repository;
+
+import io.r2dbc.spi.Parameters;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Statement;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC counterpart of {@link BaseRepository} for the reactive stack. Statements go through
+ * {@link DatabaseClient}, so they join the subscriber's reactive transaction, and rows are emitted as the
+ * driver decodes them rather than collected into lists.
+ */
+public abstract class ReactiveBaseRepository<T, ID> {
+
+    protected static final int DEFAULT_BATCH_SIZE = 1000;
+    protected static final int DEFAULT_STREAM_FETCH_SIZE = 500;
+
+    private static final String ESTIMATE_ROW_COUNT =
+            "SELECT reltuples::bigint AS estimate FROM pg_class WHERE oid = to_regclass($1)";
+
+    protected final DatabaseClient databaseClient;
+
+    protected ReactiveBaseRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public abstract Mono<T> save(T entity);
+
+    /**
+     * Saves every entity and emits them in the same order. The default implementation calls {@link #save}
+     * once per entity; repositories that expect large imports should override it with a batch.
+     */
+    public Flux<T> saveAll(List<T> entities) {
+        return Flux.fromIterable(entities).concatMap(this::save);
+    }
+
+    public abstract Mono<T> findById(ID id);
+
+    public abstract Flux<T> findAll();
+
+    public abstract Mono<Void> deleteById(ID id);
+
+    public abstract Mono<Boolean> existsById(ID id);
+
+    protected Mono<Long> executeInsertAndReturnKey(GenericExecuteSpec insert) {
+        return insert.filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one();
+    }
+
+    /**
+     * Inserts all rows as batched statements, {@link #DEFAULT_BATCH_SIZE} rows per round trip, and emits the
+     * generated ids in input order. {@code sql} uses positional {@code $n} markers, which {@code binder} fills
+     * for one row at a time.
+     */
+    protected <E> Flux<Long> executeBatchInsertAndReturnKeys(
+            String sql, List<E> rows, BiConsumer<Statement, E> binder) {
+        return Flux.fromIterable(rows)
+                .buffer(DEFAULT_BATCH_SIZE)
+                .concatMap(chunk -> databaseClient.inConnectionMany(connection -> {
+                    Statement statement = connection.createStatement(sql).returnGeneratedValues("id");
+                    bindBatch(statement, chunk, binder);
+                    return Flux.from(statement.execute())
+                            .concatMap(result -> result.map(row -> row.get("id", Long.class)));
+                }));
+    }
+
+    protected <E> Mono<Void> executeBatchUpdate(String sql, List<E> rows, BiConsumer<Statement, E> binder) {
+        return Flux.fromIterable(rows)
+                .buffer(DEFAULT_BATCH_SIZE)
+                .concatMap(chunk -> databaseClient.inConnectionMany(connection -> {
+                    Statement statement = connection.createStatement(sql);
+                    bindBatch(statement, chunk, binder);
+                    return Flux.from(statement.execute()).concatMap(result -> result.getRowsUpdated());
+                }))
+                .then();
+    }
+
+    /**
+     * Runs {@code sql} and emits each mapped row as it is read. The statement uses a fetch size, so the
+     * PostgreSQL driver reads through a portal {@link #DEFAULT_STREAM_FETCH_SIZE} rows at a time and only
+     * fetches the next batch once downstream has requested it: a slow subscriber pauses the query instead of
+     * buffering the result. Portals only outlive a single round trip inside a transaction, so callers must
+     * subscribe within one.
+     */
+    protected Flux<T> streamQuery(String sql, Function<? super Readable, T> rowMapper, Object... args) {
+        GenericExecuteSpec spec =
+                databaseClient.sql(sql).filter(statement -> statement.fetchSize(DEFAULT_STREAM_FETCH_SIZE));
+        for (int i = 0; i < args.length; i++) {
+            spec = spec.bind(i, args[i]);
+        }
+        return spec.map(rowMapper).all();
+    }
+
+    /**
+     * Returns PostgreSQL's planner estimate for the number of rows in {@code tableName}; see
+     * {@link BaseRepository#estimateRowCount}. Emits {@code -1} if the table has never been analyzed.
+     */
+    protected Mono<Long> estimateRowCount(String tableName) {
+        return databaseClient
+                .sql(ESTIMATE_ROW_COUNT)
+                .bind(0, tableName)
+                .map(row -> {
+                    Long estimate = row.get("estimate", Long.class);
+                    return estimate != null ? estimate : -1L;
+                })
+                .first()
+                .defaultIfEmpty(-1L);
+    }
+
+    /** Wraps a possibly null bind value, since R2DBC needs the type of a null to bind it. */
+    protected static Object nullable(Object value, Class<?> type) {
+        return value != null ? value : Parameters.in(type);
+    }
+
+    private static <E> void bindBatch(Statement statement, List<E> rows, BiConsumer<Statement, E> binder) {
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) {
+                statement.add();
+            }
+            binder.accept(statement, rows.get(i));
+        }
+    }
+}
@@ -34,6 +34,14 @@ public abstract class AggregateRoot {
         });
     }
 
+    /**
+     * Sets the version of an aggregate whose state was restored from a snapshot taken at {@code version}, so
+     * only the events after it need to be replayed with {@link #loadFromHistory}.
+     */
+    public void restoreVersion(Long version) {
+        this.version = version;
+    }
+
     public void markChangesAsCommitted() {
         changes.clear();
     }
@@ -0,0 +1,15 @@
+package com.example.core.events;
+
+/**
+ * Thrown when events are saved against a stale {@code expectedVersion}: another writer appended to the
+ * aggregate since it was loaded. Callers should reload the aggregate and retry the command.
+ */
+public class ConcurrencyConflictException extends RuntimeException {
+
+    public ConcurrencyConflictException(String aggregateId, Long expectedVersion) {
+        super(
+                expectedVersion == null
+                        ? "Aggregate " + aggregateId + " was appended to concurrently"
+                        : "Aggregate " + aggregateId + " is no longer at version " + expectedVersion);
+    }
+}
@@ -25,12 +25,19 @@ public abstract class DomainEvent {
     private final Instant occurredAt;
 
     protected DomainEvent(String aggregateId, String aggregateType, Long version) {
-        this.eventId = UUID.randomUUID().toString();
+        this(UUID.randomUUID().toString(), aggregateId, aggregateType, version, Instant.now());
+    }
+
+    /**
+     * Restores the identity of an event that is being loaded from the event store.
+     */
+    protected DomainEvent(String eventId, String aggregateId, String aggregateType, Long version, Instant occurredAt) {
+        this.eventId = eventId;
         this.aggregateId = aggregateId;
         this.aggregateType = aggregateType;
         this.eventType = this.getClass().getSimpleName();
         this.version = version;
-        this.occurredAt = Instant.now();
+        this.occurredAt = occurredAt;
     }
 
     // Getters
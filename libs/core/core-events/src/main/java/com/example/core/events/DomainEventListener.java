@@ -0,0 +1,14 @@
+package com.example.core.events;
+
+import java.util.List;
+
+/**
+ * Receives the domain events published through {@link EventPublisher}, a batch at a time. Each aggregate's
+ * events arrive in the order they were published, within a batch and across batches. With asynchronous
+ * dispatch, batches run on the dispatch workers, and batches holding different aggregates may be handled
+ * concurrently.
+ */
+public interface DomainEventListener {
+
+    void onEvents(List<DomainEvent> events);
+}
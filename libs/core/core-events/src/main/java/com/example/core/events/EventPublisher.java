@@ -1,28 +1,138 @@
 package com.example.core.events;
 
+import com.example.core.events.dispatch.AsyncEventDispatcher;
+import com.example.core.events.dispatch.BackpressurePolicy;
+import com.example.core.events.dispatch.EventDispatchMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+/**
+ * Delivers domain events to the application's {@link DomainEventListener}s, as one batch per call, and to its
+ * Spring event listeners, one event at a time.
+ *
+ * <p>By default listeners run on the publisher's thread, so their cost adds to the caller's latency and their
+ * exceptions reach the caller. With {@code events.publisher.async.enabled} they run on an
+ * {@link AsyncEventDispatcher} instead; its workers, per-worker queue capacity, batch size and
+ * {@link BackpressurePolicy} are set under {@code events.publisher.async}. Failing listeners are then logged
+ * and the other listeners still get the batch.
+ */
 @Component
-public class EventPublisher {
+public class EventPublisher implements DisposableBean {
 
     private static final Logger logger = LoggerFactory.getLogger(EventPublisher.class);
 
+    private static final String APPLICATION_LISTENERS = "application-event-listeners";
+
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectProvider<DomainEventListener> listenerProvider;
+    private final EventDispatchMetrics metrics;
+    private final AsyncEventDispatcher dispatcher;
+
+    private final Timer applicationListenersTimer;
 
-    public EventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+    // Resolved on first use, so that listeners may themselves depend on the publisher
+    private volatile List<TimedListener> listeners;
+
+    public EventPublisher(
+            ApplicationEventPublisher applicationEventPublisher,
+            ObjectProvider<DomainEventListener> listeners,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${events.publisher.async.enabled:false}") boolean async,
+            @Value("${events.publisher.async.workers:2}") int workers,
+            @Value("${events.publisher.async.queue-capacity:1024}") int queueCapacity,
+            @Value("${events.publisher.async.batch-size:64}") int batchSize,
+            @Value("${events.publisher.async.backpressure:block}") BackpressurePolicy backpressure) {
         this.applicationEventPublisher = applicationEventPublisher;
+        this.listenerProvider = listeners;
+        this.metrics = new EventDispatchMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+        this.applicationListenersTimer = this.metrics.listenerTimer(APPLICATION_LISTENERS);
+        this.dispatcher = async
+                ? new AsyncEventDispatcher(workers, queueCapacity, batchSize, backpressure, this::deliver, this.metrics)
+                : null;
     }
 
     public void publishEvent(DomainEvent event) {
-        logger.info("Publishing domain event: {} for aggregate: {}", event.getEventType(), event.getAggregateId());
-        applicationEventPublisher.publishEvent(event);
+        publishEvents(List.of(event));
     }
 
     public void publishEvents(List<DomainEvent> events) {
-        events.forEach(this::publishEvent);
+        if (events.isEmpty()) {
+            return;
+        }
+        if (dispatcher != null) {
+            dispatcher.dispatch(events);
+        } else {
+            deliver(events);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    private void deliver(List<DomainEvent> events) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "Publishing {} domain events, first {} for aggregate {}",
+                    events.size(),
+                    events.get(0).getEventType(),
+                    events.get(0).getAggregateId());
+        }
+        invoke(
+                APPLICATION_LISTENERS,
+                applicationListenersTimer,
+                () -> events.forEach(applicationEventPublisher::publishEvent));
+        for (TimedListener listener : listeners()) {
+            invoke(listener.name, listener.timer, () -> listener.listener.onEvents(events));
+        }
+    }
+
+    private void invoke(String listenerName, Timer timer, Runnable delivery) {
+        try {
+            timer.record(delivery);
+        } catch (RuntimeException e) {
+            if (dispatcher == null) {
+                throw e;
+            }
+            logger.error("Domain event listener {} failed", listenerName, e);
+        }
+    }
+
+    private List<TimedListener> listeners() {
+        List<TimedListener> resolved = listeners;
+        if (resolved == null) {
+            resolved = listenerProvider
+                    .orderedStream()
+                    .map(listener -> new TimedListener(listener, metrics))
+                    .toList();
+            listeners = resolved;
+        }
+        return resolved;
+    }
+
+    private static final class TimedListener {
+
+        private final DomainEventListener listener;
+        private final String name;
+        private final Timer timer;
+
+        private TimedListener(DomainEventListener listener, EventDispatchMetrics metrics) {
+            this.listener = listener;
+            this.name = AopUtils.getTargetClass(listener).getSimpleName();
+            this.timer = metrics.listenerTimer(name);
+        }
     }
 }
@@ -0,0 +1,155 @@
+package com.example.core.events;
+
+import com.example.core.events.snapshot.Snapshot;
+import com.example.core.events.snapshot.SnapshotPolicy;
+import com.example.core.events.snapshot.SnapshotSerializer;
+import com.example.core.events.snapshot.SnapshotStore;
+import com.example.core.events.snapshot.Snapshottable;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Loads and saves aggregates of one type through the {@link EventStore}. For {@link Snapshottable} aggregates,
+ * loading starts from the latest snapshot and replays only the events after it, so load time is bounded by the
+ * snapshot interval instead of growing with the aggregate's history; saving takes a new snapshot whenever the
+ * {@link SnapshotPolicy} asks for one.
+ *
+ * <p>A snapshot is written in its own transaction once the caller's transaction has committed the events it
+ * covers. A snapshot can then neither outlive events that were rolled back nor, by failing, abort the
+ * transaction that appends them (PostgreSQL turns the commit of a transaction with a failed statement into a
+ * rollback).
+ */
+public class EventSourcedRepository<A extends AggregateRoot> {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventSourcedRepository.class);
+
+    private final Supplier<A> factory;
+    private final String aggregateType;
+    private final EventStore eventStore;
+    private final SnapshotStore snapshotStore;
+    private final SnapshotSerializer snapshotSerializer;
+    private final SnapshotPolicy snapshotPolicy;
+    private final TransactionTemplate snapshotTransactions;
+
+    public EventSourcedRepository(Supplier<A> factory, EventStore eventStore) {
+        this(factory, eventStore, null, null, new SnapshotPolicy(0), null);
+    }
+
+    /**
+     * @param factory creates an empty aggregate for history or a snapshot to be loaded into
+     * @param transactionManager the manager of the snapshot store's data source, used to write each snapshot in
+     *     a new transaction
+     */
+    public EventSourcedRepository(
+            Supplier<A> factory,
+            EventStore eventStore,
+            SnapshotStore snapshotStore,
+            SnapshotSerializer snapshotSerializer,
+            SnapshotPolicy snapshotPolicy,
+            PlatformTransactionManager transactionManager) {
+        this.factory = factory;
+        this.aggregateType = factory.get().getClass().getSimpleName();
+        this.eventStore = eventStore;
+        this.snapshotStore = snapshotStore;
+        this.snapshotSerializer = snapshotSerializer;
+        this.snapshotPolicy = snapshotPolicy;
+        if (transactionManager != null) {
+            this.snapshotTransactions = new TransactionTemplate(transactionManager);
+            snapshotTransactions.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        } else {
+            this.snapshotTransactions = null;
+        }
+    }
+
+    public Optional<A> load(String aggregateId) {
+        A aggregate = factory.get();
+        long snapshotVersion = restoreSnapshot(aggregateId, aggregate);
+        List<DomainEvent> events = eventStore.getEvents(aggregateId, snapshotVersion + 1);
+        if (snapshotVersion == 0 && events.isEmpty()) {
+            return Optional.empty();
+        }
+        aggregate.loadFromHistory(events);
+        return Optional.of(aggregate);
+    }
+
+    /**
+     * Appends the aggregate's uncommitted changes, which must follow on from the version it was loaded at.
+     *
+     * @throws ConcurrencyConflictException if another writer has appended to the aggregate since
+     */
+    public void save(A aggregate) {
+        List<DomainEvent> changes = aggregate.getUncommittedChanges();
+        if (changes.isEmpty()) {
+            return;
+        }
+        long expectedVersion = changes.get(0).getVersion() - 1;
+        long newVersion = changes.get(changes.size() - 1).getVersion();
+        eventStore.saveEvents(aggregate.getId(), changes, expectedVersion);
+        aggregate.markChangesAsCommitted();
+
+        if (aggregate instanceof Snapshottable<?> snapshottable
+                && snapshotPolicy.shouldSnapshot(expectedVersion, newVersion)) {
+            Snapshot snapshot;
+            try {
+                // Taken now, while the aggregate is still at the version just appended
+                snapshot = snapshotSerializer.serialize(aggregate.getId(), aggregateType, newVersion, snapshottable);
+            } catch (RuntimeException e) {
+                logger.warn("Could not snapshot aggregate {} at version {}", aggregate.getId(), newVersion, e);
+                return;
+            }
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        saveSnapshot(snapshot);
+                    }
+                });
+            } else {
+                saveSnapshot(snapshot);
+            }
+        }
+    }
+
+    private void saveSnapshot(Snapshot snapshot) {
+        try {
+            // The caller's connection may still be bound after its commit, so write on a transaction of our own
+            snapshotTransactions.executeWithoutResult(status -> snapshotStore.save(snapshot));
+        } catch (RuntimeException e) {
+            // Snapshots are only a shortcut: the events are already committed, and failing here would make the
+            // caller retry a save that went through. The next snapshot interval writes a fresh one.
+            logger.warn(
+                    "Could not snapshot aggregate {} at version {}",
+                    snapshot.getAggregateId(),
+                    snapshot.getAggregateVersion(),
+                    e);
+        }
+    }
+
+    private long restoreSnapshot(String aggregateId, A aggregate) {
+        if (!(aggregate instanceof Snapshottable<?> snapshottable) || snapshotStore == null) {
+            return 0;
+        }
+        return snapshotStore
+                .findLatest(aggregateId)
+                .map(snapshot -> restore(snapshottable, snapshot, aggregate))
+                .orElse(0L);
+    }
+
+    private <S> long restore(Snapshottable<S> snapshottable, Snapshot snapshot, A aggregate) {
+        Optional<S> state = snapshotSerializer.deserialize(snapshot, snapshottable);
+        if (state.isEmpty()) {
+            return 0;
+        }
+        snapshottable.restoreSnapshot(state.get());
+        aggregate.restoreVersion(snapshot.getAggregateVersion());
+        return snapshot.getAggregateVersion();
+    }
+}
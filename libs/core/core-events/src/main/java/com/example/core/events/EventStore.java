@@ -1,6 +1,8 @@
 package com.example.core.events;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EventStore {
 
@@ -10,7 +12,76 @@ public interface EventStore {
 
     List<DomainEvent> getEvents(String aggregateId, Long fromVersion);
 
+    /**
+     * @deprecated loads the whole log onto the heap; use {@link #streamEvents} or {@link #forEachBatch}
+     */
+    @Deprecated
     List<DomainEvent> getAllEvents();
 
+    /**
+     * @deprecated loads every event of the type onto the heap; use {@link #streamEventsByType} or
+     *     {@link #readEventsByType}
+     */
+    @Deprecated
     List<DomainEvent> getEventsByType(String eventType);
+
+    /**
+     * Returns up to {@code maxCount} events after {@code afterPosition}, in log order. Start from position 0 and
+     * pass the last position returned to read the next page.
+     */
+    List<StoredEvent> readEvents(long afterPosition, int maxCount);
+
+    List<StoredEvent> readEventsByType(String eventType, long afterPosition, int maxCount);
+
+    /**
+     * Returns up to {@code maxCount} events of any of {@code eventTypes} positioned after {@code afterPosition}
+     * and at or before {@code toPosition}, in log order.
+     */
+    List<StoredEvent> readEvents(Collection<String> eventTypes, long afterPosition, long toPosition, int maxCount);
+
+    /**
+     * Returns a position up to which the log is complete: every event at or before it has been committed, so no
+     * event can still appear there. Readers that follow the head of the log read up to this position rather
+     * than up to the last event they can see. It lags the newest events by at least the time it takes the
+     * appends in flight to commit.
+     */
+    long getStablePosition();
+
+    /**
+     * Returns the position of the newest event appended, whether or not it has been committed yet. The distance
+     * from the {@linkplain #getStablePosition() stable position} is what readers following the log cannot see
+     * yet.
+     */
+    long getLastPosition();
+
+    /**
+     * Hands every event after {@code afterPosition} to {@code consumer} as it is read, in log order, fetching
+     * {@code fetchSize} rows at a time from a single cursor. Must be called inside a transaction, which stays
+     * open until the last event has been consumed; prefer {@link #forEachBatch} for long-running readers.
+     */
+    void streamEvents(long afterPosition, int fetchSize, Consumer<? super StoredEvent> consumer);
+
+    void streamEventsByType(
+            String eventType, long afterPosition, int fetchSize, Consumer<? super StoredEvent> consumer);
+
+    /**
+     * Reads the log after {@code afterPosition} in pages of {@code batchSize}, handing each page to
+     * {@code batchConsumer} before the next is read, so at most one page is held in memory. Every page is its
+     * own query: no transaction is held between pages, and a reader that stops can resume from the last
+     * position it handled.
+     *
+     * @return the position of the last event read, or {@code afterPosition} if there was none
+     */
+    default long forEachBatch(long afterPosition, int batchSize, Consumer<List<StoredEvent>> batchConsumer) {
+        long position = afterPosition;
+        List<StoredEvent> batch;
+        do {
+            batch = readEvents(position, batchSize);
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(batch);
+                position = batch.get(batch.size() - 1).getPosition();
+            }
+        } while (batch.size() == batchSize);
+        return position;
+    }
 }
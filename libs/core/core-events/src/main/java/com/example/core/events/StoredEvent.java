@@ -0,0 +1,28 @@
+package com.example.core.events;
+
+/**
+ * An event together with its position in the store's global log. Positions increase in the order events were
+ * appended, so a reader can checkpoint the last position it handled and resume after it.
+ *
+ * <p>A position is assigned when the event is inserted, not when its transaction commits. An append that
+ * commits after a later one can therefore appear behind a reader that is following the head of the log, unless
+ * the reader stops at {@link EventStore#getStablePosition()}.
+ */
+public class StoredEvent {
+
+    private final long position;
+    private final DomainEvent event;
+
+    public StoredEvent(long position, DomainEvent event) {
+        this.position = position;
+        this.event = event;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public DomainEvent getEvent() {
+        return event;
+    }
+}
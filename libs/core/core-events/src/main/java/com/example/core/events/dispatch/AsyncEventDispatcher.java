@@ -0,0 +1,183 @@
+package com.example.core.events.dispatch;
+
+import com.example.core.events.DomainEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hands domain events to their listeners on worker threads instead of the publisher's. Each worker owns a
+ * bounded queue, and an event goes to the queue its aggregate id hashes to, so one aggregate's events are always
+ * delivered by the same worker in the order they were published. A worker takes whatever has queued up, up to
+ * {@code batchSize} events, and delivers it as one batch, so listeners pay their per-call overhead once per
+ * batch when the publisher is ahead. A full queue is handled according to the {@link BackpressurePolicy}.
+ *
+ * <p>Queued events live only in memory: events still queued when the process dies are lost. Closing the
+ * dispatcher delivers what has been queued before the workers stop, including the events of calls to
+ * {@link #dispatch} that were under way as it closed; later calls are refused.
+ *
+ * <p>A listener may publish further events, but a worker never waits for room in a queue: it could be waiting
+ * for itself to drain it. Under {@link BackpressurePolicy#BLOCK}, a dispatch from a worker thread that finds its
+ * queue full is therefore rejected as under {@link BackpressurePolicy#REJECT}.
+ */
+public class AsyncEventDispatcher implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEventDispatcher.class);
+
+    private static final long POLL_MILLIS = 100;
+
+    private final List<BlockingQueue<DomainEvent>> queues;
+    private final List<Thread> workers;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final BackpressurePolicy backpressure;
+    private final Consumer<List<DomainEvent>> delivery;
+    private final EventDispatchMetrics metrics;
+
+    private final AtomicInteger dispatching = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    public AsyncEventDispatcher(
+            int workerCount,
+            int queueCapacity,
+            int batchSize,
+            BackpressurePolicy backpressure,
+            Consumer<List<DomainEvent>> delivery,
+            EventDispatchMetrics metrics) {
+        if (workerCount < 1 || queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Workers, queue capacity and batch size must be positive, got "
+                    + workerCount + ", " + queueCapacity + " and " + batchSize);
+        }
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.backpressure = backpressure;
+        this.delivery = delivery;
+        this.metrics = metrics;
+        this.queues = new ArrayList<>(workerCount);
+        this.workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            BlockingQueue<DomainEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+            metrics.monitorQueue("domain-events-" + i, queue);
+            Thread worker = new Thread(() -> drain(queue), "domain-events-" + i);
+            worker.setDaemon(true);
+            queues.add(queue);
+            workers.add(worker);
+        }
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * Queues the events for delivery and returns without waiting for the listeners.
+     *
+     * @throws EventDispatchRejectedException if a queue is full and the policy is {@link BackpressurePolicy#REJECT},
+     *     or it is {@link BackpressurePolicy#BLOCK} and the caller is a listener running on one of the workers
+     */
+    public void dispatch(List<? extends DomainEvent> events) {
+        // Announced before checking closed, so workers keep draining until every call that got past the check
+        // has queued its events
+        dispatching.incrementAndGet();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Domain event dispatcher is closed");
+            }
+            // Workers may wait on each other's queues as well as their own, so none of them may block
+            BackpressurePolicy policy =
+                    backpressure == BackpressurePolicy.BLOCK && workers.contains(Thread.currentThread())
+                            ? BackpressurePolicy.REJECT
+                            : backpressure;
+            for (DomainEvent event : events) {
+                enqueue(queueFor(event), event, policy);
+            }
+        } finally {
+            dispatching.decrementAndGet();
+        }
+    }
+
+    private BlockingQueue<DomainEvent> queueFor(DomainEvent event) {
+        String aggregateId = event.getAggregateId();
+        int hash = aggregateId != null ? aggregateId.hashCode() : 0;
+        return queues.get(Math.floorMod(hash, queues.size()));
+    }
+
+    private void enqueue(BlockingQueue<DomainEvent> queue, DomainEvent event, BackpressurePolicy policy) {
+        switch (policy) {
+            case BLOCK -> {
+                try {
+                    queue.put(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    metrics.incrementRejected();
+                    throw new EventDispatchRejectedException(queueCapacity);
+                }
+            }
+            case DROP -> {
+                if (!queue.offer(event)) {
+                    // Counted rather than logged at warn, which would flood the log just when the system is overloaded
+                    metrics.incrementRejected();
+                    logger.debug(
+                            "Dropped domain event {} for aggregate {}: dispatch queue is full",
+                            event.getEventType(),
+                            event.getAggregateId());
+                }
+            }
+            case REJECT -> {
+                if (!queue.offer(event)) {
+                    metrics.incrementRejected();
+                    throw new EventDispatchRejectedException(queueCapacity);
+                }
+            }
+        }
+    }
+
+    private void drain(BlockingQueue<DomainEvent> queue) {
+        List<DomainEvent> batch = new ArrayList<>(batchSize);
+        while (!closed || dispatching.get() > 0 || !queue.isEmpty()) {
+            try {
+                DomainEvent first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                delivery.accept(List.copyOf(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Failed to deliver {} domain events", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    /** Stops accepting events and waits up to {@code timeout} for the queued ones to be delivered. */
+    public void close(Duration timeout) {
+        closed = true;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        int undelivered = queues.stream().mapToInt(BlockingQueue::size).sum();
+        if (undelivered > 0) {
+            logger.warn("Closed domain event dispatcher with {} events undelivered", undelivered);
+        }
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(10));
+    }
+}
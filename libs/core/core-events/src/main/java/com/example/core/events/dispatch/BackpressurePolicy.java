@@ -0,0 +1,14 @@
+package com.example.core.events.dispatch;
+
+/** What {@link AsyncEventDispatcher} does with an event whose queue is full. */
+public enum BackpressurePolicy {
+
+    /** Wait for room, slowing the publisher down to the pace of the listeners. */
+    BLOCK,
+
+    /** Discard the event and count it, keeping the publisher's latency flat. */
+    DROP,
+
+    /** Throw {@link EventDispatchRejectedException} to the publisher. */
+    REJECT
+}
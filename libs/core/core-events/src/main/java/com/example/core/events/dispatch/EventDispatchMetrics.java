@@ -0,0 +1,41 @@
+package com.example.core.events.dispatch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+
+/**
+ * Publishes meters for in-process event dispatch: {@code events.dispatch.queue} (events waiting, per queue),
+ * {@code events.dispatch.listener} (time each listener takes to handle a batch, tagged with the listener) and
+ * {@code events.dispatch.rejected} (events turned away because their queue was full).
+ */
+public class EventDispatchMetrics {
+
+    private static final String METER_PREFIX = "events.dispatch";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public EventDispatchMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.rejected = Counter.builder(METER_PREFIX + ".rejected").register(meterRegistry);
+    }
+
+    public void monitorQueue(String queueName, Collection<?> queue) {
+        Gauge.builder(METER_PREFIX + ".queue", queue, Collection::size)
+                .tag("queue", queueName)
+                .register(meterRegistry);
+    }
+
+    public Timer listenerTimer(String listenerName) {
+        return Timer.builder(METER_PREFIX + ".listener")
+                .tag("listener", listenerName)
+                .register(meterRegistry);
+    }
+
+    public void incrementRejected() {
+        rejected.increment();
+    }
+}
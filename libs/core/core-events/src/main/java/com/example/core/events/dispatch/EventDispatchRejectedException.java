@@ -0,0 +1,13 @@
+package com.example.core.events.dispatch;
+
+/**
+ * Thrown to the publisher when an event's dispatch queue is full and the policy is
+ * {@link BackpressurePolicy#REJECT}, or when a listener publishes to a full queue from a dispatcher worker. Events
+ * of the same call queued before the full one are still delivered.
+ */
+public class EventDispatchRejectedException extends RuntimeException {
+
+    public EventDispatchRejectedException(int queueCapacity) {
+        super("Domain event dispatch queue is full (capacity " + queueCapacity + ")");
+    }
+}
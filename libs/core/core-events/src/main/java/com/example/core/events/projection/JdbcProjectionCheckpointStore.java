@@ -0,0 +1,37 @@
+package com.example.core.events.projection;
+
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** PostgreSQL {@link ProjectionCheckpointStore} keeping one row per projection in {@code projection_checkpoints}. */
+public class JdbcProjectionCheckpointStore implements ProjectionCheckpointStore {
+
+    private static final String SELECT_POSITION =
+            "SELECT position FROM projection_checkpoints WHERE projection_name = ?";
+
+    private static final String UPSERT_POSITION =
+            """
+            INSERT INTO projection_checkpoints (projection_name, position)
+            VALUES (?, ?)
+            ON CONFLICT (projection_name) DO UPDATE
+            SET position = EXCLUDED.position,
+                updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcProjectionCheckpointStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long getPosition(String projectionName) {
+        List<Long> positions = jdbcTemplate.queryForList(SELECT_POSITION, Long.class, projectionName);
+        return positions.isEmpty() ? 0 : positions.get(0);
+    }
+
+    @Override
+    public void savePosition(String projectionName, long position) {
+        jdbcTemplate.update(UPSERT_POSITION, projectionName, position);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.core.events.projection;
+
+import com.example.core.events.DomainEvent;
+import com.example.core.events.StoredEvent;
+import java.util.Set;
+
+/**
+ * Builds a read model from the event log. The {@link ProjectionEngine} hands it the events of the types it
+ * declares, in log order for each aggregate, and checkpoints its position under its name.
+ *
+ * <p>Delivery is at-least-once: after a failure or a restart, events handled since the last checkpoint are
+ * handed over again, so handling must be idempotent, for example by keeping the position of the last event
+ * applied to each row. Events of different aggregates may be handled concurrently.
+ */
+public interface Projection {
+
+    /** Identifies the projection's checkpoint; changing it rebuilds the projection from the start of the log. */
+    String getName();
+
+    Set<Class<? extends DomainEvent>> getEventTypes();
+
+    void handle(StoredEvent event);
+
+    /** Discards the read model before a rebuild replays the log into it from the start. */
+    default void reset() {}
+}
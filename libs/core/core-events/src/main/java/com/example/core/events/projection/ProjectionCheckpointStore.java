@@ -0,0 +1,10 @@
+package com.example.core.events.projection;
+
+/** Keeps the position of the last event each projection has handled. */
+public interface ProjectionCheckpointStore {
+
+    /** Returns the projection's checkpoint, or 0 if it has not handled any event yet. */
+    long getPosition(String projectionName);
+
+    void savePosition(String projectionName, long position);
+}
@@ -0,0 +1,57 @@
+package com.example.core.events.projection;
+
+import com.example.core.events.EventStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs every {@link Projection} bean in a {@link ProjectionEngine} once the context has started. Checkpoints
+ * are kept in the {@code projection_checkpoints} table, which comes from the application's migrations.
+ */
+@Configuration
+@ConditionalOnProperty(name = "events.store.enabled", havingValue = "true")
+public class ProjectionConfig {
+
+    @Value("${events.projections.parallelism:0}")
+    private int parallelism;
+
+    @Value("${events.projections.batch-size:500}")
+    private int batchSize;
+
+    @Value("${events.projections.poll-interval:500ms}")
+    private Duration pollInterval;
+
+    @Bean
+    public ProjectionCheckpointStore projectionCheckpointStore(JdbcTemplate jdbcTemplate) {
+        return new JdbcProjectionCheckpointStore(jdbcTemplate);
+    }
+
+    /** Parallelism 0 uses one worker per core; 1 handles every page on the projection's own thread. */
+    @Bean
+    public ProjectionEngine projectionEngine(
+            EventStore eventStore,
+            ProjectionCheckpointStore projectionCheckpointStore,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<Projection> projections,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ProjectionEngine(
+                eventStore,
+                projectionCheckpointStore,
+                new TransactionTemplate(transactionManager),
+                projections.orderedStream().toList(),
+                workers,
+                batchSize,
+                pollInterval,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
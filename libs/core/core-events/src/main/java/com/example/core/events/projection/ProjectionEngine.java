@@ -0,0 +1,255 @@
+package com.example.core.events.projection;
+
+import com.example.core.events.DomainEvent;
+import com.example.core.events.EventStore;
+import com.example.core.events.StoredEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps {@link Projection}s up to date with the event log. Each projection runs its own loop from its
+ * checkpoint: it reads a page of the event types it declares, hands the page to a shared worker pool split by
+ * aggregate id, so each aggregate's events are handled in order by a single worker, and checkpoints the page
+ * once every worker is done. Catching up and following the log are the same loop: while pages come back full
+ * the next one is read straight away, and once the projection has reached the log's
+ * {@linkplain EventStore#getStablePosition() stable position} it polls every {@code pollInterval}.
+ *
+ * <p>Each worker handles its share of a page in one transaction, and a failed page is retried from the
+ * checkpoint after {@code pollInterval}, which re-delivers what the other workers had already handled.
+ *
+ * <p>Meters, tagged with the projection name: {@code events.projection.lag} (how many positions the checkpoint
+ * is behind the {@linkplain EventStore#getLastPosition() last position} of the log, so it also grows while an
+ * open append holds the stable position back), {@code events.projection.events} (events handled, whose rate is the
+ * projection's throughput) and {@code events.projection.batch} (time to handle and checkpoint a page).
+ */
+public class ProjectionEngine implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectionEngine.class);
+
+    private static final String METER_PREFIX = "events.projection";
+
+    private final EventStore eventStore;
+    private final ProjectionCheckpointStore checkpointStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Map<String, ProjectionRunner> runners = new LinkedHashMap<>();
+
+    private volatile ExecutorService workers;
+
+    public ProjectionEngine(
+            EventStore eventStore,
+            ProjectionCheckpointStore checkpointStore,
+            TransactionTemplate transactionTemplate,
+            List<Projection> projections,
+            int parallelism,
+            int batchSize,
+            Duration pollInterval,
+            MeterRegistry meterRegistry) {
+        this.eventStore = eventStore;
+        this.checkpointStore = checkpointStore;
+        this.transactionTemplate = transactionTemplate;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        for (Projection projection : projections) {
+            if (runners.put(projection.getName(), new ProjectionRunner(projection, meterRegistry)) != null) {
+                throw new IllegalArgumentException("Duplicate projection name " + projection.getName());
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "projection-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        runners.values().forEach(ProjectionRunner::start);
+        logger.info("Started {} projections with {} workers", runners.size(), parallelism);
+    }
+
+    @Override
+    public void stop() {
+        runners.values().forEach(ProjectionRunner::stop);
+        workers.shutdown();
+        workers = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return workers != null;
+    }
+
+    /**
+     * Discards the projection's read model and replays the whole log into it. Returns once the projection has
+     * been reset; the replay then runs in the background like any catch-up.
+     */
+    public void rebuild(String projectionName) {
+        ProjectionRunner runner = runners.get(projectionName);
+        if (runner == null) {
+            throw new IllegalArgumentException("Unknown projection " + projectionName);
+        }
+        boolean running = isRunning();
+        if (running) {
+            runner.stop();
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            runner.projection.reset();
+            checkpointStore.savePosition(projectionName, 0);
+        });
+        logger.info("Rebuilding projection {}", projectionName);
+        if (running) {
+            runner.start();
+        }
+    }
+
+    /** Returns the position of the last event the projection has handled and checkpointed. */
+    public long getPosition(String projectionName) {
+        return runners.get(projectionName).position;
+    }
+
+    private final class ProjectionRunner implements Runnable {
+
+        private final Projection projection;
+        private final List<String> eventTypes;
+        private final Counter handled;
+        private final Timer batchTimer;
+
+        private volatile long position;
+        private volatile long lastPosition;
+        private volatile CountDownLatch stopSignal;
+        private Thread thread;
+
+        private ProjectionRunner(Projection projection, MeterRegistry meterRegistry) {
+            this.projection = projection;
+            this.eventTypes = projection.getEventTypes().stream()
+                    .map(Class::getSimpleName)
+                    .toList();
+            String name = projection.getName();
+            this.handled = Counter.builder(METER_PREFIX + ".events")
+                    .tag("projection", name)
+                    .register(meterRegistry);
+            this.batchTimer = Timer.builder(METER_PREFIX + ".batch")
+                    .tag("projection", name)
+                    .register(meterRegistry);
+            Gauge.builder(METER_PREFIX + ".lag", this, r -> Math.max(0, r.lastPosition - r.position))
+                    .tag("projection", name)
+                    .register(meterRegistry);
+        }
+
+        private void start() {
+            position = checkpointStore.getPosition(projection.getName());
+            stopSignal = new CountDownLatch(1);
+            thread = new Thread(this, "projection-" + projection.getName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private void stop() {
+            stopSignal.countDown();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            logger.info("Projection {} starting after position {}", projection.getName(), position);
+            while (stopSignal.getCount() > 0) {
+                boolean caughtUp;
+                try {
+                    caughtUp = poll();
+                } catch (RuntimeException e) {
+                    logger.error("Projection {} failed after position {}, retrying", projection.getName(), position, e);
+                    caughtUp = true;
+                }
+                if (caughtUp) {
+                    try {
+                        stopSignal.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        /** Handles the next page and returns whether the projection has caught up with the stable position. */
+        private boolean poll() {
+            lastPosition = eventStore.getLastPosition();
+            long stable = eventStore.getStablePosition();
+            if (position >= stable) {
+                return true;
+            }
+            List<StoredEvent> page = eventStore.readEvents(eventTypes, position, stable, batchSize);
+            // A short page has seen every event of the projection's types up to the stable position
+            long next =
+                    page.size() < batchSize ? stable : page.get(page.size() - 1).getPosition();
+            batchTimer.record(() -> {
+                dispatch(page);
+                transactionTemplate.executeWithoutResult(
+                        status -> checkpointStore.savePosition(projection.getName(), next));
+            });
+            position = next;
+            handled.increment(page.size());
+            return next >= stable;
+        }
+
+        private void dispatch(List<StoredEvent> page) {
+            if (page.isEmpty()) {
+                return;
+            }
+            List<List<StoredEvent>> partitions = partition(page);
+            if (partitions.size() == 1) {
+                handle(partitions.get(0));
+                return;
+            }
+            CompletableFuture.allOf(partitions.stream()
+                            .map(partition -> CompletableFuture.runAsync(() -> handle(partition), workers))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        }
+
+        private List<List<StoredEvent>> partition(List<StoredEvent> page) {
+            List<List<StoredEvent>> partitions = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                partitions.add(new ArrayList<>());
+            }
+            for (StoredEvent event : page) {
+                DomainEvent domainEvent = event.getEvent();
+                partitions
+                        .get(Math.floorMod(domainEvent.getAggregateId().hashCode(), parallelism))
+                        .add(event);
+            }
+            partitions.removeIf(List::isEmpty);
+            return partitions;
+        }
+
+        private void handle(List<StoredEvent> events) {
+            transactionTemplate.executeWithoutResult(status -> events.forEach(projection::handle));
+        }
+    }
+}
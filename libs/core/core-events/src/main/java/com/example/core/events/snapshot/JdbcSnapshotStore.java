@@ -0,0 +1,62 @@
+package com.example.core.events.snapshot;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * PostgreSQL {@link SnapshotStore} keeping one row per aggregate in {@code aggregate_snapshots}. A save only
+ * replaces the stored snapshot when it is newer, so a slow writer never rolls a snapshot back.
+ */
+public class JdbcSnapshotStore implements SnapshotStore {
+
+    private static final String SELECT_SNAPSHOT =
+            """
+            SELECT aggregate_id, aggregate_type, aggregate_version, snapshot_version, state
+            FROM aggregate_snapshots WHERE aggregate_id = ?
+            """;
+
+    private static final String UPSERT_SNAPSHOT =
+            """
+            INSERT INTO aggregate_snapshots (aggregate_id, aggregate_type, aggregate_version, snapshot_version, state)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (aggregate_id) DO UPDATE
+            SET aggregate_type = EXCLUDED.aggregate_type,
+                aggregate_version = EXCLUDED.aggregate_version,
+                snapshot_version = EXCLUDED.snapshot_version,
+                state = EXCLUDED.state,
+                created_at = CURRENT_TIMESTAMP
+            WHERE aggregate_snapshots.aggregate_version < EXCLUDED.aggregate_version
+            """;
+
+    private static final RowMapper<Snapshot> ROW_MAPPER = (rs, rowNum) -> new Snapshot(
+            rs.getString("aggregate_id"),
+            rs.getString("aggregate_type"),
+            rs.getLong("aggregate_version"),
+            rs.getInt("snapshot_version"),
+            rs.getBytes("state"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcSnapshotStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<Snapshot> findLatest(String aggregateId) {
+        List<Snapshot> snapshots = jdbcTemplate.query(SELECT_SNAPSHOT, ROW_MAPPER, aggregateId);
+        return snapshots.isEmpty() ? Optional.empty() : Optional.of(snapshots.get(0));
+    }
+
+    @Override
+    public void save(Snapshot snapshot) {
+        jdbcTemplate.update(
+                UPSERT_SNAPSHOT,
+                snapshot.getAggregateId(),
+                snapshot.getAggregateType(),
+                snapshot.getAggregateVersion(),
+                snapshot.getSnapshotVersion(),
+                snapshot.getState());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.core.events.snapshot;
+
+/**
+ * The serialized state of an aggregate as of {@code aggregateVersion}, written with snapshot layout
+ * {@code snapshotVersion}.
+ */
+public class Snapshot {
+
+    private final String aggregateId;
+    private final String aggregateType;
+    private final long aggregateVersion;
+    private final int snapshotVersion;
+    private final byte[] state;
+
+    public Snapshot(
+            String aggregateId, String aggregateType, long aggregateVersion, int snapshotVersion, byte[] state) {
+        this.aggregateId = aggregateId;
+        this.aggregateType = aggregateType;
+        this.aggregateVersion = aggregateVersion;
+        this.snapshotVersion = snapshotVersion;
+        this.state = state;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public long getAggregateVersion() {
+        return aggregateVersion;
+    }
+
+    public int getSnapshotVersion() {
+        return snapshotVersion;
+    }
+
+    public byte[] getState() {
+        return state;
+    }
+}
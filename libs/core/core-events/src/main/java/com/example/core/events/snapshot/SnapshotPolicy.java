@@ -0,0 +1,20 @@
+package com.example.core.events.snapshot;
+
+/**
+ * Takes a snapshot each time an aggregate's version crosses a multiple of {@code every}, so at most
+ * {@code every - 1} events are replayed on top of the latest snapshot. Appending several events at once still
+ * produces a single snapshot.
+ */
+public class SnapshotPolicy {
+
+    private final long every;
+
+    /** @param every events between snapshots; zero or less disables snapshots */
+    public SnapshotPolicy(long every) {
+        this.every = every;
+    }
+
+    public boolean shouldSnapshot(long fromVersion, long toVersion) {
+        return every > 0 && toVersion / every > fromVersion / every;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.core.events.snapshot;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes snapshot state in Smile, like event payloads, and reads it back through the registered
+ * {@link SnapshotUpcaster}s when it was written with an older layout. A snapshot that cannot be brought up to
+ * the aggregate's current layout reads as empty, which makes the caller fall back to a full replay.
+ */
+public class SnapshotSerializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotSerializer.class);
+
+    private final ObjectMapper smileMapper;
+    private final Map<String, Map<Integer, SnapshotUpcaster>> upcasters = new HashMap<>();
+
+    public SnapshotSerializer(List<SnapshotUpcaster> upcasters) {
+        this.smileMapper = new ObjectMapper(new SmileFactory())
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        for (SnapshotUpcaster upcaster : upcasters) {
+            SnapshotUpcaster clash = this.upcasters
+                    .computeIfAbsent(upcaster.getAggregateType(), type -> new HashMap<>())
+                    .putIfAbsent(upcaster.getFromVersion(), upcaster);
+            if (clash != null) {
+                throw new IllegalStateException("Two snapshot upcasters for " + upcaster.getAggregateType()
+                        + " from version " + upcaster.getFromVersion());
+            }
+        }
+    }
+
+    public <S> Snapshot serialize(
+            String aggregateId, String aggregateType, long aggregateVersion, Snapshottable<S> aggregate) {
+        try {
+            byte[] state = smileMapper.writeValueAsBytes(aggregate.takeSnapshot());
+            return new Snapshot(aggregateId, aggregateType, aggregateVersion, aggregate.getSnapshotVersion(), state);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize snapshot of aggregate " + aggregateId, e);
+        }
+    }
+
+    public <S> Optional<S> deserialize(Snapshot snapshot, Snapshottable<S> aggregate) {
+        int currentVersion = aggregate.getSnapshotVersion();
+        try {
+            if (snapshot.getSnapshotVersion() == currentVersion) {
+                return Optional.of(smileMapper.readValue(snapshot.getState(), aggregate.getSnapshotType()));
+            }
+            if (snapshot.getSnapshotVersion() > currentVersion) {
+                // Written by a newer release; this one cannot know its layout
+                return Optional.empty();
+            }
+            ObjectNode state = (ObjectNode) smileMapper.readTree(snapshot.getState());
+            Map<Integer, SnapshotUpcaster> chain = upcasters.getOrDefault(snapshot.getAggregateType(), Map.of());
+            for (int version = snapshot.getSnapshotVersion(); version < currentVersion; version++) {
+                SnapshotUpcaster upcaster = chain.get(version);
+                if (upcaster == null) {
+                    logger.info(
+                            "No upcaster for {} snapshots from version {}, replaying full history",
+                            snapshot.getAggregateType(),
+                            version);
+                    return Optional.empty();
+                }
+                state = upcaster.upcast(state);
+            }
+            return Optional.of(smileMapper.treeToValue(state, aggregate.getSnapshotType()));
+        } catch (IOException e) {
+            logger.warn("Unreadable snapshot of aggregate {}, replaying full history", snapshot.getAggregateId(), e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.core.events.snapshot;
+
+import java.util.Optional;
+
+/** Keeps the latest snapshot of each aggregate. */
+public interface SnapshotStore {
+
+    Optional<Snapshot> findLatest(String aggregateId);
+
+    /** Stores {@code snapshot} unless a snapshot at the same or a later aggregate version is already stored. */
+    void save(Snapshot snapshot);
+}
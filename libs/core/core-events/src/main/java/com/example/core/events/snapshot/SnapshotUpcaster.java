@@ -0,0 +1,16 @@
+package com.example.core.events.snapshot;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Rewrites the stored state of one aggregate type from snapshot version {@link #getFromVersion()} to the next.
+ * Upcasters are chained, so a snapshot several versions behind is upgraded one step at a time.
+ */
+public interface SnapshotUpcaster {
+
+    String getAggregateType();
+
+    int getFromVersion();
+
+    ObjectNode upcast(ObjectNode state);
+}
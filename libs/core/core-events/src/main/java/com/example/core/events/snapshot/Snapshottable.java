@@ -0,0 +1,22 @@
+package com.example.core.events.snapshot;
+
+/**
+ * Implemented by aggregates whose state can be captured in a snapshot, so loading them replays only the
+ * events that followed it. {@code S} is a plain, Jackson-serializable copy of the aggregate's state.
+ *
+ * <p>Bump {@link #getSnapshotVersion()} whenever the layout of {@code S} changes incompatibly, and register a
+ * {@link SnapshotUpcaster} from the previous version if existing snapshots should stay usable; snapshots that
+ * cannot be upgraded are ignored and the aggregate is rebuilt from its full history instead.
+ */
+public interface Snapshottable<S> {
+
+    Class<S> getSnapshotType();
+
+    default int getSnapshotVersion() {
+        return 1;
+    }
+
+    S takeSnapshot();
+
+    void restoreSnapshot(S snapshot);
+}
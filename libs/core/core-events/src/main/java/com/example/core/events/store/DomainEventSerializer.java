@@ -0,0 +1,74 @@
+package com.example.core.events.store;
+
+import com.example.core.events.DomainEvent;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Writes event payloads in Smile, Jackson's binary JSON, without the {@link DomainEvent} header fields: those
+ * are stored in their own columns and put back on read, so each row carries them once. The payload stays
+ * self-describing, so fields can be added to an event type, or removed, without rewriting stored events.
+ *
+ * <p>Event classes are read through Jackson, typically with a {@code @JsonCreator} that passes the header
+ * fields on to {@link DomainEvent}'s restoring constructor.
+ */
+public class DomainEventSerializer {
+
+    private static final String EVENT_ID = "eventId";
+    private static final String AGGREGATE_ID = "aggregateId";
+    private static final String AGGREGATE_TYPE = "aggregateType";
+    private static final String VERSION = "version";
+    private static final String OCCURRED_AT = "occurredAt";
+    private static final List<String> HEADER_FIELDS =
+            List.of(EVENT_ID, AGGREGATE_ID, AGGREGATE_TYPE, "eventType", VERSION, OCCURRED_AT);
+
+    private final DomainEventTypeRegistry typeRegistry;
+    private final ObjectMapper smileMapper;
+
+    public DomainEventSerializer(DomainEventTypeRegistry typeRegistry) {
+        this.typeRegistry = typeRegistry;
+        // Fields dropped from an event type must not make its older events unreadable
+        this.smileMapper = new ObjectMapper(new SmileFactory())
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public byte[] serialize(DomainEvent event) {
+        ObjectNode payload = smileMapper.valueToTree(event);
+        payload.remove(HEADER_FIELDS);
+        try {
+            return smileMapper.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize " + event.getEventType(), e);
+        }
+    }
+
+    public DomainEvent deserialize(
+            String eventId,
+            String aggregateId,
+            String aggregateType,
+            String eventType,
+            long version,
+            Instant occurredAt,
+            byte[] payload) {
+        try {
+            ObjectNode node = (ObjectNode) smileMapper.readTree(payload);
+            node.put(EVENT_ID, eventId);
+            node.put(AGGREGATE_ID, aggregateId);
+            node.put(AGGREGATE_TYPE, aggregateType);
+            node.put(VERSION, version);
+            node.put(OCCURRED_AT, occurredAt.toString());
+            return smileMapper.treeToValue(node, typeRegistry.forName(eventType));
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Failed to deserialize " + eventType + " " + version + " of aggregate " + aggregateId, e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.core.events.store;
+
+import com.example.core.events.DomainEvent;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves the {@code event_type} stored with each event back to its class. Types are stored by simple class
+ * name, as in {@link DomainEvent#getEventType()}, so event classes can move between packages but two
+ * registered types must not share a simple name.
+ */
+public class DomainEventTypeRegistry {
+
+    private final Map<String, Class<? extends DomainEvent>> typesByName = new HashMap<>();
+
+    public DomainEventTypeRegistry(Collection<Class<? extends DomainEvent>> eventTypes) {
+        for (Class<? extends DomainEvent> eventType : eventTypes) {
+            Class<? extends DomainEvent> clash = typesByName.putIfAbsent(eventType.getSimpleName(), eventType);
+            if (clash != null && clash != eventType) {
+                throw new IllegalStateException("Event type " + eventType.getSimpleName() + " is used by both "
+                        + clash.getName() + " and " + eventType.getName());
+            }
+        }
+    }
+
+    public Class<? extends DomainEvent> forName(String eventType) {
+        Class<? extends DomainEvent> type = typesByName.get(eventType);
+        if (type == null) {
+            throw new IllegalStateException("Unknown event type " + eventType);
+        }
+        return type;
+    }
+}
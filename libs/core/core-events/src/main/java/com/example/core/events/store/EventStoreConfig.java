@@ -0,0 +1,54 @@
+package com.example.core.events.store;
+
+import com.example.core.events.EventStore;
+import com.example.core.events.snapshot.JdbcSnapshotStore;
+import com.example.core.events.snapshot.SnapshotPolicy;
+import com.example.core.events.snapshot.SnapshotSerializer;
+import com.example.core.events.snapshot.SnapshotStore;
+import com.example.core.events.snapshot.SnapshotUpcaster;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Backs {@link EventStore} with {@link JdbcEventStore} when {@code events.store.enabled} is set, together with
+ * the snapshot beans an {@code EventSourcedRepository} needs. The application declares the event types it
+ * stores in a {@link DomainEventTypeRegistry} bean, and the {@code domain_events} and
+ * {@code aggregate_snapshots} tables come from its migrations.
+ */
+@Configuration
+@ConditionalOnProperty(name = "events.store.enabled", havingValue = "true")
+public class EventStoreConfig {
+
+    @Value("${events.snapshot.every:100}")
+    private long snapshotEvery;
+
+    @Bean
+    public DomainEventSerializer domainEventSerializer(DomainEventTypeRegistry domainEventTypeRegistry) {
+        return new DomainEventSerializer(domainEventTypeRegistry);
+    }
+
+    @Bean
+    public EventStore eventStore(JdbcTemplate jdbcTemplate, DomainEventSerializer domainEventSerializer) {
+        return new JdbcEventStore(jdbcTemplate, domainEventSerializer);
+    }
+
+    @Bean
+    public SnapshotStore snapshotStore(JdbcTemplate jdbcTemplate) {
+        return new JdbcSnapshotStore(jdbcTemplate);
+    }
+
+    @Bean
+    public SnapshotSerializer snapshotSerializer(ObjectProvider<SnapshotUpcaster> upcasters) {
+        return new SnapshotSerializer(upcasters.orderedStream().toList());
+    }
+
+    /** Zero disables snapshots; aggregates are then always rebuilt from their full history. */
+    @Bean
+    public SnapshotPolicy snapshotPolicy() {
+        return new SnapshotPolicy(snapshotEvery);
+    }
+}
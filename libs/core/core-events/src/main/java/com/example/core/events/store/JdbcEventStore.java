@@ -0,0 +1,312 @@
+package com.example.core.events.store;
+
+import com.example.core.events.ConcurrencyConflictException;
+import com.example.core.events.DomainEvent;
+import com.example.core.events.EventStore;
+import com.example.core.events.StoredEvent;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * PostgreSQL {@link EventStore} over the append-only {@code domain_events} table.
+ *
+ * <p>All events of one {@link #saveEvents} call are appended with a single statement, however many there are:
+ * their columns are bound as arrays and expanded with {@code unnest}. The same statement checks the
+ * aggregate's current version against {@code expectedVersion}, and the unique {@code (aggregate_id, version)}
+ * constraint rejects the loser of two concurrent appends that both passed the check, so a stale writer always
+ * gets a {@link ConcurrencyConflictException} and never a gap or a duplicate version.
+ *
+ * <p>Requires PostgreSQL 13 or later.
+ */
+public class JdbcEventStore implements EventStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcEventStore.class);
+
+    private static final String APPEND_EVENTS =
+            """
+            INSERT INTO domain_events
+                (event_id, aggregate_id, aggregate_type, event_type, version, occurred_at, payload)
+            SELECT e.event_id, ?, e.aggregate_type, e.event_type, e.version, e.occurred_at::timestamptz, e.payload
+            FROM unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::bigint[], ?::varchar[], ?::bytea[])
+                AS e(event_id, aggregate_type, event_type, version, occurred_at, payload)
+            """;
+
+    private static final String APPEND_EVENTS_AT_VERSION = APPEND_EVENTS
+            + """
+            WHERE (SELECT COALESCE(MAX(version), 0) FROM domain_events WHERE aggregate_id = ?) = ?
+            """;
+
+    private static final String SELECT_EVENTS =
+            "SELECT id, event_id, aggregate_id, aggregate_type, event_type, version, occurred_at, payload"
+                    + " FROM domain_events";
+
+    private static final String SELECT_AGGREGATE_EVENTS =
+            SELECT_EVENTS + " WHERE aggregate_id = ? AND version >= ? ORDER BY version";
+
+    private static final String SELECT_ALL_EVENTS = SELECT_EVENTS + " ORDER BY id";
+
+    private static final String SELECT_EVENTS_BY_TYPE = SELECT_EVENTS + " WHERE event_type = ? ORDER BY id";
+
+    private static final String SELECT_EVENTS_AFTER = SELECT_EVENTS + " WHERE id > ? ORDER BY id";
+
+    private static final String SELECT_EVENTS_BY_TYPE_AFTER =
+            SELECT_EVENTS + " WHERE event_type = ? AND id > ? ORDER BY id";
+
+    private static final String SELECT_TYPED_EVENTS_BETWEEN =
+            SELECT_EVENTS + " WHERE event_type = ANY(?) AND id > ? AND id <= ? ORDER BY id LIMIT ?";
+
+    private static final String SELECT_LAST_POSITION =
+            "SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM domain_events_id_seq";
+
+    // Every transaction that has inserted into the table, or is about to, holds this lock until it ends
+    private static final String SELECT_RUNNING_APPENDS =
+            """
+            SELECT virtualtransaction FROM pg_locks
+            WHERE locktype = 'relation' AND mode = 'RowExclusiveLock'
+                AND database = (SELECT oid FROM pg_database WHERE datname = current_database())
+                AND relation = 'domain_events'::regclass
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainEventSerializer serializer;
+    private final RowMapper<DomainEvent> rowMapper;
+    private final RowMapper<StoredEvent> storedEventMapper;
+    private final AtomicReference<PositionHorizon> horizon =
+            new AtomicReference<>(new PositionHorizon(0, -1, Set.of()));
+
+    public JdbcEventStore(JdbcTemplate jdbcTemplate, DomainEventSerializer serializer) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.serializer = serializer;
+        this.rowMapper = (rs, rowNum) -> serializer.deserialize(
+                rs.getString("event_id"),
+                rs.getString("aggregate_id"),
+                rs.getString("aggregate_type"),
+                rs.getString("event_type"),
+                rs.getLong("version"),
+                rs.getObject("occurred_at", OffsetDateTime.class).toInstant(),
+                rs.getBytes("payload"));
+        this.storedEventMapper = (rs, rowNum) -> new StoredEvent(rs.getLong("id"), rowMapper.mapRow(rs, rowNum));
+    }
+
+    /**
+     * Appends {@code events}, which must carry consecutive versions following {@code expectedVersion}: an
+     * aggregate with no events is at version 0. A {@code null} expected version skips the check against the
+     * current version, leaving only the uniqueness of each version.
+     *
+     * @throws ConcurrencyConflictException if the aggregate is no longer at {@code expectedVersion}
+     */
+    @Override
+    public void saveEvents(String aggregateId, List<DomainEvent> events, Long expectedVersion) {
+        if (events.isEmpty()) {
+            return;
+        }
+        int size = events.size();
+        UUID[] eventIds = new UUID[size];
+        String[] aggregateTypes = new String[size];
+        String[] eventTypes = new String[size];
+        Long[] versions = new Long[size];
+        String[] occurredAt = new String[size];
+        byte[][] payloads = new byte[size][];
+
+        Long firstVersion =
+                expectedVersion != null ? expectedVersion + 1 : events.get(0).getVersion();
+        for (int i = 0; i < size; i++) {
+            DomainEvent event = events.get(i);
+            if (!aggregateId.equals(event.getAggregateId())) {
+                throw new IllegalArgumentException(
+                        "Event " + event.getEventId() + " belongs to aggregate " + event.getAggregateId());
+            }
+            if (firstVersion == null || !Long.valueOf(firstVersion + i).equals(event.getVersion())) {
+                throw new IllegalArgumentException("Event " + event.getEventId() + " has version " + event.getVersion()
+                        + ", expected " + (firstVersion == null ? "a version" : firstVersion + i));
+            }
+            eventIds[i] = UUID.fromString(event.getEventId());
+            aggregateTypes[i] = event.getAggregateType();
+            eventTypes[i] = event.getEventType();
+            versions[i] = event.getVersion();
+            occurredAt[i] = event.getOccurredAt().toString();
+            payloads[i] = serializer.serialize(event);
+        }
+
+        int appended;
+        try {
+            appended = jdbcTemplate.execute(
+                    (Connection connection) -> {
+                        PreparedStatement ps = connection.prepareStatement(
+                                expectedVersion != null ? APPEND_EVENTS_AT_VERSION : APPEND_EVENTS);
+                        ps.setString(1, aggregateId);
+                        ps.setArray(2, connection.createArrayOf("uuid", eventIds));
+                        ps.setArray(3, connection.createArrayOf("varchar", aggregateTypes));
+                        ps.setArray(4, connection.createArrayOf("varchar", eventTypes));
+                        ps.setArray(5, connection.createArrayOf("bigint", versions));
+                        ps.setArray(6, connection.createArrayOf("varchar", occurredAt));
+                        ps.setArray(7, connection.createArrayOf("bytea", payloads));
+                        if (expectedVersion != null) {
+                            ps.setString(8, aggregateId);
+                            ps.setLong(9, expectedVersion);
+                        }
+                        return ps;
+                    },
+                    PreparedStatement::executeUpdate);
+        } catch (DuplicateKeyException e) {
+            throw new ConcurrencyConflictException(aggregateId, expectedVersion);
+        }
+        if (appended != size) {
+            throw new ConcurrencyConflictException(aggregateId, expectedVersion);
+        }
+        logger.debug("Appended {} events to aggregate {}", size, aggregateId);
+    }
+
+    @Override
+    public List<DomainEvent> getEvents(String aggregateId) {
+        return getEvents(aggregateId, 1L);
+    }
+
+    /** Returns the aggregate's events from {@code fromVersion} onwards, inclusive, in version order. */
+    @Override
+    public List<DomainEvent> getEvents(String aggregateId, Long fromVersion) {
+        return jdbcTemplate.query(SELECT_AGGREGATE_EVENTS, rowMapper, aggregateId, fromVersion);
+    }
+
+    @Override
+    @Deprecated
+    public List<DomainEvent> getAllEvents() {
+        return jdbcTemplate.query(SELECT_ALL_EVENTS, rowMapper);
+    }
+
+    @Override
+    @Deprecated
+    public List<DomainEvent> getEventsByType(String eventType) {
+        return jdbcTemplate.query(SELECT_EVENTS_BY_TYPE, rowMapper, eventType);
+    }
+
+    // Keyset pages on the primary key: each page is an index range scan, however deep into the log it starts
+    @Override
+    public List<StoredEvent> readEvents(long afterPosition, int maxCount) {
+        return jdbcTemplate.query(SELECT_EVENTS_AFTER + " LIMIT ?", storedEventMapper, afterPosition, maxCount);
+    }
+
+    @Override
+    public List<StoredEvent> readEventsByType(String eventType, long afterPosition, int maxCount) {
+        return jdbcTemplate.query(
+                SELECT_EVENTS_BY_TYPE_AFTER + " LIMIT ?", storedEventMapper, eventType, afterPosition, maxCount);
+    }
+
+    @Override
+    public List<StoredEvent> readEvents(
+            Collection<String> eventTypes, long afterPosition, long toPosition, int maxCount) {
+        return jdbcTemplate.query(
+                SELECT_TYPED_EVENTS_BETWEEN,
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("varchar", eventTypes.toArray()));
+                    ps.setLong(2, afterPosition);
+                    ps.setLong(3, toPosition);
+                    ps.setInt(4, maxCount);
+                },
+                storedEventMapper);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Ids are drawn from a sequence when an event is inserted, but become visible when its transaction
+     * commits, so the newest visible id says nothing about the ids below it. Each call instead notes the last id
+     * handed out and, after it, which transactions hold the table's insert lock, which an append takes before it
+     * draws an id and keeps until it commits or rolls back; once all of those have finished, every id up to the
+     * noted one is settled and becomes the stable position. The stable position therefore trails the log by one
+     * call and by the longest transaction that was appending at the time.
+     *
+     * <p>Only appending transactions hold it back. Readers, including a long {@link #streamEvents} cursor, and
+     * transactions that write to other tables do not, however long they stay open. A transaction left open after
+     * an append does stall it, and every projection with it, until it ends: bound those with
+     * {@code idle_in_transaction_session_timeout}. {@link #getLastPosition()} keeps moving meanwhile, so the
+     * distance between the two shows the stall.
+     */
+    @Override
+    public long getStablePosition() {
+        // The last id must be read before the locks: any append that drew an id up to it is then either finished
+        // or still holding its lock
+        long lastPosition = getLastPosition();
+        Set<String> runningAppends = Set.copyOf(jdbcTemplate.queryForList(SELECT_RUNNING_APPENDS, String.class));
+        return horizon.updateAndGet(h -> h.advance(lastPosition, runningAppends)).stablePosition;
+    }
+
+    @Override
+    public long getLastPosition() {
+        return jdbcTemplate.queryForObject(SELECT_LAST_POSITION, Long.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The PostgreSQL driver only reads through a cursor when auto-commit is off; outside a transaction it
+     * would buffer the whole result.
+     */
+    @Override
+    public void streamEvents(long afterPosition, int fetchSize, Consumer<? super StoredEvent> consumer) {
+        stream(SELECT_EVENTS_AFTER, fetchSize, consumer, afterPosition);
+    }
+
+    @Override
+    public void streamEventsByType(
+            String eventType, long afterPosition, int fetchSize, Consumer<? super StoredEvent> consumer) {
+        stream(SELECT_EVENTS_BY_TYPE_AFTER, fetchSize, consumer, eventType, afterPosition);
+    }
+
+    private void stream(String sql, int fetchSize, Consumer<? super StoredEvent> consumer, Object... args) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps =
+                            connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(fetchSize);
+                    for (int i = 0; i < args.length; i++) {
+                        ps.setObject(i + 1, args[i]);
+                    }
+                    return ps;
+                },
+                rs -> {
+                    consumer.accept(storedEventMapper.mapRow(rs, rs.getRow()));
+                });
+    }
+
+    /**
+     * The stable position, and the last id noted together with the appends running when it was noted. The noted
+     * id is settled once none of those appends is running any more.
+     */
+    private static final class PositionHorizon {
+
+        private final long stablePosition;
+        private final long pendingPosition;
+        private final Set<String> pendingAppends;
+
+        private PositionHorizon(long stablePosition, long pendingPosition, Set<String> pendingAppends) {
+            this.stablePosition = stablePosition;
+            this.pendingPosition = pendingPosition;
+            this.pendingAppends = pendingAppends;
+        }
+
+        private PositionHorizon advance(long lastPosition, Set<String> runningAppends) {
+            if (pendingPosition < 0) {
+                return new PositionHorizon(stablePosition, lastPosition, runningAppends);
+            }
+            if (Collections.disjoint(pendingAppends, runningAppends)) {
+                return new PositionHorizon(Math.max(stablePosition, pendingPosition), lastPosition, runningAppends);
+            }
+            return this;
+        }
+    }
+}
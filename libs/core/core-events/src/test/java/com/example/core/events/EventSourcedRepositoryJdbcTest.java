@@ -0,0 +1,96 @@
+package com.example.core.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.core.events.EventSourcedRepositoryTest.Basket;
+import com.example.core.events.snapshot.JdbcSnapshotStore;
+import com.example.core.events.snapshot.SnapshotPolicy;
+import com.example.core.events.snapshot.SnapshotSerializer;
+import com.example.core.events.store.JdbcEventStore;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class EventSourcedRepositoryJdbcTest {
+
+    private static final String BASKET = "basket-1";
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcEventStore eventStore;
+    private JdbcSnapshotStore snapshotStore;
+    private TransactionTemplate transactionTemplate;
+    private EventSourcedRepository<Basket> repository;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = EventStoreTestDatabase.reset();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        eventStore = EventStoreTestDatabase.eventStore(dataSource);
+        snapshotStore = new JdbcSnapshotStore(jdbcTemplate);
+        transactionTemplate = EventStoreTestDatabase.transactionTemplate(dataSource);
+        repository = new EventSourcedRepository<>(
+                Basket::new,
+                eventStore,
+                snapshotStore,
+                new SnapshotSerializer(List.of()),
+                new SnapshotPolicy(2),
+                transactionTemplate.getTransactionManager());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS fail_snapshot ON aggregate_snapshots");
+        jdbcTemplate.execute("DROP FUNCTION IF EXISTS fail_snapshot()");
+    }
+
+    @Test
+    void save_InTransaction_WhenSnapshotWriteFails_ShouldStillCommitEvents() {
+        jdbcTemplate.execute(
+                """
+                CREATE FUNCTION fail_snapshot() RETURNS trigger AS $$
+                BEGIN
+                    RAISE EXCEPTION 'snapshot rejected';
+                END
+                $$ LANGUAGE plpgsql
+                """);
+        jdbcTemplate.execute(
+                """
+                CREATE TRIGGER fail_snapshot BEFORE INSERT OR UPDATE ON aggregate_snapshots
+                FOR EACH ROW EXECUTE FUNCTION fail_snapshot()
+                """);
+        Basket basket = basket("apple", "pear");
+
+        transactionTemplate.executeWithoutResult(status -> repository.save(basket));
+
+        assertThat(eventStore.getEvents(BASKET, 1L)).hasSize(2);
+        assertThat(snapshotStore.findLatest(BASKET)).isEmpty();
+        assertThat(repository.load(BASKET).orElseThrow().getItems()).containsExactly("apple", "pear");
+    }
+
+    @Test
+    void save_InTransaction_ShouldWriteSnapshotOnlyOnceCommitted() {
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.save(basket("apple", "pear"));
+            status.setRollbackOnly();
+        });
+        assertThat(eventStore.getEvents(BASKET, 1L)).isEmpty();
+        assertThat(snapshotStore.findLatest(BASKET)).isEmpty();
+
+        transactionTemplate.executeWithoutResult(status -> repository.save(basket("apple", "pear")));
+
+        assertThat(snapshotStore.findLatest(BASKET).orElseThrow().getAggregateVersion())
+                .isEqualTo(2L);
+    }
+
+    private static Basket basket(String... items) {
+        Basket basket = new Basket();
+        for (String item : items) {
+            basket.add(BASKET, item);
+        }
+        return basket;
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.core.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.core.events.snapshot.Snapshot;
+import com.example.core.events.snapshot.SnapshotPolicy;
+import com.example.core.events.snapshot.SnapshotSerializer;
+import com.example.core.events.snapshot.SnapshotStore;
+import com.example.core.events.snapshot.Snapshottable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+class EventSourcedRepositoryTest {
+
+    private static final String BASKET = "basket-1";
+
+    private final EventStore eventStore = mock(EventStore.class);
+    private final SnapshotSerializer snapshotSerializer = new SnapshotSerializer(List.of());
+    private final SnapshotPolicy everyTwoEvents = new SnapshotPolicy(2);
+    private final PlatformTransactionManager transactionManager = new NoOpTransactionManager();
+
+    @Test
+    void save_WhenSnapshotStoreFails_ShouldStillCommitChanges() {
+        SnapshotStore snapshotStore = mock(SnapshotStore.class);
+        doThrow(new DataAccessResourceFailureException("connection reset"))
+                .when(snapshotStore)
+                .save(any());
+        EventSourcedRepository<Basket> repository = new EventSourcedRepository<>(
+                Basket::new, eventStore, snapshotStore, snapshotSerializer, everyTwoEvents, transactionManager);
+        Basket basket = new Basket();
+        basket.add(BASKET, "apple");
+        basket.add(BASKET, "pear");
+
+        repository.save(basket);
+
+        verify(eventStore).saveEvents(eq(BASKET), any(), eq(0L));
+        verify(snapshotStore).save(any());
+        assertThat(basket.getUncommittedChanges()).isEmpty();
+    }
+
+    @Test
+    void save_WhenSnapshotCannotBeTaken_ShouldStillCommitChanges() {
+        SnapshotStore snapshotStore = mock(SnapshotStore.class);
+        EventSourcedRepository<UnsnapshottableBasket> repository = new EventSourcedRepository<>(
+                UnsnapshottableBasket::new,
+                eventStore,
+                snapshotStore,
+                snapshotSerializer,
+                everyTwoEvents,
+                transactionManager);
+        UnsnapshottableBasket basket = new UnsnapshottableBasket();
+        basket.add(BASKET, "apple");
+        basket.add(BASKET, "pear");
+
+        repository.save(basket);
+
+        verify(eventStore).saveEvents(eq(BASKET), any(), eq(0L));
+        verify(snapshotStore, never()).save(any());
+        assertThat(basket.getUncommittedChanges()).isEmpty();
+    }
+
+    @Test
+    void load_ShouldReplayOnlyEventsAfterLatestSnapshot() {
+        InMemorySnapshotStore snapshotStore = new InMemorySnapshotStore();
+        EventSourcedRepository<Basket> repository = new EventSourcedRepository<>(
+                Basket::new, eventStore, snapshotStore, snapshotSerializer, everyTwoEvents, transactionManager);
+        Basket basket = new Basket();
+        basket.add(BASKET, "apple");
+        basket.add(BASKET, "pear");
+        repository.save(basket);
+        when(eventStore.getEvents(BASKET, 3L)).thenReturn(List.of(new ItemAdded(BASKET, 3L, "plum")));
+
+        Basket loaded = repository.load(BASKET).orElseThrow();
+
+        assertThat(snapshotStore.snapshots.get(BASKET).getAggregateVersion()).isEqualTo(2L);
+        assertThat(loaded.getItems()).containsExactly("apple", "pear", "plum");
+        assertThat(loaded.getVersion()).isEqualTo(3L);
+        verify(eventStore, never()).getEvents(eq(BASKET), eq(1L));
+    }
+
+    @Test
+    void load_WithoutSnapshotOrEvents_ShouldReturnEmpty() {
+        EventSourcedRepository<Basket> repository = new EventSourcedRepository<>(
+                Basket::new,
+                eventStore,
+                new InMemorySnapshotStore(),
+                snapshotSerializer,
+                everyTwoEvents,
+                transactionManager);
+        when(eventStore.getEvents(eq(BASKET), anyLong())).thenReturn(List.of());
+
+        assertThat(repository.load(BASKET)).isEmpty();
+    }
+
+    static class Basket extends AggregateRoot implements Snapshottable<Basket.State> {
+
+        private String id;
+        private List<String> items = new ArrayList<>();
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        List<String> getItems() {
+            return items;
+        }
+
+        void add(String aggregateId, String item) {
+            applyChange(new ItemAdded(aggregateId, getVersion() + 1, item));
+            incrementVersion();
+        }
+
+        @Override
+        protected void handle(DomainEvent event) {
+            id = event.getAggregateId();
+            items.add(((ItemAdded) event).getItem());
+        }
+
+        @Override
+        public Class<State> getSnapshotType() {
+            return State.class;
+        }
+
+        @Override
+        public State takeSnapshot() {
+            return new State(id, List.copyOf(items));
+        }
+
+        @Override
+        public void restoreSnapshot(State snapshot) {
+            id = snapshot.id;
+            items = new ArrayList<>(snapshot.items);
+        }
+
+        public static class State {
+            public String id;
+            public List<String> items;
+
+            public State() {}
+
+            State(String id, List<String> items) {
+                this.id = id;
+                this.items = items;
+            }
+        }
+    }
+
+    static class UnsnapshottableBasket extends Basket {
+
+        @Override
+        public State takeSnapshot() {
+            throw new IllegalStateException("Basket state is not serializable");
+        }
+    }
+
+    static class InMemorySnapshotStore implements SnapshotStore {
+
+        private final Map<String, Snapshot> snapshots = new HashMap<>();
+
+        @Override
+        public Optional<Snapshot> findLatest(String aggregateId) {
+            return Optional.ofNullable(snapshots.get(aggregateId));
+        }
+
+        @Override
+        public void save(Snapshot snapshot) {
+            snapshots.merge(
+                    snapshot.getAggregateId(),
+                    snapshot,
+                    (stored, next) -> next.getAggregateVersion() > stored.getAggregateVersion() ? next : stored);
+        }
+    }
+
+    /** Runs transaction callbacks as a real manager would, without a database. */
+    static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {}
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {}
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return false;
+        }
+    }
+}
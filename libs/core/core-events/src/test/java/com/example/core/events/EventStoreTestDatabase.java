@@ -0,0 +1,55 @@
+package com.example.core.events;
+
+import com.example.core.events.store.DomainEventSerializer;
+import com.example.core.events.store.DomainEventTypeRegistry;
+import com.example.core.events.store.JdbcEventStore;
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * A PostgreSQL container shared by the event store tests, migrated with the user API's Flyway scripts. Every
+ * connection is a new one, so concurrent appends really run in separate transactions.
+ */
+public final class EventStoreTestDatabase {
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+                    DockerImageName.parse("postgres:15-alpine"))
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+            .withReuse(true);
+
+    private static DataSource dataSource;
+
+    private EventStoreTestDatabase() {}
+
+    /** Starts the container on first use and empties the event tables. */
+    public static synchronized DataSource reset() {
+        if (dataSource == null) {
+            POSTGRES.start();
+            dataSource =
+                    new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+            Flyway.configure().dataSource(dataSource).load().migrate();
+        }
+        new JdbcTemplate(dataSource)
+                .execute("TRUNCATE domain_events, aggregate_snapshots, projection_checkpoints RESTART IDENTITY");
+        return dataSource;
+    }
+
+    public static JdbcEventStore eventStore(DataSource dataSource) {
+        return new JdbcEventStore(
+                new JdbcTemplate(dataSource),
+                new DomainEventSerializer(new DomainEventTypeRegistry(List.of(ItemAdded.class, ItemRemoved.class))));
+    }
+
+    public static TransactionTemplate transactionTemplate(DataSource dataSource) {
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+}
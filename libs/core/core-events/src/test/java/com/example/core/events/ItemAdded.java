@@ -0,0 +1,32 @@
+package com.example.core.events;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
+
+public class ItemAdded extends DomainEvent {
+
+    @JsonProperty("item")
+    private final String item;
+
+    public ItemAdded(String aggregateId, Long version, String item) {
+        super(aggregateId, "Basket", version);
+        this.item = item;
+    }
+
+    @JsonCreator
+    public ItemAdded(
+            @JsonProperty("eventId") String eventId,
+            @JsonProperty("aggregateId") String aggregateId,
+            @JsonProperty("aggregateType") String aggregateType,
+            @JsonProperty("version") Long version,
+            @JsonProperty("occurredAt") Instant occurredAt,
+            @JsonProperty("item") String item) {
+        super(eventId, aggregateId, aggregateType, version, occurredAt);
+        this.item = item;
+    }
+
+    public String getItem() {
+        return item;
+    }
+}
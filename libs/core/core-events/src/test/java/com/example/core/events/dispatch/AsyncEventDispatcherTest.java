@@ -0,0 +1,257 @@
+package com.example.core.events.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.core.events.DomainEvent;
+import com.example.core.events.ItemAdded;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncEventDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventDispatchMetrics metrics = new EventDispatchMetrics(meterRegistry);
+    private final List<List<DomainEvent>> batches = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstBatchTaken = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private AsyncEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (dispatcher != null) {
+            dispatcher.close(Duration.ofSeconds(5));
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    void constructor_WithoutWorkers_ShouldThrow() {
+        assertThatThrownBy(() -> new AsyncEventDispatcher(0, 16, 8, BackpressurePolicy.BLOCK, batches::add, metrics))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AsyncEventDispatcher(2, 0, 8, BackpressurePolicy.BLOCK, batches::add, metrics))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AsyncEventDispatcher(2, 16, 0, BackpressurePolicy.BLOCK, batches::add, metrics))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void dispatch_ShouldDeliverEachAggregatesEventsInOrder() {
+        Map<String, List<Long>> versions = new ConcurrentHashMap<>();
+        dispatcher = new AsyncEventDispatcher(
+                4,
+                16,
+                8,
+                BackpressurePolicy.BLOCK,
+                batch -> batch.forEach(
+                        event -> versions.computeIfAbsent(event.getAggregateId(), id -> new CopyOnWriteArrayList<>())
+                                .add(event.getVersion())),
+                metrics);
+
+        for (long version = 1; version <= 50; version++) {
+            for (int basket = 0; basket < 10; basket++) {
+                dispatcher.dispatch(List.of(event("basket-" + basket, version)));
+            }
+        }
+        dispatcher.close();
+
+        assertThat(versions).hasSize(10);
+        versions.values().forEach(delivered -> assertThat(delivered).hasSize(50).isSorted());
+    }
+
+    @Test
+    void dispatch_ShouldBatchEventsQueuedWhileWorkerIsBusy() throws InterruptedException {
+        dispatcher = new AsyncEventDispatcher(1, 64, 10, BackpressurePolicy.BLOCK, holdFirstBatch(), metrics);
+
+        dispatcher.dispatch(List.of(event("basket-1", 1)));
+        assertThat(firstBatchTaken.await(10, TimeUnit.SECONDS)).isTrue();
+        dispatcher.dispatch(events("basket-1", 2, 25));
+        release.countDown();
+        dispatcher.close();
+
+        assertThat(batches).extracting(List::size).containsExactly(1, 10, 10, 5);
+    }
+
+    @Test
+    void dispatch_WithBlockPolicy_ShouldWaitForRoomInQueue() throws Exception {
+        dispatcher = new AsyncEventDispatcher(1, 2, 10, BackpressurePolicy.BLOCK, holdFirstBatch(), metrics);
+        fillQueue();
+
+        CompletableFuture<Void> blocked =
+                CompletableFuture.runAsync(() -> dispatcher.dispatch(List.of(event("basket-1", 4))), executor);
+        assertThatThrownBy(() -> blocked.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+        release.countDown();
+        blocked.get(10, TimeUnit.SECONDS);
+        dispatcher.close();
+        assertThat(deliveredVersions()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(rejected()).isZero();
+    }
+
+    @Test
+    void dispatch_WithDropPolicy_ShouldDiscardAndCountEventsForFullQueue() throws InterruptedException {
+        dispatcher = new AsyncEventDispatcher(1, 2, 10, BackpressurePolicy.DROP, holdFirstBatch(), metrics);
+        fillQueue();
+
+        dispatcher.dispatch(List.of(event("basket-1", 4)));
+
+        release.countDown();
+        dispatcher.close();
+        assertThat(deliveredVersions()).containsExactly(1L, 2L, 3L);
+        assertThat(rejected()).isEqualTo(1.0);
+    }
+
+    @Test
+    void dispatch_WithRejectPolicy_ShouldThrowForFullQueue() throws InterruptedException {
+        dispatcher = new AsyncEventDispatcher(1, 2, 10, BackpressurePolicy.REJECT, holdFirstBatch(), metrics);
+        fillQueue();
+
+        assertThatThrownBy(() -> dispatcher.dispatch(List.of(event("basket-1", 4))))
+                .isInstanceOf(EventDispatchRejectedException.class);
+
+        release.countDown();
+        dispatcher.close();
+        assertThat(deliveredVersions()).containsExactly(1L, 2L, 3L);
+        assertThat(rejected()).isEqualTo(1.0);
+    }
+
+    @Test
+    void dispatch_FromListenerWithBlockPolicy_ShouldRejectForFullQueueInsteadOfWaitingForItself()
+            throws InterruptedException {
+        List<RuntimeException> failures = new CopyOnWriteArrayList<>();
+        CountDownLatch republished = new CountDownLatch(1);
+        dispatcher = new AsyncEventDispatcher(
+                1,
+                2,
+                10,
+                BackpressurePolicy.BLOCK,
+                batch -> {
+                    batches.add(batch);
+                    if (batch.get(0).getVersion() == 1) {
+                        // The only worker is busy here, so the third of these finds its own queue full
+                        try {
+                            dispatcher.dispatch(events("basket-1", 2, 3));
+                        } catch (RuntimeException e) {
+                            failures.add(e);
+                        }
+                        republished.countDown();
+                    }
+                },
+                metrics);
+
+        dispatcher.dispatch(List.of(event("basket-1", 1)));
+        assertThat(republished.await(10, TimeUnit.SECONDS)).isTrue();
+        dispatcher.close();
+
+        assertThat(failures).singleElement().isInstanceOf(EventDispatchRejectedException.class);
+        assertThat(deliveredVersions()).containsExactly(1L, 2L, 3L);
+        assertThat(rejected()).isEqualTo(1.0);
+    }
+
+    @Test
+    void close_ShouldDeliverQueuedEventsAndRefuseLaterOnes() throws InterruptedException {
+        dispatcher = new AsyncEventDispatcher(1, 64, 10, BackpressurePolicy.BLOCK, holdFirstBatch(), metrics);
+        dispatcher.dispatch(List.of(event("basket-1", 1)));
+        assertThat(firstBatchTaken.await(10, TimeUnit.SECONDS)).isTrue();
+        dispatcher.dispatch(events("basket-1", 2, 49));
+
+        release.countDown();
+        dispatcher.close();
+
+        assertThat(deliveredVersions()).hasSize(50).isSorted();
+        assertThatThrownBy(() -> dispatcher.dispatch(List.of(event("basket-1", 51))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void close_WhilePublishing_ShouldDeliverEveryAcceptedEvent() throws Exception {
+        dispatcher = new AsyncEventDispatcher(2, 8, 4, BackpressurePolicy.BLOCK, batches::add, metrics);
+        AtomicInteger accepted = new AtomicInteger();
+        List<CompletableFuture<Void>> publishers = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            String basket = "basket-" + p;
+            publishers.add(CompletableFuture.runAsync(
+                    () -> {
+                        for (long version = 1; ; version++) {
+                            try {
+                                dispatcher.dispatch(List.of(event(basket, version)));
+                            } catch (IllegalStateException e) {
+                                return;
+                            }
+                            accepted.incrementAndGet();
+                        }
+                    },
+                    executor));
+        }
+        Thread.sleep(100);
+
+        dispatcher.close();
+        CompletableFuture.allOf(publishers.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(accepted.get()).isPositive();
+        assertThat(deliveredVersions()).hasSize(accepted.get());
+    }
+
+    /** Delivers into {@link #batches}, holding the first batch until {@link #release} is counted down. */
+    private Consumer<List<DomainEvent>> holdFirstBatch() {
+        return batch -> {
+            if (firstBatchTaken.getCount() > 0) {
+                firstBatchTaken.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            batches.add(batch);
+        };
+    }
+
+    /** Leaves the single worker busy with version 1 and its queue of two full with versions 2 and 3. */
+    private void fillQueue() throws InterruptedException {
+        dispatcher.dispatch(List.of(event("basket-1", 1)));
+        assertThat(firstBatchTaken.await(10, TimeUnit.SECONDS)).isTrue();
+        dispatcher.dispatch(events("basket-1", 2, 2));
+    }
+
+    private List<Long> deliveredVersions() {
+        return batches.stream()
+                .flatMap(List::stream)
+                .map(DomainEvent::getVersion)
+                .toList();
+    }
+
+    private double rejected() {
+        return meterRegistry.get("events.dispatch.rejected").counter().count();
+    }
+
+    private static List<DomainEvent> events(String aggregateId, long fromVersion, int count) {
+        List<DomainEvent> events = new ArrayList<>();
+        for (long version = fromVersion; version < fromVersion + count; version++) {
+            events.add(event(aggregateId, version));
+        }
+        return events;
+    }
+
+    private static DomainEvent event(String aggregateId, long version) {
+        return new ItemAdded(aggregateId, version, "item-" + version);
+    }
+}
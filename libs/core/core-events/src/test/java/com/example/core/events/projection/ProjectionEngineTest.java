@@ -0,0 +1,246 @@
+package com.example.core.events.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.core.events.DomainEvent;
+import com.example.core.events.EventStoreTestDatabase;
+import com.example.core.events.ItemAdded;
+import com.example.core.events.ItemRemoved;
+import com.example.core.events.StoredEvent;
+import com.example.core.events.store.JdbcEventStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ProjectionEngineTest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private JdbcEventStore eventStore;
+    private TransactionTemplate transactionTemplate;
+    private JdbcProjectionCheckpointStore checkpointStore;
+    private SimpleMeterRegistry meterRegistry;
+    private BasketItemsProjection projection;
+    private ProjectionEngine engine;
+    private ExecutorService executor;
+    private int baskets;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = EventStoreTestDatabase.reset();
+        eventStore = EventStoreTestDatabase.eventStore(dataSource);
+        transactionTemplate = EventStoreTestDatabase.transactionTemplate(dataSource);
+        checkpointStore = new JdbcProjectionCheckpointStore(new JdbcTemplate(dataSource));
+        meterRegistry = new SimpleMeterRegistry();
+        projection = new BasketItemsProjection();
+        // Pages of five split over four workers, so most pages are handled by several of them
+        engine = new ProjectionEngine(
+                eventStore,
+                checkpointStore,
+                transactionTemplate,
+                List.of(projection),
+                4,
+                5,
+                POLL_INTERVAL,
+                meterRegistry);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (engine.isRunning()) {
+            engine.stop();
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    void start_ShouldCatchUpAndThenFollowLog() {
+        appendRounds(6, 5);
+
+        engine.start();
+        awaitPosition(30);
+        appendRounds(2, 5);
+        awaitPosition(40);
+
+        assertThat(projection.appliedPositions()).hasSize(40).doesNotHaveDuplicates();
+        assertThat(projection.deliveries.values()).containsOnly(1);
+        projection.applied.values().forEach(positions -> assertThat(positions).isSorted());
+        assertThat(checkpointStore.getPosition(projection.getName())).isEqualTo(40L);
+        assertThat(lag()).isZero();
+    }
+
+    @Test
+    void start_ShouldWaitForEventsCommittedOutOfOrder() throws Exception {
+        engine.start();
+        CountDownLatch appended = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> open = CompletableFuture.runAsync(
+                () -> transactionTemplate.executeWithoutResult(status -> {
+                    eventStore.saveEvents("basket-open", List.of(new ItemAdded("basket-open", 1L, "apple")), 0L);
+                    appended.countDown();
+                    await(commit);
+                }),
+                executor);
+        assertThat(appended.await(10, TimeUnit.SECONDS)).isTrue();
+        // Position 2 commits while position 1 is still open; handling it now would skip position 1 for good
+        eventStore.saveEvents("basket-1", List.of(new ItemAdded("basket-1", 1L, "pear")), 0L);
+
+        Thread.sleep(POLL_INTERVAL.multipliedBy(10).toMillis());
+        assertThat(projection.appliedPositions()).isEmpty();
+        assertThat(engine.getPosition(projection.getName())).isZero();
+        assertThat(lag()).isEqualTo(2.0);
+
+        commit.countDown();
+        open.get(10, TimeUnit.SECONDS);
+        awaitPosition(2);
+        assertThat(projection.appliedPositions()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void rebuild_ShouldResetReadModelAndReplayLog() {
+        appendRounds(4, 5);
+        engine.start();
+        awaitPosition(20);
+
+        engine.rebuild(projection.getName());
+        awaitPosition(20);
+
+        assertThat(projection.resets.get()).isEqualTo(1);
+        assertThat(projection.appliedPositions()).hasSize(20).doesNotHaveDuplicates();
+        assertThat(projection.deliveries.values()).containsOnly(2);
+    }
+
+    @Test
+    void start_WhenPageFails_ShouldRedeliverItFromCheckpoint() {
+        projection.failOnce.add(7L);
+        appendRounds(4, 5);
+
+        engine.start();
+        awaitPosition(20);
+
+        assertThat(projection.deliveries.get(7L)).isEqualTo(2);
+        for (long position = 1; position <= 5; position++) {
+            assertThat(projection.deliveries.get(position)).isEqualTo(1);
+        }
+        for (long position = 11; position <= 20; position++) {
+            assertThat(projection.deliveries.get(position)).isEqualTo(1);
+        }
+        assertThat(projection.appliedPositions()).hasSize(20).doesNotHaveDuplicates();
+        projection.applied.values().forEach(positions -> assertThat(positions).isSorted());
+    }
+
+    /** Appends one event to each basket per round, so consecutive positions belong to different baskets. */
+    private void appendRounds(int count, int rounds) {
+        int first = baskets;
+        baskets += count;
+        for (long version = 1; version <= rounds; version++) {
+            for (int b = first; b < baskets; b++) {
+                String basket = "basket-" + b;
+                DomainEvent event = version < rounds
+                        ? new ItemAdded(basket, version, "item-" + version)
+                        : new ItemRemoved(basket, version, "item-1");
+                eventStore.saveEvents(basket, List.of(event), version - 1);
+            }
+        }
+    }
+
+    private void awaitPosition(long position) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (engine.getPosition(projection.getName()) < position) {
+            assertThat(System.nanoTime())
+                    .as("projection never reached " + position)
+                    .isLessThan(deadline);
+            sleep(POLL_INTERVAL);
+        }
+    }
+
+    private double lag() {
+        return meterRegistry
+                .get("events.projection.lag")
+                .tag("projection", projection.getName())
+                .gauge()
+                .value();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for the test");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Keeps the positions applied to each basket, skipping any at or before the last one applied, as an
+     * idempotent projection would; counts every delivery, including those it skips.
+     */
+    private static class BasketItemsProjection implements Projection {
+
+        private final Map<String, List<Long>> applied = new ConcurrentHashMap<>();
+        private final Map<Long, Integer> deliveries = new ConcurrentHashMap<>();
+        private final Set<Long> failOnce = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger resets = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return "basket-items";
+        }
+
+        @Override
+        public Set<Class<? extends DomainEvent>> getEventTypes() {
+            return Set.of(ItemAdded.class, ItemRemoved.class);
+        }
+
+        @Override
+        public void handle(StoredEvent event) {
+            long position = event.getPosition();
+            deliveries.merge(position, 1, Integer::sum);
+            if (failOnce.remove(position)) {
+                throw new IllegalStateException("Failed to handle position " + position);
+            }
+            List<Long> positions = applied.computeIfAbsent(event.getEvent().getAggregateId(), id -> new ArrayList<>());
+            if (positions.isEmpty() || positions.get(positions.size() - 1) < position) {
+                positions.add(position);
+            }
+        }
+
+        @Override
+        public void reset() {
+            resets.incrementAndGet();
+            applied.clear();
+        }
+
+        private List<Long> appliedPositions() {
+            return applied.values().stream().flatMap(List::stream).toList();
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.example.core.events.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.core.events.ConcurrencyConflictException;
+import com.example.core.events.DomainEvent;
+import com.example.core.events.EventStoreTestDatabase;
+import com.example.core.events.ItemAdded;
+import com.example.core.events.ItemRemoved;
+import com.example.core.events.StoredEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class JdbcEventStoreTest {
+
+    private static final String BASKET = "basket-1";
+
+    private DataSource dataSource;
+    private JdbcEventStore eventStore;
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = EventStoreTestDatabase.reset();
+        eventStore = EventStoreTestDatabase.eventStore(dataSource);
+        transactionTemplate = EventStoreTestDatabase.transactionTemplate(dataSource);
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void saveEvents_ShouldAppendEventsAndReadThemBackInVersionOrder() {
+        eventStore.saveEvents(
+                BASKET, List.of(new ItemAdded(BASKET, 1L, "apple"), new ItemAdded(BASKET, 2L, "pear")), 0L);
+        eventStore.saveEvents(BASKET, List.of(new ItemRemoved(BASKET, 3L, "apple")), 2L);
+
+        List<DomainEvent> events = eventStore.getEvents(BASKET);
+
+        assertThat(events).extracting(DomainEvent::getVersion).containsExactly(1L, 2L, 3L);
+        assertThat(events)
+                .extracting(DomainEvent::getEventType)
+                .containsExactly("ItemAdded", "ItemAdded", "ItemRemoved");
+        assertThat(((ItemAdded) events.get(1)).getItem()).isEqualTo("pear");
+        assertThat(eventStore.getEvents(BASKET, 3L)).hasSize(1);
+    }
+
+    @Test
+    void saveEvents_WithStaleExpectedVersion_ShouldThrowConcurrencyConflict() {
+        eventStore.saveEvents(BASKET, List.of(new ItemAdded(BASKET, 1L, "apple")), 0L);
+
+        assertThatThrownBy(() -> eventStore.saveEvents(BASKET, List.of(new ItemAdded(BASKET, 1L, "pear")), 0L))
+                .isInstanceOf(ConcurrencyConflictException.class);
+        assertThat(eventStore.getEvents(BASKET)).hasSize(1);
+    }
+
+    @Test
+    void saveEvents_WithoutExpectedVersion_ShouldStillRejectDuplicateVersion() {
+        eventStore.saveEvents(BASKET, List.of(new ItemAdded(BASKET, 1L, "apple")), null);
+
+        assertThatThrownBy(() -> eventStore.saveEvents(BASKET, List.of(new ItemAdded(BASKET, 1L, "pear")), null))
+                .isInstanceOf(ConcurrencyConflictException.class);
+    }
+
+    @Test
+    void saveEvents_ShouldRejectEventsThatDoNotFollowExpectedVersion() {
+        assertThatThrownBy(() -> eventStore.saveEvents(BASKET, List.of(new ItemAdded(BASKET, 2L, "apple")), 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> eventStore.saveEvents(BASKET, List.of(new ItemAdded("basket-2", 1L, "apple")), 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void saveEvents_WhenConcurrentAppendCommitsFirst_ShouldThrowConcurrencyConflict() throws Exception {
+        eventStore.saveEvents(BASKET, List.of(new ItemAdded(BASKET, 1L, "apple")), 0L);
+        CountDownLatch firstAppended = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(
+                () -> transactionTemplate.executeWithoutResult(status -> {
+                    eventStore.saveEvents(BASKET, List.of(new ItemAdded(BASKET, 2L, "pear")), 1L);
+                    firstAppended.countDown();
+                    await(commitFirst);
+                }),
+                executor);
+        assertThat(firstAppended.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // Both writers loaded version 1; the second passes the version check against committed rows and then
+        // waits on the first one's uncommitted version 2
+        CompletableFuture<Void> second = CompletableFuture.runAsync(
+                () -> eventStore.saveEvents(BASKET, List.of(new ItemAdded(BASKET, 2L, "plum")), 1L), executor);
+        awaitBlockedOnLock();
+        commitFirst.countDown();
+
+        first.get(10, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> second.get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ConcurrencyConflictException.class);
+        List<DomainEvent> events = eventStore.getEvents(BASKET);
+        assertThat(events).extracting(DomainEvent::getVersion).containsExactly(1L, 2L);
+        assertThat(((ItemAdded) events.get(1)).getItem()).isEqualTo("pear");
+    }
+
+    @Test
+    void saveEvents_UnderContention_ShouldKeepVersionsContiguous() throws Exception {
+        int writers = 8;
+        int appendsPerWriter = 10;
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<CompletableFuture<Void>> running = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            String item = "writer-" + w;
+            running.add(CompletableFuture.runAsync(
+                    () -> {
+                        await(start);
+                        for (int i = 0; i < appendsPerWriter; ) {
+                            // Load, decide, append: retried from the load whenever another writer got in first
+                            long version = eventStore.getEvents(BASKET).size();
+                            try {
+                                eventStore.saveEvents(
+                                        BASKET, List.of(new ItemAdded(BASKET, version + 1, item)), version);
+                                i++;
+                            } catch (ConcurrencyConflictException e) {
+                                conflicts.incrementAndGet();
+                            }
+                        }
+                    },
+                    executor));
+        }
+        start.countDown();
+        CompletableFuture.allOf(running.toArray(new CompletableFuture<?>[0])).get(60, TimeUnit.SECONDS);
+
+        List<Long> versions = eventStore.getEvents(BASKET).stream()
+                .map(DomainEvent::getVersion)
+                .toList();
+        assertThat(versions).hasSize(writers * appendsPerWriter);
+        for (int i = 0; i < versions.size(); i++) {
+            assertThat(versions.get(i)).isEqualTo(i + 1L);
+        }
+        assertThat(conflicts.get()).isPositive();
+    }
+
+    @Test
+    void readEvents_ShouldPageThroughLogWithoutSkippingOrRepeating() {
+        appendBaskets(5, 5);
+
+        List<Long> positions = new ArrayList<>();
+        long after = 0;
+        List<StoredEvent> page;
+        do {
+            page = eventStore.readEvents(after, 7);
+            page.forEach(event -> positions.add(event.getPosition()));
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getPosition();
+            }
+        } while (page.size() == 7);
+
+        assertThat(positions).hasSize(25).doesNotHaveDuplicates().isSorted();
+        assertThat(eventStore.readEvents(after, 7)).isEmpty();
+    }
+
+    @Test
+    void readEvents_WhenEventsAreAppendedBetweenPages_ShouldPickThemUpOnce() {
+        appendBaskets(2, 3);
+        List<StoredEvent> first = eventStore.readEvents(0, 4);
+
+        appendBaskets(3, 2);
+        List<StoredEvent> second = eventStore.readEvents(first.get(3).getPosition(), 100);
+
+        List<String> eventIds = new ArrayList<>();
+        first.forEach(event -> eventIds.add(event.getEvent().getEventId()));
+        second.forEach(event -> eventIds.add(event.getEvent().getEventId()));
+        assertThat(eventIds).hasSize(12).doesNotHaveDuplicates();
+        assertThat(second).extracting(StoredEvent::getPosition).isSorted().allMatch(position -> position > 4);
+    }
+
+    @Test
+    void readEventsByType_ShouldPageThroughEventsOfOneType() {
+        appendBaskets(4, 3);
+
+        List<StoredEvent> first = eventStore.readEventsByType("ItemRemoved", 0, 3);
+        List<StoredEvent> second =
+                eventStore.readEventsByType("ItemRemoved", first.get(2).getPosition(), 3);
+
+        assertThat(first).hasSize(3);
+        assertThat(second).hasSize(1);
+        assertThat(first.get(2).getPosition()).isLessThan(second.get(0).getPosition());
+        assertThat(second.get(0).getEvent()).isInstanceOf(ItemRemoved.class);
+    }
+
+    @Test
+    void readEvents_WithTypesAndUpperBound_ShouldStopAtToPosition() {
+        appendBaskets(3, 3);
+
+        List<StoredEvent> events = eventStore.readEvents(List.of("ItemAdded", "ItemRemoved"), 2, 7, 100);
+
+        assertThat(events).extracting(StoredEvent::getPosition).containsExactly(3L, 4L, 5L, 6L, 7L);
+        assertThat(eventStore.readEvents(List.of("ItemAdded"), 0, 9, 100)).hasSize(6);
+    }
+
+    @Test
+    void forEachBatch_ShouldHandEveryEventOnceAndReturnLastPosition() {
+        appendBaskets(4, 3);
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Long> positions = new ArrayList<>();
+
+        // Twelve events in pages of four: the last full page is followed by an empty read
+        long last = eventStore.forEachBatch(0, 4, batch -> {
+            batchSizes.add(batch.size());
+            batch.forEach(event -> positions.add(event.getPosition()));
+        });
+
+        assertThat(batchSizes).containsExactly(4, 4, 4);
+        assertThat(positions).hasSize(12).doesNotHaveDuplicates().isSorted();
+        assertThat(last).isEqualTo(12L);
+        assertThat(eventStore.forEachBatch(last, 4, batch -> batchSizes.add(-1)))
+                .isEqualTo(12L);
+        assertThat(batchSizes).hasSize(3);
+    }
+
+    @Test
+    void streamEvents_ShouldReadAllEventsAfterPositionThroughCursor() {
+        appendBaskets(5, 5);
+        List<Long> positions = new ArrayList<>();
+        List<Long> removals = new ArrayList<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventStore.streamEvents(3, 4, event -> positions.add(event.getPosition()));
+            eventStore.streamEventsByType("ItemRemoved", 0, 2, event -> removals.add(event.getPosition()));
+        });
+
+        assertThat(positions)
+                .hasSize(22)
+                .doesNotHaveDuplicates()
+                .isSorted()
+                .first()
+                .isEqualTo(4L);
+        assertThat(removals).containsExactly(5L, 10L, 15L, 20L, 25L);
+    }
+
+    @Test
+    void getStablePosition_ShouldNotPassAppendThatIsStillOpen() throws Exception {
+        CountDownLatch appended = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> open = CompletableFuture.runAsync(
+                () -> transactionTemplate.executeWithoutResult(status -> {
+                    eventStore.saveEvents("basket-open", List.of(new ItemAdded("basket-open", 1L, "apple")), 0L);
+                    appended.countDown();
+                    await(commit);
+                }),
+                executor);
+        assertThat(appended.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // Committed after the open append drew position 1, so readers can see position 2 but not 1
+        eventStore.saveEvents(BASKET, List.of(new ItemAdded(BASKET, 1L, "pear")), 0L);
+        for (int i = 0; i < 3; i++) {
+            assertThat(eventStore.getStablePosition()).isZero();
+        }
+        assertThat(eventStore.getLastPosition()).isEqualTo(2L);
+
+        commit.countDown();
+        open.get(10, TimeUnit.SECONDS);
+        assertThat(eventStore.getStablePosition()).isEqualTo(2L);
+    }
+
+    @Test
+    void getStablePosition_ShouldNotWaitForReadersOrOtherWriters() throws Exception {
+        appendBaskets(2, 3);
+        CountDownLatch reading = new CountDownLatch(2);
+        CountDownLatch finish = new CountDownLatch(1);
+        // Idle in a transaction that holds a transaction id, as any writer to another table does
+        CompletableFuture<Void> idle = CompletableFuture.runAsync(
+                () -> transactionTemplate.executeWithoutResult(status -> {
+                    new JdbcTemplate(dataSource)
+                            .update(
+                                    "INSERT INTO projection_checkpoints (projection_name, position) VALUES ('other', 0)");
+                    reading.countDown();
+                    await(finish);
+                }),
+                executor);
+        CompletableFuture<Void> streaming = CompletableFuture.runAsync(
+                () -> transactionTemplate.executeWithoutResult(status -> eventStore.streamEvents(0, 1, event -> {
+                    if (event.getPosition() == 1) {
+                        reading.countDown();
+                        await(finish);
+                    }
+                })),
+                executor);
+        assertThat(reading.await(10, TimeUnit.SECONDS)).isTrue();
+
+        appendBaskets(1, 2);
+        eventStore.getStablePosition();
+
+        assertThat(eventStore.getStablePosition()).isEqualTo(8L);
+        finish.countDown();
+        CompletableFuture.allOf(idle, streaming).get(10, TimeUnit.SECONDS);
+    }
+
+    private void appendBaskets(int baskets, int eventsPerBasket) {
+        // Each basket gets its items added and the last one removed again, in one append
+        for (int b = 0; b < baskets; b++) {
+            String basket = "basket-" + UUID.randomUUID();
+            List<DomainEvent> events = new ArrayList<>();
+            for (long v = 1; v < eventsPerBasket; v++) {
+                events.add(new ItemAdded(basket, v, "item-" + v));
+            }
+            events.add(new ItemRemoved(basket, (long) eventsPerBasket, "item-" + (eventsPerBasket - 1)));
+            eventStore.saveEvents(basket, events, 0L);
+        }
+    }
+
+    private void awaitBlockedOnLock() throws InterruptedException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'"
+                                + " AND datname = current_database()",
+                        Integer.class)
+                == 0) {
+            assertThat(System.nanoTime()).as("append never blocked").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for the other writer");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.core.messaging.config;
+
+import com.example.core.messaging.serialization.BinaryEventDeserializer;
+import com.example.core.messaging.serialization.EventSchemaRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * Listener container factory for high-volume consumers that process thousands of records per poll, used
+ * together with {@link com.example.core.messaging.consumer.BatchEventConsumer}.
+ *
+ * <p>Offsets are committed once per poll ({@link ContainerProperties.AckMode#BATCH}). When a listener
+ * reports the index of a failed record, the records before it are committed and the remainder of the poll is
+ * redelivered with a fixed back-off; after the last attempt the failed record is logged and skipped.
+ */
+@Configuration
+public class BatchConsumerConfig {
+
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchConsumerConfig.class);
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${spring.kafka.consumer.group-id:default-group}")
+    private String groupId;
+
+    @Value("${messaging.kafka.batch.concurrency:3}")
+    private int concurrency;
+
+    @Value("${messaging.kafka.batch.max-poll-records:2000}")
+    private int maxPollRecords;
+
+    @Value("${messaging.kafka.batch.fetch-min-bytes:65536}")
+    private int fetchMinBytes;
+
+    @Value("${messaging.kafka.batch.fetch-max-wait:500ms}")
+    private Duration fetchMaxWait;
+
+    @Value("${messaging.kafka.batch.max-partition-fetch-bytes:4194304}")
+    private int maxPartitionFetchBytes;
+
+    @Value("${messaging.kafka.batch.retry-interval:1s}")
+    private Duration retryInterval;
+
+    @Value("${messaging.kafka.batch.max-retries:3}")
+    private long maxRetries;
+
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(
+            ObjectMapper objectMapper, EventSchemaRegistry eventSchemaRegistry) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) fetchMaxWait.toMillis());
+        props.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, maxPartitionFetchBytes);
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+
+        // A record that cannot be deserialized arrives as a null value instead of failing the whole poll
+        ErrorHandlingDeserializer<Object> valueDeserializer = new ErrorHandlingDeserializer<>(
+                new BinaryEventDeserializer(eventSchemaRegistry, new JsonDeserializer<>(objectMapper)));
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(
+                new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), valueDeserializer));
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                (record, exception) -> logger.error(
+                        "Skipping record {}-{}@{} after {} retries",
+                        record.topic(),
+                        record.partition(),
+                        record.offset(),
+                        maxRetries,
+                        exception),
+                new FixedBackOff(retryInterval.toMillis(), maxRetries)));
+        return factory;
+    }
+}
@@ -1,12 +1,21 @@
 package com.example.core.messaging.config;
 
+import com.example.core.messaging.serialization.BinaryEventDeserializer;
+import com.example.core.messaging.serialization.BinaryEventSerializer;
+import com.example.core.messaging.serialization.EventSchema;
+import com.example.core.messaging.serialization.EventSchemaRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,18 +36,54 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id:default-group}")
     private String groupId;
 
+    @Value("${messaging.kafka.producer.profile:low-latency}")
+    private String producerProfile;
+
+    @Value("${messaging.kafka.producer.compression-type:}")
+    private String compressionType;
+
+    @Value("${messaging.kafka.serialization:json}")
+    private String serialization;
+
+    @Bean
+    public EventSchemaRegistry eventSchemaRegistry(ObjectProvider<EventSchema<?>> schemas) {
+        return new EventSchemaRegistry(schemas.orderedStream().toList());
+    }
+
+    /**
+     * Value serializer for events, selected with {@code messaging.kafka.serialization}: {@code json}, or
+     * {@code binary} for {@link BinaryEventSerializer} with JSON for events that have no registered schema.
+     */
+    @Bean
+    public Serializer<Object> eventSerializer(ObjectMapper objectMapper, EventSchemaRegistry eventSchemaRegistry) {
+        JsonSerializer<Object> json = new JsonSerializer<>(objectMapper);
+        return switch (serialization) {
+            case "json" -> json;
+            case "binary" -> new BinaryEventSerializer(eventSchemaRegistry, json);
+            default -> throw new IllegalArgumentException("Unknown event serialization: " + serialization);
+        };
+    }
+
     @Bean
-    public ProducerFactory<String, Object> producerFactory(ObjectMapper objectMapper) {
+    public ProducerFactory<String, Object> producerFactory(
+            Serializer<Object> eventSerializer, ObjectProvider<MeterRegistry> meterRegistry) {
+        ProducerProfile profile = ProducerProfile.fromName(producerProfile);
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         props.put(ProducerConfig.ACKS_CONFIG, "all");
         props.put(ProducerConfig.RETRIES_CONFIG, 3);
         props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        profile.applyTo(props);
+        if (!compressionType.isBlank()) {
+            props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        }
 
         DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(props);
-        factory.setValueSerializer(new JsonSerializer<>(objectMapper));
+        factory.setValueSerializer(eventSerializer);
+        // Exposes the client's kafka.producer.* metrics (batch size, record rate, queue time) per profile
+        meterRegistry.ifAvailable(registry -> factory.addListener(
+                new MicrometerProducerListener<>(registry, List.of(Tag.of("profile", profile.getName())))));
         return factory;
     }
 
@@ -48,17 +93,19 @@ public class KafkaConfig {
     }
 
     @Bean
-    public ConsumerFactory<String, Object> consumerFactory(ObjectMapper objectMapper) {
+    public ConsumerFactory<String, Object> consumerFactory(
+            ObjectMapper objectMapper, EventSchemaRegistry eventSchemaRegistry) {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
 
         DefaultKafkaConsumerFactory<String, Object> factory = new DefaultKafkaConsumerFactory<>(props);
-        factory.setValueDeserializer(new JsonDeserializer<>(objectMapper));
+        // Reads both formats, so consumers keep working while producers switch serialization
+        factory.setValueDeserializer(
+                new BinaryEventDeserializer(eventSchemaRegistry, new JsonDeserializer<>(objectMapper)));
         return factory;
     }
 
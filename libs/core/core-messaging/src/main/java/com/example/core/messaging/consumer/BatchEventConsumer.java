@@ -0,0 +1,118 @@
+package com.example.core.messaging.consumer;
+
+import com.example.core.messaging.event.BaseEvent;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+/**
+ * Base class for consumers of a batch listener container (see
+ * {@link com.example.core.messaging.config.BatchConsumerConfig#BATCH_LISTENER_CONTAINER_FACTORY}). Subclasses
+ * declare a {@code @KafkaListener} method that passes the polled records to {@link #consume(List)} and
+ * implement {@link #handle(List)}, which receives the events of the expected type in chunks of at most
+ * {@code chunkSize}.
+ *
+ * <p>When a chunk fails, the failure is reported to the container as the index of the first unprocessed
+ * record. Records before it are committed, and the failed record and the rest of the poll are retried; once
+ * retries are exhausted only the failed record is skipped. Handlers that know exactly which event failed
+ * should throw {@link EventBatchFailedException}; any other exception fails the chunk from its first event.
+ * Records that could not be deserialized fail immediately without retries.
+ *
+ * <pre>
+ * &#64;Component
+ * public class UserEventsConsumer extends BatchEventConsumer&lt;BaseEvent&gt; {
+ *
+ *     &#64;KafkaListener(topics = "user-events", containerFactory = BATCH_LISTENER_CONTAINER_FACTORY)
+ *     public void onEvents(List&lt;ConsumerRecord&lt;String, Object&gt;&gt; records) {
+ *         consume(records);
+ *     }
+ *
+ *     &#64;Override
+ *     protected void handle(List&lt;BaseEvent&gt; events) { ... }
+ * }
+ * </pre>
+ */
+public abstract class BatchEventConsumer<E extends BaseEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchEventConsumer.class);
+    private static final LogAccessor logAccessor = new LogAccessor(BatchEventConsumer.class);
+
+    private final Class<E> eventType;
+    private final int chunkSize;
+
+    protected BatchEventConsumer(Class<E> eventType, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.eventType = eventType;
+        this.chunkSize = chunkSize;
+    }
+
+    protected abstract void handle(List<E> events);
+
+    public void consume(List<ConsumerRecord<String, Object>> records) {
+        List<E> chunk = new ArrayList<>(Math.min(chunkSize, records.size()));
+        // Index in records of each event in the chunk, to translate handler failures back to offsets
+        int[] recordIndexes = new int[chunkSize];
+
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, Object> record = records.get(i);
+            Object value = record.value();
+            if (value == null) {
+                rejectIfUndeserializable(record, i, chunk, recordIndexes);
+                continue;
+            }
+            if (!eventType.isInstance(value)) {
+                logger.debug(
+                        "Skipping {} at {}-{}@{}",
+                        value.getClass().getSimpleName(),
+                        record.topic(),
+                        record.partition(),
+                        record.offset());
+                continue;
+            }
+            recordIndexes[chunk.size()] = i;
+            chunk.add(eventType.cast(value));
+            if (chunk.size() == chunkSize) {
+                handleChunk(chunk, recordIndexes);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            handleChunk(chunk, recordIndexes);
+        }
+    }
+
+    private void handleChunk(List<E> chunk, int[] recordIndexes) {
+        try {
+            handle(List.copyOf(chunk));
+        } catch (EventBatchFailedException e) {
+            int failed = Math.max(0, Math.min(e.getFailedIndex(), chunk.size() - 1));
+            throw new BatchListenerFailedException(e.getMessage(), e.getCause(), recordIndexes[failed]);
+        } catch (RuntimeException e) {
+            throw new BatchListenerFailedException("Event batch failed", e, recordIndexes[0]);
+        }
+    }
+
+    private void rejectIfUndeserializable(
+            ConsumerRecord<String, Object> record, int index, List<E> chunk, int[] recordIndexes) {
+        DeserializationException failure = SerializationUtils.getExceptionFromHeader(
+                record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, logAccessor);
+        if (failure == null) {
+            // Tombstone
+            return;
+        }
+        // Hand over what precedes the poison record so that it is committed before the record is skipped
+        if (!chunk.isEmpty()) {
+            handleChunk(chunk, recordIndexes);
+            chunk.clear();
+        }
+        throw new BatchListenerFailedException("Undeserializable record", failure, index);
+    }
+}
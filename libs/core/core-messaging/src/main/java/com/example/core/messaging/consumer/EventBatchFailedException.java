@@ -0,0 +1,20 @@
+package com.example.core.messaging.consumer;
+
+/**
+ * Thrown by a {@link BatchEventConsumer} handler to report which event of its chunk failed. Events before
+ * {@code failedIndex} are treated as processed and committed; the failed event and everything after it are
+ * redelivered.
+ */
+public class EventBatchFailedException extends RuntimeException {
+
+    private final int failedIndex;
+
+    public EventBatchFailedException(int failedIndex, Throwable cause) {
+        super("Event " + failedIndex + " of batch failed", cause);
+        this.failedIndex = failedIndex;
+    }
+
+    public int getFailedIndex() {
+        return failedIndex;
+    }
+}
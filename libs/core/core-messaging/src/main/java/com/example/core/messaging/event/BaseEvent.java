@@ -7,17 +7,29 @@ import java.util.UUID;
 public abstract class BaseEvent {
 
     @JsonProperty("eventId")
-    private final String eventId = UUID.randomUUID().toString();
+    private final String eventId;
 
     @JsonProperty("eventType")
     private final String eventType = this.getClass().getSimpleName();
 
     @JsonProperty("timestamp")
-    private final Instant timestamp = Instant.now();
+    private final Instant timestamp;
 
     @JsonProperty("version")
     private final String version = "1.0";
 
+    protected BaseEvent() {
+        this(UUID.randomUUID().toString(), Instant.now());
+    }
+
+    /**
+     * Restores the identity of an event that is being deserialized.
+     */
+    protected BaseEvent(String eventId, Instant timestamp) {
+        this.eventId = eventId;
+        this.timestamp = timestamp;
+    }
+
     public String getEventId() {
         return eventId;
     }
@@ -0,0 +1,68 @@
+package com.example.core.messaging.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "messaging.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfig {
+
+    @Value("${messaging.kafka.producer.profile:low-latency}")
+    private String producerProfile;
+
+    @Value("${messaging.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${messaging.outbox.send-timeout-ms:30000}")
+    private long sendTimeoutMillis;
+
+    @Value("${messaging.outbox.relay.lease-ms:60000}")
+    private long leaseMillis;
+
+    /**
+     * Payloads are stored serialized, so the relay sends the raw bytes with the same producer settings as the
+     * shared template instead of serializing them a second time.
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> outboxKafkaTemplate(
+            ProducerFactory<String, Object> producerFactory, ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<String, Object> props = producerFactory.getConfigurationProperties();
+        DefaultKafkaProducerFactory<String, byte[]> factory =
+                new DefaultKafkaProducerFactory<>(props, new StringSerializer(), new ByteArraySerializer());
+        meterRegistry.ifAvailable(registry -> factory.addListener(new MicrometerProducerListener<>(
+                registry, List.of(Tag.of("profile", producerProfile), Tag.of("template", "outbox")))));
+        return new KafkaTemplate<>(factory);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            KafkaTemplate<String, byte[]> outboxKafkaTemplate) {
+        return new OutboxRelay(
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                outboxKafkaTemplate,
+                batchSize,
+                sendTimeoutMillis,
+                leaseMillis);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.core.messaging.outbox;
+
+public class OutboxEvent {
+
+    private final long id;
+    private final String topic;
+    private final String key;
+    private final String type;
+    private final byte[] payload;
+
+    public OutboxEvent(long id, String topic, String key, String type, byte[] payload) {
+        this.id = id;
+        this.topic = topic;
+        this.key = key;
+        this.type = type;
+        this.payload = payload;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+}
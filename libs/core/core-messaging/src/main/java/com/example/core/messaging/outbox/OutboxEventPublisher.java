@@ -0,0 +1,64 @@
+package com.example.core.messaging.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.apache.kafka.common.serialization.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records events in the {@code outbox_events} table as part of the caller's transaction. Nothing is sent to
+ * Kafka here: {@link OutboxRelay} publishes the rows once they are committed, so rolled-back writes never
+ * emit events and a broker outage never loses them. Payloads are stored already serialized with the
+ * configured event serializer, exactly as they will be sent.
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxEventPublisher.class);
+
+    private static final String INSERT_EVENT =
+            """
+            INSERT INTO outbox_events (topic, event_key, event_type, payload)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Serializer<Object> eventSerializer;
+
+    public OutboxEventPublisher(JdbcTemplate jdbcTemplate, Serializer<Object> eventSerializer) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventSerializer = eventSerializer;
+    }
+
+    public void publishEvent(String topic, String key, Object event) {
+        logger.debug("Recording outbox event for topic: {} with key: {}", topic, key);
+        jdbcTemplate.update(
+                INSERT_EVENT, topic, key, event.getClass().getName(), eventSerializer.serialize(topic, event));
+    }
+
+    public void publishEvent(String topic, Object event) {
+        publishEvent(topic, null, event);
+    }
+
+    public <E> void publishEvents(String topic, List<E> events, Function<E, String> keyExtractor) {
+        if (events.isEmpty()) {
+            return;
+        }
+        logger.debug("Recording {} outbox events for topic: {}", events.size(), topic);
+
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (E event : events) {
+            rows.add(new Object[] {
+                topic, keyExtractor.apply(event), event.getClass().getName(), eventSerializer.serialize(topic, event)
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows);
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.core.messaging.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Publishes committed outbox rows to Kafka in batches and deletes them once the broker has acknowledged.
+ *
+ * <p>A single relay is active across replicas: before each batch it claims or renews a lease in
+ * {@code outbox_relay_lease}, and the other replicas skip their polls until it expires. Rows are read in
+ * insertion order and sent in waves that hold at most one event per key, each wave acknowledged before the
+ * next one is sent. A key whose send fails is not sent any further in that batch, so a later event can never
+ * reach the broker ahead of an earlier one; it stays in the outbox with the rest of its key's tail and is
+ * retried on the next poll, so delivery is at-least-once. Events without a key have no order to keep and all
+ * go in the first wave.
+ *
+ * <p>The lease, the read and the delete each run in their own short transaction, and no transaction or
+ * connection is held while waiting for Kafka. A batch stops sending new waves in time to finish within its
+ * lease.
+ */
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String LEASE_NAME = "outbox-relay";
+
+    private static final String CLAIM_LEASE =
+            """
+            INSERT INTO outbox_relay_lease (name, owner, expires_at)
+            VALUES (?, ?, CURRENT_TIMESTAMP + ? * INTERVAL '1 millisecond')
+            ON CONFLICT (name) DO UPDATE SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at
+            WHERE outbox_relay_lease.owner = EXCLUDED.owner OR outbox_relay_lease.expires_at < CURRENT_TIMESTAMP
+            """;
+
+    private static final String SELECT_BATCH =
+            """
+            SELECT id, topic, event_key, event_type, payload
+            FROM outbox_events
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String DELETE_PUBLISHED = "DELETE FROM outbox_events WHERE id = ANY(?)";
+
+    private static final RowMapper<OutboxEvent> ROW_MAPPER = (rs, rowNum) -> new OutboxEvent(
+            rs.getLong("id"),
+            rs.getString("topic"),
+            rs.getString("event_key"),
+            rs.getString("event_type"),
+            rs.getBytes("payload"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final int batchSize;
+    private final long sendTimeoutMillis;
+    private final long leaseMillis;
+    private final String owner = UUID.randomUUID().toString();
+
+    public OutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            KafkaTemplate<String, byte[]> kafkaTemplate,
+            int batchSize,
+            long sendTimeoutMillis,
+            long leaseMillis) {
+        if (leaseMillis <= sendTimeoutMillis) {
+            throw new IllegalArgumentException("The relay lease (" + leaseMillis
+                    + " ms) must be longer than the send timeout (" + sendTimeoutMillis + " ms)");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.leaseMillis = leaseMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${messaging.outbox.poll-interval:200ms}")
+    public void relay() {
+        // Keep draining while whole batches get through, then wait for the next poll
+        int published;
+        do {
+            published = relayBatch();
+        } while (published == batchSize);
+    }
+
+    /**
+     * Publishes one batch and returns how many rows were removed from the outbox.
+     */
+    public int relayBatch() {
+        // Measured from before the claim, so the local deadline never outlives the lease the database grants
+        long leaseDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseMillis);
+        Integer claimed =
+                transactionTemplate.execute(status -> jdbcTemplate.update(CLAIM_LEASE, LEASE_NAME, owner, leaseMillis));
+        if (claimed == null || claimed == 0) {
+            return 0;
+        }
+        List<OutboxEvent> events =
+                transactionTemplate.execute(status -> jdbcTemplate.query(SELECT_BATCH, ROW_MAPPER, batchSize));
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        Long[] published = publish(events, leaseDeadline);
+        if (published.length > 0) {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                    DELETE_PUBLISHED, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", published))));
+        }
+        logger.debug("Relayed {} of {} outbox events", published.length, events.size());
+        return published.length;
+    }
+
+    private Long[] publish(List<OutboxEvent> events, long leaseDeadline) {
+        List<Deque<OutboxEvent>> pending = pendingByKey(events);
+        List<Long> published = new ArrayList<>(events.size());
+        // A wave may take up to the send timeout, so only start one that can finish within the lease
+        while (!pending.isEmpty()
+                && leaseDeadline - System.nanoTime() > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis)) {
+            List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(pending.size());
+            for (Deque<OutboxEvent> keyEvents : pending) {
+                futures.add(kafkaTemplate.send(toRecord(keyEvents.peekFirst())));
+            }
+            kafkaTemplate.flush();
+
+            long waveDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+            for (int i = 0; i < futures.size(); i++) {
+                Deque<OutboxEvent> keyEvents = pending.get(i);
+                OutboxEvent event = keyEvents.peekFirst();
+                try {
+                    futures.get(i).get(Math.max(0, waveDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    published.add(event.getId());
+                    keyEvents.removeFirst();
+                } catch (ExecutionException | TimeoutException e) {
+                    // Leave this key's remaining events for the next poll rather than let them overtake this one
+                    keyEvents.clear();
+                    logger.error(
+                            "Failed to relay outbox event {} to topic: {} with key: {}",
+                            event.getId(),
+                            event.getTopic(),
+                            event.getKey(),
+                            e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return published.toArray(Long[]::new);
+                }
+            }
+            pending.removeIf(Deque::isEmpty);
+        }
+        return published.toArray(Long[]::new);
+    }
+
+    /** Groups the events by topic and key, keeping their order; each event without a key is its own group. */
+    private static List<Deque<OutboxEvent>> pendingByKey(List<OutboxEvent> events) {
+        Map<String, Deque<OutboxEvent>> byKey = new LinkedHashMap<>();
+        List<Deque<OutboxEvent>> pending = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            if (event.getKey() == null) {
+                pending.add(new ArrayDeque<>(List.of(event)));
+                continue;
+            }
+            byKey.computeIfAbsent(event.getTopic() + '\u0000' + event.getKey(), key -> {
+                        Deque<OutboxEvent> keyEvents = new ArrayDeque<>();
+                        pending.add(keyEvents);
+                        return keyEvents;
+                    })
+                    .add(event);
+        }
+        return pending;
+    }
+
+    private static ProducerRecord<String, byte[]> toRecord(OutboxEvent event) {
+        ProducerRecord<String, byte[]> record =
+                new ProducerRecord<>(event.getTopic(), event.getKey(), event.getPayload());
+        // Same type header JsonSerializer writes, so existing JsonDeserializer consumers are unaffected
+        record.headers()
+                .add(
+                        AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                        event.getType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.core.messaging.producer;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
@@ -13,9 +16,17 @@ public class EventPublisher {
     private static final Logger logger = LoggerFactory.getLogger(EventPublisher.class);
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
-
-    public EventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
+    private final Executor callbackExecutor;
+
+    /**
+     * With {@code spring.threads.virtual.enabled}, send callbacks run on their own virtual threads instead of
+     * the producer's I/O thread, which every send on this node shares.
+     */
+    public EventPublisher(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
         this.kafkaTemplate = kafkaTemplate;
+        this.callbackExecutor = virtualThreads ? new VirtualThreadTaskExecutor("event-callback-") : Runnable::run;
     }
 
     public void publishEvent(String topic, String key, Object event) {
@@ -23,17 +34,19 @@ public class EventPublisher {
 
         CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(topic, key, event);
 
-        future.whenComplete((result, exception) -> {
-            if (exception == null) {
-                logger.info(
-                        "Event published successfully to topic: {} with key: {} at offset: {}",
-                        topic,
-                        key,
-                        result.getRecordMetadata().offset());
-            } else {
-                logger.error("Failed to publish event to topic: {} with key: {}", topic, key, exception);
-            }
-        });
+        future.whenCompleteAsync(
+                (result, exception) -> {
+                    if (exception == null) {
+                        logger.info(
+                                "Event published successfully to topic: {} with key: {} at offset: {}",
+                                topic,
+                                key,
+                                result.getRecordMetadata().offset());
+                    } else {
+                        logger.error("Failed to publish event to topic: {} with key: {}", topic, key, exception);
+                    }
+                },
+                callbackExecutor);
     }
 
     public void publishEvent(String topic, Object event) {
@@ -0,0 +1,77 @@
+package com.example.core.messaging.producer;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking counterpart of {@link EventPublisher} for the reactive stack. Each send completes when the
+ * broker acknowledges it, so callers compose on the outcome instead of registering callbacks. Nothing is sent
+ * until the returned {@link Mono} is subscribed.
+ *
+ * <p>{@link KafkaTemplate#send} itself can block, for up to {@code max.block.ms}, while the producer fetches
+ * topic metadata or waits for buffer space. Sends are therefore handed to the producer from the bounded
+ * elastic scheduler, never from an event loop thread.
+ */
+@Component
+@ConditionalOnClass(name = "reactor.core.publisher.Mono")
+public class ReactiveEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveEventPublisher.class);
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    public ReactiveEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    public Mono<SendResult<String, Object>> publishEvent(String topic, String key, Object event) {
+        return Mono.fromFuture(() -> kafkaTemplate.send(topic, key, event))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnSubscribe(subscription -> logger.info("Publishing event to topic: {} with key: {}", topic, key))
+                .doOnSuccess(result -> logger.info(
+                        "Event published successfully to topic: {} with key: {} at offset: {}",
+                        topic,
+                        key,
+                        result.getRecordMetadata().offset()))
+                .doOnError(exception ->
+                        logger.error("Failed to publish event to topic: {} with key: {}", topic, key, exception));
+    }
+
+    public Mono<SendResult<String, Object>> publishEvent(String topic, Object event) {
+        return publishEvent(topic, null, event);
+    }
+
+    /**
+     * Publishes a batch of events and completes once all are acknowledged. The records are handed to the
+     * producer back to back so they share producer batches rather than each waiting on its own request.
+     */
+    public <E> Mono<Void> publishEvents(String topic, List<E> events, Function<E, String> keyExtractor) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> {
+                    logger.info("Publishing {} events to topic: {}", events.size(), topic);
+                    CompletableFuture<?>[] futures = new CompletableFuture<?>[events.size()];
+                    for (int i = 0; i < events.size(); i++) {
+                        E event = events.get(i);
+                        futures[i] = kafkaTemplate.send(topic, keyExtractor.apply(event), event);
+                    }
+                    return CompletableFuture.allOf(futures);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::fromFuture)
+                .doOnSuccess(
+                        ignored -> logger.info("{} events published successfully to topic: {}", events.size(), topic))
+                .doOnError(exception ->
+                        logger.error("Failed to publish {} events to topic: {}", events.size(), topic, exception));
+    }
+}
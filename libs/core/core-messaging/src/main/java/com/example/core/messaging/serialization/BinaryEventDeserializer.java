@@ -0,0 +1,65 @@
+package com.example.core.messaging.serialization;
+
+import java.time.Instant;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Reads messages written by {@link BinaryEventSerializer}. Anything that does not start with the format's
+ * magic byte is passed to the fallback deserializer, so a topic can carry JSON and binary messages while
+ * producers are switched over.
+ */
+public class BinaryEventDeserializer implements Deserializer<Object> {
+
+    private final EventSchemaRegistry schemaRegistry;
+    private final Deserializer<Object> fallback;
+
+    public BinaryEventDeserializer(EventSchemaRegistry schemaRegistry, Deserializer<Object> fallback) {
+        this.schemaRegistry = schemaRegistry;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (fallback != null) {
+            fallback.configure(configs, isKey);
+        }
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length == 0 || data[0] != BinaryEventSerializer.MAGIC) {
+            if (fallback == null) {
+                throw new SerializationException("Not a binary event on topic " + topic);
+            }
+            return headers == null ? fallback.deserialize(topic, data) : fallback.deserialize(topic, headers, data);
+        }
+
+        BinaryEventReader in = new BinaryEventReader(data, 1);
+        int schemaId = in.readVarInt();
+        EventSchema<?> schema = schemaRegistry.forId(schemaId);
+        if (schema == null) {
+            throw new SerializationException("Unknown event schema id " + schemaId + " on topic " + topic);
+        }
+        String eventId = in.readUuid().toString();
+        Instant timestamp = in.readInstant();
+        return schema.read(eventId, timestamp, in);
+    }
+
+    @Override
+    public void close() {
+        if (fallback != null) {
+            fallback.close();
+        }
+    }
+}
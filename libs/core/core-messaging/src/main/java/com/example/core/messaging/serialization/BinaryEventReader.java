@@ -0,0 +1,93 @@
+package com.example.core.messaging.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Reads values written by {@link BinaryEventWriter}, in the same order.
+ */
+public class BinaryEventReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryEventReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varint at offset " + position);
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varlong at offset " + position);
+    }
+
+    public long readSignedVarLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public Long readNullableLong() {
+        return readByte() == 0 ? null : readSignedVarLong();
+    }
+
+    public String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public UUID readUuid() {
+        return new UUID(readFixedLong(), readFixedLong());
+    }
+
+    public Instant readInstant() {
+        long seconds = readSignedVarLong();
+        return Instant.ofEpochSecond(seconds, readVarInt());
+    }
+
+    private long readFixedLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void require(int length) {
+        if (length > buffer.length - position) {
+            throw new SerializationException("Truncated event: needed " + length + " bytes at offset " + position);
+        }
+    }
+}
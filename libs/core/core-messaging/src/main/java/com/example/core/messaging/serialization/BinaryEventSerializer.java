@@ -0,0 +1,86 @@
+package com.example.core.messaging.serialization;
+
+import com.example.core.messaging.event.BaseEvent;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Writes {@link BaseEvent}s in a compact schema-based binary format:
+ *
+ * <pre>
+ * magic byte (0x01) | schema id (varint) | event id (16 bytes) | timestamp (varlong seconds, varint nanos) | body
+ * </pre>
+ *
+ * The event type and version are implied by the schema id rather than repeated as strings in every message.
+ * Values without a registered schema are handed to the fallback serializer, typically JSON, which
+ * {@link BinaryEventDeserializer} recognises by the missing magic byte.
+ */
+public class BinaryEventSerializer implements Serializer<Object> {
+
+    static final byte MAGIC = 0x01;
+
+    private static final int INITIAL_CAPACITY = 128;
+
+    private final EventSchemaRegistry schemaRegistry;
+    private final Serializer<Object> fallback;
+
+    public BinaryEventSerializer(EventSchemaRegistry schemaRegistry, Serializer<Object> fallback) {
+        this.schemaRegistry = schemaRegistry;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (fallback != null) {
+            fallback.configure(configs, isKey);
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        EventSchema<BaseEvent> schema =
+                data instanceof BaseEvent event ? schemaRegistry.forType(event.getClass()) : null;
+        if (schema == null) {
+            if (fallback == null) {
+                throw new SerializationException(
+                        "No event schema registered for " + data.getClass().getName());
+            }
+            return headers == null ? fallback.serialize(topic, data) : fallback.serialize(topic, headers, data);
+        }
+
+        BaseEvent event = (BaseEvent) data;
+        BinaryEventWriter out = new BinaryEventWriter(INITIAL_CAPACITY);
+        out.writeByte(MAGIC);
+        out.writeVarInt(schema.getSchemaId());
+        out.writeUuid(parseEventId(event.getEventId()));
+        out.writeInstant(event.getTimestamp());
+        schema.write(event, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public void close() {
+        if (fallback != null) {
+            fallback.close();
+        }
+    }
+
+    private static UUID parseEventId(String eventId) {
+        try {
+            return UUID.fromString(eventId);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Event id is not a UUID: " + eventId, e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.core.messaging.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Appends primitive values to a growable buffer. Integers are written as unsigned LEB128 varints (zig-zag
+ * encoded where they may be negative), strings as a varint length prefix followed by UTF-8 bytes.
+ */
+public class BinaryEventWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryEventWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes a presence flag followed by the zig-zag encoded value.
+     */
+    public void writeNullableLong(Long value) {
+        if (value == null) {
+            writeByte(0);
+        } else {
+            writeByte(1);
+            writeSignedVarLong(value);
+        }
+    }
+
+    /**
+     * Writes {@code length + 1} so that zero can stand for {@code null}.
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    public void writeUuid(UUID value) {
+        writeFixedLong(value.getMostSignificantBits());
+        writeFixedLong(value.getLeastSignificantBits());
+    }
+
+    public void writeInstant(Instant value) {
+        writeSignedVarLong(value.getEpochSecond());
+        writeVarInt(value.getNano());
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writeFixedLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.core.messaging.serialization;
+
+import com.example.core.messaging.event.BaseEvent;
+import java.time.Instant;
+
+/**
+ * Binary layout of one {@link BaseEvent} type. The schema id is written into every message in place of the
+ * class name, so ids must be unique and never reused; an incompatible change to the layout gets a new id
+ * while the old schema stays registered until its messages have aged out.
+ *
+ * <p>The common event header (id and timestamp) is handled by {@link BinaryEventSerializer}; schemas only
+ * write and read the event's own fields.
+ */
+public interface EventSchema<E extends BaseEvent> {
+
+    int getSchemaId();
+
+    Class<E> getEventType();
+
+    void write(E event, BinaryEventWriter out);
+
+    E read(String eventId, Instant timestamp, BinaryEventReader in);
+}
@@ -0,0 +1,41 @@
+package com.example.core.messaging.serialization;
+
+import com.example.core.messaging.event.BaseEvent;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process lookup of {@link EventSchema}s, standing in for an external schema registry. Every registered id
+ * can be read; when several schemas exist for one event type, the one with the highest id is used to write.
+ */
+public class EventSchemaRegistry {
+
+    private final Map<Integer, EventSchema<?>> schemasById = new HashMap<>();
+    private final Map<Class<?>, EventSchema<?>> schemasByType = new HashMap<>();
+
+    public EventSchemaRegistry(List<EventSchema<?>> schemas) {
+        for (EventSchema<?> schema : schemas) {
+            EventSchema<?> clash = schemasById.putIfAbsent(schema.getSchemaId(), schema);
+            if (clash != null) {
+                throw new IllegalStateException("Schema id " + schema.getSchemaId() + " is used by both "
+                        + clash.getEventType().getName() + " and "
+                        + schema.getEventType().getName());
+            }
+            // Older layouts stay readable; new messages are always written with the highest id
+            schemasByType.merge(
+                    schema.getEventType(),
+                    schema,
+                    (current, candidate) -> candidate.getSchemaId() > current.getSchemaId() ? candidate : current);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E extends BaseEvent> EventSchema<E> forType(Class<? extends E> type) {
+        return (EventSchema<E>) schemasByType.get(type);
+    }
+
+    public EventSchema<?> forId(int schemaId) {
+        return schemasById.get(schemaId);
+    }
+}
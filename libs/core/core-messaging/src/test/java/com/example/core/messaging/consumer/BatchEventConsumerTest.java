@@ -0,0 +1,135 @@
+package com.example.core.messaging.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.core.messaging.event.BaseEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.util.backoff.FixedBackOff;
+
+class BatchEventConsumerTest {
+
+    private static final String TOPIC = "test-events";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    @Test
+    void consume_ShouldHandleEventsInChunks() {
+        RecordingConsumer consumer = new RecordingConsumer(2, -1);
+
+        consumer.consume(records(5));
+
+        assertThat(consumer.chunks).containsExactly(List.of(0, 1), List.of(2, 3), List.of(4));
+    }
+
+    @Test
+    void consume_ShouldReportFailedEventAsItsRecordIndex() {
+        // The second chunk holds records 3 to 5; its event at index 1 is record 4
+        RecordingConsumer consumer = new RecordingConsumer(3, 4);
+
+        assertThatThrownBy(() -> consumer.consume(records(8)))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex())
+                        .isEqualTo(4));
+        assertThat(consumer.chunks).containsExactly(List.of(0, 1, 2), List.of(3, 4, 5));
+    }
+
+    @Test
+    void consume_ShouldReportChunkStartForOtherExceptions() {
+        BatchEventConsumer<TestEvent> consumer = new BatchEventConsumer<>(TestEvent.class, 3) {
+            @Override
+            protected void handle(List<TestEvent> events) {
+                if (events.get(0).number > 0) {
+                    throw new IllegalStateException("handler failed");
+                }
+            }
+        };
+
+        assertThatThrownBy(() -> consumer.consume(records(6)))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex())
+                        .isEqualTo(3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void partialBatchFailure_ShouldCommitRecordsBeforeFailedOneAndRedeliverTheRest() {
+        List<ConsumerRecord<String, Object>> records = records(6);
+        RecordingConsumer listener = new RecordingConsumer(3, 4);
+        BatchListenerFailedException failure = null;
+        try {
+            listener.consume(records);
+        } catch (BatchListenerFailedException e) {
+            failure = e;
+        }
+        Consumer<String, Object> kafkaConsumer = mock(Consumer.class);
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        when(container.getContainerProperties()).thenReturn(new ContainerProperties(TOPIC));
+        when(container.isRunning()).thenReturn(true);
+        // Same handler setup as BatchConsumerConfig, with retries left
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(new FixedBackOff(0, 3));
+
+        BatchListenerFailedException reported = failure;
+        ConsumerRecords<String, Object> polled = new ConsumerRecords<>(Map.of(PARTITION, records));
+
+        // While retries remain the handler rethrows, so the container redelivers from the seek position
+        assertThatThrownBy(() -> errorHandler.handleBatch(reported, polled, kafkaConsumer, container, () -> {}))
+                .hasMessageContaining("in retry");
+
+        // Records 0 to 3 are done: the committed offset is the next record to read
+        verify(kafkaConsumer).commitSync(eq(Map.of(PARTITION, new OffsetAndMetadata(4))), any());
+        verify(kafkaConsumer).seek(PARTITION, 4);
+    }
+
+    private static List<ConsumerRecord<String, Object>> records(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ConsumerRecord<String, Object>(TOPIC, 0, i, "key-" + i, new TestEvent(i)))
+                .toList();
+    }
+
+    static class TestEvent extends BaseEvent {
+
+        private final int number;
+
+        TestEvent(int number) {
+            this.number = number;
+        }
+    }
+
+    /** Records the event numbers of every chunk and fails on the event numbered {@code failOn}. */
+    private static class RecordingConsumer extends BatchEventConsumer<TestEvent> {
+
+        private final int failOn;
+        private final List<List<Integer>> chunks = new ArrayList<>();
+
+        RecordingConsumer(int chunkSize, int failOn) {
+            super(TestEvent.class, chunkSize);
+            this.failOn = failOn;
+        }
+
+        @Override
+        protected void handle(List<TestEvent> events) {
+            chunks.add(events.stream().map(event -> event.number).toList());
+            for (int i = 0; i < events.size(); i++) {
+                if (events.get(i).number == failOn) {
+                    throw new EventBatchFailedException(i, new IllegalStateException("event failed"));
+                }
+            }
+        }
+    }
+}
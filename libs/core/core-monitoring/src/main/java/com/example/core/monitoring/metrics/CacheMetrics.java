@@ -0,0 +1,24 @@
+package com.example.core.monitoring.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes hit, miss, eviction and size meters ({@code cache.gets}, {@code cache.evictions}, ...) for
+ * in-process caches, tagged with the cache name. The cache must be built with {@code recordStats()}.
+ */
+@Component
+public class CacheMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public CacheMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <K, V> Cache<K, V> monitor(String cacheName, Cache<K, V> cache) {
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+    }
+}
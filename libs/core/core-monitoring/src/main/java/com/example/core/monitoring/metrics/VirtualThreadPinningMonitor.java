@@ -0,0 +1,76 @@
+package com.example.core.monitoring.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread (typically inside a {@code
+ * synchronized} block), which silently turns a virtual thread back into a scarce platform thread. Streams
+ * the JDK's {@code jdk.VirtualThreadPinned} flight recorder event, counts it as {@code
+ * jvm.threads.virtual.pinned} and logs where it happened.
+ */
+@Component
+@ConditionalOnProperty("spring.threads.virtual.enabled")
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final Counter pinned;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${monitoring.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+        this.pinned = Counter.builder("jvm.threads.virtual.pinned").register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public void destroy() {
+        recordingStream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        if (logger.isWarnEnabled()) {
+            logger.warn(
+                    "Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), pinnedAt(event));
+        }
+    }
+
+    private static String pinnedAt(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown location";
+        }
+        // The top frames are the JDK parking the thread; the first application frame is the useful one
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "JDK code";
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.core.security.auth;
+
+import com.example.core.web.controller.BaseController;
+import com.example.core.web.response.ApiResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController extends BaseController {
+
+    private final AuthService authService;
+
+    public AuthController(AuthService authService) {
+        this.authService = authService;
+    }
+
+    @PostMapping("/token")
+    public ResponseEntity<ApiResponse<TokenResponse>> token(@Valid @RequestBody TokenRequest request) {
+        return success(authService.issueTokens(request.getUsername(), request.getPassword()));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<TokenResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return success(authService.refresh(request.getRefreshToken()));
+    }
+}
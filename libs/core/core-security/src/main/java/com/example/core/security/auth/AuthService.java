@@ -0,0 +1,206 @@
+package com.example.core.security.auth;
+
+import com.example.core.security.jwt.IssuedToken;
+import com.example.core.security.jwt.JwtService;
+import com.example.core.security.jwt.VerifiedToken;
+import com.example.core.security.password.PasswordHashingRejectedException;
+import com.example.core.security.password.PasswordHashingService;
+import com.example.core.security.password.PasswordVerification;
+import com.example.core.security.revocation.TokenRevocationService;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Issues access and refresh tokens. Access tokens stay stateless; only logins and refreshes touch the
+ * {@code refresh_tokens} table.
+ *
+ * <p>Refresh tokens rotate: each one can be exchanged once, for a new access token and the next refresh
+ * token of the same family. Presenting a token that was already exchanged means it leaked (or the client
+ * is replaying it), so the whole family is revoked along with the access tokens issued from it, and the user
+ * has to log in again.
+ */
+@Service
+public class AuthService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final UserDetailsService userDetailsService;
+    private final ObjectProvider<UserDetailsPasswordService> userDetailsPasswordService;
+    private final PasswordHashingService passwordHashingService;
+    private final JwtService jwtService;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jwt.refresh-tokens.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    public AuthService(
+            UserDetailsService userDetailsService,
+            ObjectProvider<UserDetailsPasswordService> userDetailsPasswordService,
+            PasswordHashingService passwordHashingService,
+            JwtService jwtService,
+            RefreshTokenRepository refreshTokenRepository,
+            TokenRevocationService tokenRevocationService,
+            PlatformTransactionManager transactionManager) {
+        this.userDetailsService = userDetailsService;
+        this.userDetailsPasswordService = userDetailsPasswordService;
+        this.passwordHashingService = passwordHashingService;
+        this.jwtService = jwtService;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Checks the credentials outside any transaction, since hashing takes long enough that holding a database
+     * connection for it would let a burst of logins exhaust the pool; only the password upgrade and the refresh
+     * token insert run in a short transaction afterwards.
+     */
+    public TokenResponse issueTokens(String username, String password) {
+        UserDetails user = loadUser(username).orElseThrow(InvalidCredentialsException::new);
+        PasswordVerification verification = verifyPassword(password, user.getPassword());
+        if (!verification.matches()) {
+            throw new InvalidCredentialsException();
+        }
+
+        return transactionTemplate.execute(status -> {
+            verification
+                    .getUpgradedHash()
+                    .ifPresent(upgradedHash -> userDetailsPasswordService.ifAvailable(
+                            service -> service.updatePassword(user, upgradedHash)));
+            return issue(user, UUID.randomUUID());
+        });
+    }
+
+    // A detected reuse must stay revoked even though the request fails
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public TokenResponse refresh(String refreshToken) {
+        // Signature and expiry are checked before touching the database
+        jwtService
+                .verify(refreshToken)
+                .filter(VerifiedToken::isRefreshToken)
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        byte[] tokenHash = hash(refreshToken);
+        Instant now = Instant.now();
+        Optional<StoredRefreshToken> stored = refreshTokenRepository.markUsed(tokenHash, now);
+        if (stored.isEmpty()) {
+            refreshTokenRepository.findFamilyId(tokenHash).ifPresent(familyId -> {
+                logger.warn("Refresh token reuse detected, revoking token family {}", familyId);
+                revokeFamily(familyId, now);
+            });
+            throw new InvalidRefreshTokenException();
+        }
+
+        StoredRefreshToken token = stored.get();
+        Optional<UserDetails> user = loadUser(token.getSubject());
+        if (user.isEmpty()) {
+            // Removed or disabled since the last login
+            revokeFamily(token.getFamilyId(), now);
+            throw new InvalidRefreshTokenException();
+        }
+        return issue(user.get(), token.getFamilyId());
+    }
+
+    /**
+     * Deletes expired refresh tokens in batches of {@code jwt.refresh-tokens.purge-batch-size}, each committed
+     * in its own transaction so that a batch's locks and WAL are released before the next one starts.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-tokens.purge-interval:1h}")
+    public void purgeExpiredRefreshTokens() {
+        Instant now = Instant.now();
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> refreshTokenRepository.deleteExpired(now, purgeBatchSize));
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+        if (purged > 0) {
+            logger.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private TokenResponse issue(UserDetails user, UUID familyId) {
+        IssuedToken accessToken = jwtService.issueAccessToken(user.getUsername(), Map.of("roles", roles(user)));
+        IssuedToken refreshToken = jwtService.issueRefreshToken(user.getUsername());
+        refreshTokenRepository.save(
+                hash(refreshToken.getToken()), familyId, user.getUsername(), accessToken, refreshToken.getExpiresAt());
+        long expiresIn =
+                Duration.between(Instant.now(), accessToken.getExpiresAt()).toSeconds();
+        return new TokenResponse(accessToken.getToken(), refreshToken.getToken(), expiresIn);
+    }
+
+    private void revokeFamily(UUID familyId, Instant now) {
+        refreshTokenRepository.revokeFamily(familyId, now).forEach((accessTokenId, expiresAt) -> {
+            if (expiresAt.isAfter(now)) {
+                tokenRevocationService.revoke(accessTokenId, expiresAt);
+            }
+        });
+    }
+
+    private Optional<UserDetails> loadUser(String username) {
+        try {
+            UserDetails user = userDetailsService.loadUserByUsername(username);
+            boolean usable = user.isEnabled()
+                    && user.isAccountNonLocked()
+                    && user.isAccountNonExpired()
+                    && user.isCredentialsNonExpired();
+            return usable ? Optional.of(user) : Optional.empty();
+        } catch (UsernameNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private PasswordVerification verifyPassword(String password, String encodedPassword) {
+        try {
+            // The request thread waits, but the hashing itself runs on the bounded hashing pool
+            return passwordHashingService.verify(password, encodedPassword).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof PasswordHashingRejectedException rejected) {
+                throw new AuthenticationUnavailableException("Too many concurrent logins, try again", rejected);
+            }
+            throw e;
+        }
+    }
+
+    private static List<String> roles(UserDetails user) {
+        return user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority != null && authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .toList();
+    }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.core.security.auth;
+
+import com.example.core.web.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Credentials could not be checked right now, typically because the password hashing queue is full.
+ */
+public class AuthenticationUnavailableException extends BusinessException {
+
+    public AuthenticationUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.core.security.auth;
+
+import com.example.core.web.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidCredentialsException extends BusinessException {
+
+    public InvalidCredentialsException() {
+        super("Invalid username or password");
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.UNAUTHORIZED;
+    }
+}
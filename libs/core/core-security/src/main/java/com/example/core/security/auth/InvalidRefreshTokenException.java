@@ -0,0 +1,16 @@
+package com.example.core.security.auth;
+
+import com.example.core.web.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidRefreshTokenException extends BusinessException {
+
+    public InvalidRefreshTokenException() {
+        super("Invalid or expired refresh token");
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.UNAUTHORIZED;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.core.security.auth;
+
+import com.example.core.security.jwt.IssuedToken;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RefreshTokenRepository {
+
+    private static final String INSERT_TOKEN =
+            """
+            INSERT INTO refresh_tokens
+                (token_hash, family_id, subject, access_token_id, access_token_expires_at, expires_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    // Claiming the token and reading it in one statement lets exactly one of two concurrent refreshes win
+    private static final String MARK_USED =
+            """
+            UPDATE refresh_tokens SET used_at = ?
+            WHERE token_hash = ? AND used_at IS NULL AND expires_at > ?
+            RETURNING family_id, subject
+            """;
+
+    private static final String SELECT_FAMILY_ID = "SELECT family_id FROM refresh_tokens WHERE token_hash = ?";
+
+    private static final String REVOKE_FAMILY =
+            """
+            UPDATE refresh_tokens SET used_at = COALESCE(used_at, ?)
+            WHERE family_id = ?
+            RETURNING access_token_id, access_token_expires_at
+            """;
+
+    private static final String DELETE_EXPIRED =
+            """
+            DELETE FROM refresh_tokens WHERE id IN (
+                SELECT id FROM refresh_tokens WHERE expires_at <= ? LIMIT ? FOR UPDATE SKIP LOCKED
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RefreshTokenRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void save(byte[] tokenHash, UUID familyId, String subject, IssuedToken accessToken, Instant expiresAt) {
+        jdbcTemplate.update(
+                INSERT_TOKEN,
+                tokenHash,
+                familyId,
+                subject,
+                accessToken.getId(),
+                Timestamp.from(accessToken.getExpiresAt()),
+                Timestamp.from(expiresAt));
+    }
+
+    /**
+     * Marks an unused, unexpired token as used and returns it, or empty if there is no such token.
+     */
+    public Optional<StoredRefreshToken> markUsed(byte[] tokenHash, Instant now) {
+        Timestamp timestamp = Timestamp.from(now);
+        List<StoredRefreshToken> tokens = jdbcTemplate.query(
+                MARK_USED,
+                (rs, rowNum) -> new StoredRefreshToken(rs.getObject("family_id", UUID.class), rs.getString("subject")),
+                timestamp,
+                tokenHash,
+                timestamp);
+        return tokens.stream().findFirst();
+    }
+
+    public Optional<UUID> findFamilyId(byte[] tokenHash) {
+        return jdbcTemplate
+                .query(SELECT_FAMILY_ID, (rs, rowNum) -> rs.getObject("family_id", UUID.class), tokenHash)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Marks every token of the family used and returns the ids and expiries of the access tokens issued with
+     * them, keyed by id.
+     */
+    public Map<String, Instant> revokeFamily(UUID familyId, Instant now) {
+        return jdbcTemplate.query(
+                REVOKE_FAMILY,
+                rs -> {
+                    Map<String, Instant> accessTokens = new HashMap<>();
+                    while (rs.next()) {
+                        accessTokens.put(
+                                rs.getString("access_token_id"),
+                                rs.getTimestamp("access_token_expires_at").toInstant());
+                    }
+                    return accessTokens;
+                },
+                Timestamp.from(now),
+                familyId);
+    }
+
+    public int deleteExpired(Instant now, int batchSize) {
+        return jdbcTemplate.update(DELETE_EXPIRED, Timestamp.from(now), batchSize);
+    }
+}
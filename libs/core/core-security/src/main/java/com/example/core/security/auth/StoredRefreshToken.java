@@ -0,0 +1,25 @@
+package com.example.core.security.auth;
+
+import java.util.UUID;
+
+/**
+ * The parts of a refresh token row needed to issue its successor.
+ */
+public class StoredRefreshToken {
+
+    private final UUID familyId;
+    private final String subject;
+
+    public StoredRefreshToken(UUID familyId, String subject) {
+        this.familyId = familyId;
+        this.subject = subject;
+    }
+
+    public UUID getFamilyId() {
+        return familyId;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+}
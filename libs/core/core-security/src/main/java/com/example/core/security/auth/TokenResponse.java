@@ -0,0 +1,34 @@
+package com.example.core.security.auth;
+
+public class TokenResponse {
+
+    private final String accessToken;
+    private final String refreshToken;
+    private final String tokenType = "Bearer";
+    private final long expiresIn;
+
+    public TokenResponse(String accessToken, String refreshToken, long expiresIn) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public String getTokenType() {
+        return tokenType;
+    }
+
+    /**
+     * Seconds until the access token expires.
+     */
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+}
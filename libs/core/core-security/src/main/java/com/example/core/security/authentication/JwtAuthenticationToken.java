@@ -0,0 +1,109 @@
+package com.example.core.security.authentication;
+
+import com.example.core.security.jwt.VerifiedToken;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * Authentication for a request carrying a verified JWT. The principal is the token subject and the
+ * authorities list is shared rather than copied (see {@link JwtAuthoritiesMapper}). Only the remote address and
+ * the id of an existing session are read from the request, without creating one, so the token never holds on
+ * to the request; the {@link WebAuthenticationDetails} built from them, which almost nothing uses for
+ * stateless requests, are only created the first time {@link #getDetails()} is called.
+ */
+public class JwtAuthenticationToken implements Authentication {
+
+    private final VerifiedToken token;
+    private final List<GrantedAuthority> authorities;
+    private final String remoteAddress;
+    private final String sessionId;
+    private transient volatile WebAuthenticationDetails details;
+    private volatile boolean authenticated = true;
+
+    public JwtAuthenticationToken(VerifiedToken token, List<GrantedAuthority> authorities, HttpServletRequest request) {
+        this.token = token;
+        this.authorities = authorities;
+        this.remoteAddress = request.getRemoteAddr();
+        HttpSession session = request.getSession(false);
+        this.sessionId = session != null ? session.getId() : null;
+    }
+
+    public VerifiedToken getToken() {
+        return token;
+    }
+
+    @Override
+    public String getName() {
+        return token.getSubject();
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return token.getSubject();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public Object getDetails() {
+        // Racing callers may each build a copy; they are equal and immutable
+        WebAuthenticationDetails built = details;
+        if (built == null) {
+            built = new WebAuthenticationDetails(remoteAddress, sessionId);
+            details = built;
+        }
+        return built;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        if (authenticated) {
+            throw new IllegalArgumentException("Cannot mark a token as authenticated; create a new one instead");
+        }
+        this.authenticated = false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof JwtAuthenticationToken that)) {
+            return false;
+        }
+        return authenticated == that.authenticated
+                && Objects.equals(getName(), that.getName())
+                && authorities.equals(that.authorities)
+                && Objects.equals(remoteAddress, that.remoteAddress)
+                && Objects.equals(sessionId, that.sessionId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getName(), authorities, remoteAddress, sessionId, authenticated);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [Principal=" + getName() + ", Authorities=" + authorities
+                + ", Authenticated=" + authenticated + "]";
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.core.security.authentication;
+
+import com.example.core.security.jwt.VerifiedToken;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps the roles claim ({@code jwt.authorities.claim}, a list or a space- or comma-separated string) to
+ * granted authorities. Tokens carry a handful of distinct role combinations, so the resulting immutable lists
+ * are cached by claim value and shared by every request with the same roles; the cache stops growing at
+ * {@value #MAX_CACHED} entries so a flood of unusual combinations cannot grow it without bound.
+ */
+@Component
+public class JwtAuthoritiesMapper {
+
+    private static final int MAX_CACHED = 1024;
+
+    private final String claimName;
+    private final String prefix;
+    private final Map<Object, List<GrantedAuthority>> authoritiesByClaim = new ConcurrentHashMap<>();
+    private final Map<String, GrantedAuthority> authorities = new ConcurrentHashMap<>();
+
+    public JwtAuthoritiesMapper(
+            @Value("${jwt.authorities.claim:roles}") String claimName,
+            @Value("${jwt.authorities.prefix:ROLE_}") String prefix) {
+        this.claimName = claimName;
+        this.prefix = prefix;
+    }
+
+    public List<GrantedAuthority> getAuthorities(VerifiedToken token) {
+        Object claim = token.getClaims().get(claimName);
+        if (claim == null) {
+            return List.of();
+        }
+        List<GrantedAuthority> cached = authoritiesByClaim.get(claim);
+        if (cached != null) {
+            return cached;
+        }
+        List<GrantedAuthority> mapped = map(claim);
+        if (authoritiesByClaim.size() < MAX_CACHED) {
+            authoritiesByClaim.putIfAbsent(claim, mapped);
+        }
+        return mapped;
+    }
+
+    private List<GrantedAuthority> map(Object claim) {
+        List<String> roles = new ArrayList<>();
+        if (claim instanceof Collection<?> values) {
+            values.forEach(value -> roles.add(String.valueOf(value)));
+        } else {
+            roles.addAll(List.of(claim.toString().split("[\\s,]+")));
+        }
+        List<GrantedAuthority> mapped = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            if (!role.isBlank()) {
+                mapped.add(authority(prefix + role));
+            }
+        }
+        return List.copyOf(mapped);
+    }
+
+    private GrantedAuthority authority(String name) {
+        GrantedAuthority authority = authorities.get(name);
+        if (authority == null) {
+            authority = new SimpleGrantedAuthority(name);
+            if (authorities.size() < MAX_CACHED) {
+                authorities.putIfAbsent(name, authority);
+            }
+        }
+        return authority;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.core.security.config;
+
+import com.example.core.security.jwt.FileJwksSource;
+import com.example.core.security.jwt.HmacJwtKeyProvider;
+import com.example.core.security.jwt.JwksJwtKeyProvider;
+import com.example.core.security.jwt.JwksKeyLocator;
+import com.example.core.security.jwt.JwtKeyProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Chooses how tokens are signed and verified. With {@code jwt.jwks.location} set, tokens are verified against
+ * that key set by {@code kid} and, if {@code jwt.signing.jwk-location} is also set, signed with that private
+ * JWK; services that only verify tokens leave it unset. Otherwise the shared {@code jwt.secret} is used with
+ * HS256.
+ */
+@Configuration
+public class JwtKeyConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyConfig.class);
+
+    @Bean
+    public JwtKeyProvider jwtKeyProvider(
+            @Value("${jwt.secret:mySecretKey123456789012345678901234567890}") String secret,
+            @Value("${jwt.jwks.location:}") String jwksLocation,
+            @Value("${jwt.jwks.refresh-interval:5m}") Duration refreshInterval,
+            @Value("${jwt.jwks.min-refresh-interval:30s}") Duration minRefreshInterval,
+            @Value("${jwt.signing.jwk-location:}") String signingJwkLocation) {
+        if (jwksLocation.isBlank()) {
+            logger.info("Using HS256 JWT signing with a shared secret");
+            return new HmacJwtKeyProvider(secret);
+        }
+        logger.info("Using JWKS JWT verification from {}", jwksLocation);
+        JwksKeyLocator keyLocator =
+                new JwksKeyLocator(new FileJwksSource(Path.of(jwksLocation)), refreshInterval, minRefreshInterval);
+        String signingJwk = signingJwkLocation.isBlank() ? null : readSigningJwk(Path.of(signingJwkLocation));
+        return new JwksJwtKeyProvider(keyLocator, signingJwk);
+    }
+
+    private static String readSigningJwk(Path path) {
+        try {
+            return Files.readString(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read signing JWK from " + path, e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.core.security.config;
+
+import com.example.core.security.password.PasswordHashingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password hashing. New hashes use {@code security.password.algorithm} ({@code argon2} or {@code bcrypt}) and
+ * are stored with an {@code {id}} prefix; hashes without a prefix are the plain bcrypt hashes written before
+ * the prefix existed. Any hash not made with the current algorithm and parameters is reported by {@link
+ * PasswordEncoder#upgradeEncoding}, so callers can re-hash on the next successful login.
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+
+    @Value("${security.password.algorithm:argon2}")
+    private String algorithm;
+
+    @Value("${security.password.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    // OWASP's minimum Argon2id recommendation: 19 MiB, two iterations, one lane
+    @Value("${security.password.argon2.memory-kib:19456}")
+    private int argon2MemoryKib;
+
+    @Value("${security.password.argon2.iterations:2}")
+    private int argon2Iterations;
+
+    @Value("${security.password.argon2.parallelism:1}")
+    private int argon2Parallelism;
+
+    @Value("${security.password.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${security.password.hashing.queue-capacity:256}")
+    private int hashingQueueCapacity;
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                BCRYPT,
+                bcrypt,
+                ARGON2,
+                new Argon2PasswordEncoder(16, 32, argon2Parallelism, argon2MemoryKib, argon2Iterations));
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalArgumentException("Unknown password hashing algorithm: " + algorithm);
+        }
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
+    }
+
+    /**
+     * Hashing pool sized to {@code security.password.hashing.threads}, by default half the available cores so
+     * a burst of logins cannot take all of the CPU from the rest of the API.
+     */
+    @Bean
+    public PasswordHashingService passwordHashingService(
+            PasswordEncoder passwordEncoder, ObjectProvider<MeterRegistry> meterRegistry) {
+        int threads = hashingThreads > 0
+                ? hashingThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new PasswordHashingService(
+                passwordEncoder, threads, hashingQueueCapacity, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.core.security.config;
+
+import com.example.core.security.ratelimit.DistributedRateLimitStore;
+import com.example.core.security.ratelimit.InMemorySharedRateLimitState;
+import com.example.core.security.ratelimit.LocalRateLimitStore;
+import com.example.core.security.ratelimit.RateLimitFilter;
+import com.example.core.security.ratelimit.RateLimitRule;
+import com.example.core.security.ratelimit.RateLimitStore;
+import com.example.core.security.ratelimit.SharedRateLimitState;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-route rate limits, e.g.
+ *
+ * <pre>
+ * security:
+ *   rate-limit:
+ *     rules:
+ *       - pattern: /api/auth/**
+ *         capacity: 10
+ *         period: 1m
+ *       - pattern: /api/**
+ *         capacity: 200
+ *         period: 1s
+ * </pre>
+ *
+ * <p>The first matching rule applies; requests matching none are not limited. {@code store} is {@code local}
+ * (each node limits on its own) or {@code distributed}, which keeps buckets in the {@link SharedRateLimitState}
+ * bean, falling back to an in-memory stand-in when there is none.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitConfig.class);
+
+    private boolean enabled = true;
+    private String store = "local";
+    private long maximumClients = 100_000;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private List<Rule> rules = new ArrayList<>();
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(
+            ObjectProvider<SharedRateLimitState> sharedState,
+            ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        List<RateLimitRule> rateLimitRules = enabled
+                ? rules.stream()
+                        .map(rule -> new RateLimitRule(
+                                rule.getName() != null ? rule.getName() : rule.getPattern(),
+                                rule.getPattern(),
+                                rule.getCapacity(),
+                                rule.getPeriod()))
+                        .toList()
+                : List.of();
+        return new RateLimitFilter(
+                rateLimitRules,
+                rateLimitStore(sharedState),
+                objectMapper,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    private RateLimitStore rateLimitStore(ObjectProvider<SharedRateLimitState> sharedState) {
+        return switch (store) {
+            case "local" -> new LocalRateLimitStore(maximumClients, idleTimeout);
+            case "distributed" -> new DistributedRateLimitStore(sharedState.getIfAvailable(() -> {
+                logger.warn("No SharedRateLimitState bean, distributed rate limits are kept in memory on this node");
+                return new InMemorySharedRateLimitState();
+            }));
+            default -> throw new IllegalArgumentException("Unknown rate limit store: " + store);
+        };
+    }
+
+    // Getters and setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getStore() {
+        return store;
+    }
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public long getMaximumClients() {
+        return maximumClients;
+    }
+
+    public void setMaximumClients(long maximumClients) {
+        this.maximumClients = maximumClients;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static class Rule {
+        private String name;
+        private String pattern;
+        private long capacity;
+        private Duration period = Duration.ofSeconds(1);
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(long capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.core.security.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled purges of expired token revocations and refresh tokens.
+ */
+@Configuration
+@EnableScheduling
+public class SecuritySchedulingConfig {}
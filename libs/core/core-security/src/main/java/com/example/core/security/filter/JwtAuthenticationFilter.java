@@ -1,15 +1,18 @@
 package com.example.core.security.filter;
 
+import com.example.core.security.authentication.JwtAuthenticationToken;
+import com.example.core.security.authentication.JwtAuthoritiesMapper;
 import com.example.core.security.jwt.JwtService;
+import com.example.core.security.jwt.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Collections;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import java.util.Optional;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,9 +24,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
 
     private final JwtService jwtService;
+    private final JwtAuthoritiesMapper authoritiesMapper;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+            SecurityContextHolder.getContextHolderStrategy();
 
-    public JwtAuthenticationFilter(JwtService jwtService) {
+    public JwtAuthenticationFilter(JwtService jwtService, JwtAuthoritiesMapper authoritiesMapper) {
         this.jwtService = jwtService;
+        this.authoritiesMapper = authoritiesMapper;
     }
 
     @Override
@@ -32,14 +39,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = extractTokenFromRequest(request);
 
-        if (token != null && jwtService.validateToken(token)) {
-            String username = jwtService.extractSubject(token);
-
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(username, null, Collections.emptyList());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+        if (token != null) {
+            SecurityContext context = securityContextHolderStrategy.getContext();
+            if (context.getAuthentication() == null) {
+                // Verified once; subject and roles come from the same (usually cached) claims
+                Optional<VerifiedToken> verified =
+                        jwtService.verify(token).filter(verifiedToken -> !verifiedToken.isRefreshToken());
+                if (verified.isPresent()) {
+                    VerifiedToken verifiedToken = verified.get();
+                    context.setAuthentication(new JwtAuthenticationToken(
+                            verifiedToken, authoritiesMapper.getAuthorities(verifiedToken), request));
+                }
             }
         }
 
@@ -0,0 +1,29 @@
+package com.example.core.security.jwt;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads the key set from a local file, standing in for an issuer's JWKS endpoint in tests and local runs.
+ * Rotating keys is a matter of rewriting the file.
+ */
+public class FileJwksSource implements JwksSource {
+
+    private final Path path;
+
+    public FileJwksSource(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public String fetch() throws IOException {
+        return Files.readString(path, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+}
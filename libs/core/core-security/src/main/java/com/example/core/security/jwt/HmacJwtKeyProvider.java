@@ -0,0 +1,29 @@
+package com.example.core.security.jwt;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParserBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import javax.crypto.SecretKey;
+
+/**
+ * HS256 with a secret shared by every service that issues or verifies tokens.
+ */
+public class HmacJwtKeyProvider implements JwtKeyProvider {
+
+    private final SecretKey secretKey;
+
+    public HmacJwtKeyProvider(String secret) {
+        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+    }
+
+    @Override
+    public JwtBuilder sign(JwtBuilder builder) {
+        return builder.signWith(secretKey, Jwts.SIG.HS256);
+    }
+
+    @Override
+    public JwtParserBuilder verify(JwtParserBuilder parser) {
+        return parser.verifyWith(secretKey);
+    }
+}
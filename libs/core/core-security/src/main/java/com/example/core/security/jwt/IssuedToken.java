@@ -0,0 +1,32 @@
+package com.example.core.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * A freshly signed token with the id and expiry it was issued with, so callers can record them without
+ * parsing the token back.
+ */
+public class IssuedToken {
+
+    private final String token;
+    private final String id;
+    private final Instant expiresAt;
+
+    public IssuedToken(String token, String id, Instant expiresAt) {
+        this.token = token;
+        this.id = id;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
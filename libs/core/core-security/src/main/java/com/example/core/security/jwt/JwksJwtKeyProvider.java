@@ -0,0 +1,80 @@
+package com.example.core.security.jwt;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParserBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.MacAlgorithm;
+import io.jsonwebtoken.security.PrivateJwk;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import java.security.PrivateKey;
+
+/**
+ * Asymmetric signing (RS256, ES256, EdDSA, ...) with keys identified by {@code kid}. Tokens are signed with a
+ * private JWK and verified against public keys from a {@link JwksKeyLocator}, so verifying services never
+ * hold signing material and keys can be rotated by publishing the new key before signing with it.
+ */
+public class JwksJwtKeyProvider implements JwtKeyProvider, AutoCloseable {
+
+    private final JwksKeyLocator keyLocator;
+    private final String keyId;
+    private final PrivateKey signingKey;
+    private final SecureDigestAlgorithm<PrivateKey, ?> algorithm;
+
+    /**
+     * @param signingJwk private JWK JSON with {@code kid} and {@code alg}, or {@code null} for a verify-only
+     *     service
+     */
+    public JwksJwtKeyProvider(JwksKeyLocator keyLocator, String signingJwk) {
+        this.keyLocator = keyLocator;
+        if (signingJwk == null) {
+            this.keyId = null;
+            this.signingKey = null;
+            this.algorithm = null;
+            return;
+        }
+        Jwk<?> jwk = Jwks.parser().build().parse(signingJwk);
+        if (!(jwk instanceof PrivateJwk<?, ?, ?> privateJwk)) {
+            throw new IllegalArgumentException("Signing JWK must contain a private key");
+        }
+        if (jwk.getId() == null || jwk.getAlgorithm() == null) {
+            throw new IllegalArgumentException("Signing JWK must declare kid and alg");
+        }
+        this.keyId = jwk.getId();
+        this.signingKey = privateJwk.toKey();
+        this.algorithm = signatureAlgorithm(jwk.getAlgorithm());
+    }
+
+    @Override
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (signingKey == null) {
+            throw new IllegalStateException("No signing key configured; this service only verifies tokens");
+        }
+        return builder.header().keyId(keyId).and().signWith(signingKey, algorithm);
+    }
+
+    @Override
+    public JwtParserBuilder verify(JwtParserBuilder parser) {
+        return parser.keyLocator(keyLocator);
+    }
+
+    @Override
+    public void onKeysWithdrawn(Runnable listener) {
+        keyLocator.onKeysWithdrawn(listener);
+    }
+
+    @Override
+    public void close() {
+        keyLocator.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SecureDigestAlgorithm<PrivateKey, ?> signatureAlgorithm(String id) {
+        SecureDigestAlgorithm<?, ?> algorithm = Jwts.SIG.get().forKey(id);
+        if (algorithm instanceof MacAlgorithm) {
+            throw new IllegalArgumentException("Signing JWK must use an asymmetric algorithm, not " + id);
+        }
+        return (SecureDigestAlgorithm<PrivateKey, ?>) algorithm;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.core.security.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PrivateJwk;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves token verification keys by {@code kid} from a key set that is refreshed in the background.
+ *
+ * <p>The key set is an immutable map published through a volatile field, so lookups on the request path never
+ * lock or block. A refresh builds a new map off the request path and swaps it in; if it fails, the previous
+ * set stays in use. A token with an unknown {@code kid} is rejected at once and triggers an early refresh
+ * (at most once per {@code minRefreshInterval}), so a freshly rotated key is picked up without waiting for
+ * the next scheduled refresh. When a refresh drops a known {@code kid} or maps it to a different key, the
+ * listeners registered through {@link #onKeysWithdrawn(Runnable)} are run so that verifications made with the
+ * withdrawn key can be forgotten.
+ */
+public class JwksKeyLocator extends LocatorAdapter<Key> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwksKeyLocator.class);
+
+    private final JwksSource source;
+    private final long minRefreshIntervalNanos;
+    private final ScheduledExecutorService refresher;
+    private final AtomicLong lastRefreshStarted = new AtomicLong(System.nanoTime());
+    private final List<Runnable> withdrawnListeners = new CopyOnWriteArrayList<>();
+
+    private volatile Map<String, PublicKey> keys;
+
+    public JwksKeyLocator(JwksSource source, Duration refreshInterval, Duration minRefreshInterval) {
+        this.source = source;
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        // Fail fast at startup: without an initial key set no token can be verified
+        this.keys = load();
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = refreshInterval.toMillis();
+        refresher.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String keyId = header.getKeyId();
+        if (keyId == null) {
+            return null;
+        }
+        PublicKey key = keys.get(keyId);
+        if (key == null) {
+            requestRefresh();
+        }
+        return key;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    public void onKeysWithdrawn(Runnable listener) {
+        withdrawnListeners.add(listener);
+    }
+
+    /**
+     * Reloads the key set now, on the calling thread.
+     */
+    public synchronized void refresh() {
+        lastRefreshStarted.set(System.nanoTime());
+        Map<String, PublicKey> previous = keys;
+        Map<String, PublicKey> loaded;
+        try {
+            loaded = load();
+        } catch (RuntimeException e) {
+            logger.error("Failed to refresh JWKS from {}, keeping {} known keys", source, previous.size(), e);
+            return;
+        }
+        keys = loaded;
+        List<String> withdrawn = previous.entrySet().stream()
+                .filter(entry -> !entry.getValue().equals(loaded.get(entry.getKey())))
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!withdrawn.isEmpty()) {
+            logger.info("JWKS keys {} were withdrawn or replaced", withdrawn);
+            withdrawnListeners.forEach(Runnable::run);
+        }
+    }
+
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+    }
+
+    private void requestRefresh() {
+        long last = lastRefreshStarted.get();
+        long now = System.nanoTime();
+        if (now - last >= minRefreshIntervalNanos && lastRefreshStarted.compareAndSet(last, now)) {
+            refresher.execute(this::refresh);
+        }
+    }
+
+    private Map<String, PublicKey> load() {
+        String json;
+        try {
+            json = source.fetch();
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException("Cannot read JWKS from " + source, e);
+        }
+        JwkSet jwkSet = Jwks.setParser().ignoreUnsupported(true).build().parse(json);
+
+        Map<String, PublicKey> loaded = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet) {
+            // A private JWK published by mistake still only contributes its public half
+            Key key = jwk instanceof PrivateJwk<?, ?, ?> privateJwk
+                    ? privateJwk.toPublicJwk().toKey()
+                    : jwk.toKey();
+            if (jwk.getId() == null || !(key instanceof PublicKey publicKey)) {
+                logger.warn("Ignoring JWK without kid or public key: kid={}, kty={}", jwk.getId(), jwk.getType());
+                continue;
+            }
+            loaded.put(jwk.getId(), publicKey);
+        }
+        logger.info("Loaded {} JWKS keys from {}", loaded.size(), source);
+        return Map.copyOf(loaded);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.core.security.jwt;
+
+import java.io.IOException;
+
+/**
+ * Where a JSON Web Key Set document is fetched from.
+ */
+@FunctionalInterface
+public interface JwksSource {
+
+    String fetch() throws IOException;
+}
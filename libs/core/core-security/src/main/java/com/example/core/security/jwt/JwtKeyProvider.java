@@ -0,0 +1,25 @@
+package com.example.core.security.jwt;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParserBuilder;
+
+/**
+ * Supplies the keys {@link JwtService} signs and verifies with.
+ */
+public interface JwtKeyProvider {
+
+    /**
+     * Signs the token, adding any header (such as {@code kid}) verifiers need to pick the key.
+     *
+     * @throws IllegalStateException if this service only verifies tokens
+     */
+    JwtBuilder sign(JwtBuilder builder);
+
+    JwtParserBuilder verify(JwtParserBuilder parser);
+
+    /**
+     * Registers {@code listener} to run whenever a verification key is withdrawn or replaced, after which tokens
+     * verified earlier with it must no longer be accepted. Providers whose keys never change ignore it.
+     */
+    default void onKeysWithdrawn(Runnable listener) {}
+}
@@ -1,14 +1,18 @@
 package com.example.core.security.jwt;
 
+import com.example.core.security.revocation.RevokedTokenException;
+import com.example.core.security.revocation.TokenRevocationList;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.Map;
-import javax.crypto.SecretKey;
+import java.util.Optional;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -17,72 +21,129 @@ public class JwtService {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
 
-    private final SecretKey secretKey;
+    private static final long DEFAULT_TOKEN_CACHE_SIZE = 10_000;
+    private static final Duration DEFAULT_TOKEN_CACHE_MAX_TTL = Duration.ofHours(1);
+
+    private final JwtKeyProvider keyProvider;
+    private final TokenRevocationList revocationList;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
+    // Parsers are immutable and thread-safe; building one per call dominated verification cost
+    private final JwtParser parser;
+    private final VerifiedTokenCache tokenCache;
+
+    public JwtService(String secret, long accessTokenExpiration, long refreshTokenExpiration) {
+        this(
+                new HmacJwtKeyProvider(secret),
+                new TokenRevocationList(0),
+                accessTokenExpiration,
+                refreshTokenExpiration,
+                DEFAULT_TOKEN_CACHE_SIZE,
+                DEFAULT_TOKEN_CACHE_MAX_TTL);
+    }
 
+    @Autowired
     public JwtService(
-            @Value("${jwt.secret:mySecretKey123456789012345678901234567890}") String secret,
+            JwtKeyProvider keyProvider,
+            TokenRevocationList revocationList,
             @Value("${jwt.access-token-expiration:3600}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration:86400}") long refreshTokenExpiration) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+            @Value("${jwt.refresh-token-expiration:86400}") long refreshTokenExpiration,
+            @Value("${jwt.verified-token-cache.maximum-size:10000}") long tokenCacheSize,
+            @Value("${jwt.verified-token-cache.max-ttl:1h}") Duration tokenCacheMaxTtl) {
+        this.keyProvider = keyProvider;
+        this.revocationList = revocationList;
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.parser = keyProvider.verify(Jwts.parser()).build();
+        this.tokenCache = tokenCacheSize > 0 ? new VerifiedTokenCache(tokenCacheSize, tokenCacheMaxTtl) : null;
+        if (tokenCache != null) {
+            // Cached verifications would otherwise outlive the key they were checked against
+            keyProvider.onKeysWithdrawn(tokenCache::invalidateAll);
+        }
     }
 
     public String generateAccessToken(String subject, Map<String, Object> claims) {
-        return buildToken(subject, claims, accessTokenExpiration);
+        return issueAccessToken(subject, claims).getToken();
     }
 
     public String generateRefreshToken(String subject) {
-        return buildToken(subject, Map.of(), refreshTokenExpiration);
+        return issueRefreshToken(subject).getToken();
     }
 
-    public boolean validateToken(String token) {
+    public IssuedToken issueAccessToken(String subject, Map<String, Object> claims) {
+        return buildToken(subject, claims, accessTokenExpiration);
+    }
+
+    /**
+     * Refresh tokens are marked with a {@code token_type} claim so they are never accepted as access tokens.
+     */
+    public IssuedToken issueRefreshToken(String subject) {
+        return buildToken(
+                subject,
+                Map.of(VerifiedToken.TOKEN_TYPE_CLAIM, VerifiedToken.REFRESH_TOKEN_TYPE),
+                refreshTokenExpiration);
+    }
+
+    /**
+     * Verifies the token once and returns its claims, or empty if it is malformed, tampered with or expired.
+     * Callers should use the returned claims rather than re-reading them from the token.
+     */
+    public Optional<VerifiedToken> verify(String token) {
         try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-            return true;
+            return Optional.of(verifyOrThrow(token));
         } catch (JwtException | IllegalArgumentException e) {
             logger.warn("JWT validation failed: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
     public String extractSubject(String token) {
-        return extractClaims(token).getSubject();
+        return verifyOrThrow(token).getSubject();
     }
 
     public String extractClaim(String token, String claimName) {
-        return extractClaims(token).get(claimName, String.class);
+        return verifyOrThrow(token).getClaim(claimName, String.class);
     }
 
     public boolean isTokenExpired(String token) {
         try {
-            Date expiration = extractClaims(token).getExpiration();
-            return expiration.before(new Date());
+            return verifyOrThrow(token).isExpired(Instant.now());
         } catch (JwtException e) {
             return true;
         }
     }
 
-    private String buildToken(String subject, Map<String, Object> claims, long expiration) {
+    private IssuedToken buildToken(String subject, Map<String, Object> claims, long expiration) {
         Instant now = Instant.now();
         Instant expiryDate = now.plus(expiration, ChronoUnit.SECONDS);
+        String id = UUID.randomUUID().toString();
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .id(id)
                 .subject(subject)
                 .claims(claims)
                 .issuedAt(Date.from(now))
-                .expiration(Date.from(expiryDate))
-                .signWith(secretKey, Jwts.SIG.HS256)
-                .compact();
+                .expiration(Date.from(expiryDate));
+        return new IssuedToken(keyProvider.sign(builder).compact(), id, expiryDate);
     }
 
-    private Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private VerifiedToken verifyOrThrow(String token) {
+        VerifiedToken verified = tokenCache != null ? tokenCache.get(token) : null;
+        // The cache expires entries at exp, but the check keeps an expired token from slipping through
+        if (verified == null || verified.isExpired(Instant.now())) {
+            verified = new VerifiedToken(parser.parseSignedClaims(token).getPayload());
+            if (tokenCache != null) {
+                tokenCache.put(token, verified);
+            }
+        }
+        // Checked on every use, cached or not, so a revocation applies to tokens already in the cache
+        if (revocationList.isRevoked(verified.getId())) {
+            throw new RevokedTokenException(verified.getId());
+        }
+        return verified;
     }
 }
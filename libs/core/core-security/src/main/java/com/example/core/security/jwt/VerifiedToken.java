@@ -0,0 +1,58 @@
+package com.example.core.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Claims of a token whose signature and validity window have been checked. Instances are cached and shared
+ * across requests, so they expose only read access.
+ */
+public class VerifiedToken {
+
+    public static final String TOKEN_TYPE_CLAIM = "token_type";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    private final Claims claims;
+    private final Instant expiresAt;
+
+    public VerifiedToken(Claims claims) {
+        this.claims = claims;
+        Date expiration = claims.getExpiration();
+        this.expiresAt = expiration != null ? expiration.toInstant() : null;
+    }
+
+    /**
+     * The {@code jti} claim, or {@code null} for tokens issued before ids were added.
+     */
+    public String getId() {
+        return claims.getId();
+    }
+
+    public String getSubject() {
+        return claims.getSubject();
+    }
+
+    public <T> T getClaim(String name, Class<T> type) {
+        return claims.get(name, type);
+    }
+
+    public Claims getClaims() {
+        return claims;
+    }
+
+    /**
+     * Returns {@code null} for tokens issued without an {@code exp} claim.
+     */
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM));
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
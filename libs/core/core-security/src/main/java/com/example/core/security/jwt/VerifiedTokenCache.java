@@ -0,0 +1,92 @@
+package com.example.core.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Bounded cache of verified tokens, so a token presented on many requests has its signature checked once.
+ * Entries are keyed by the SHA-256 of the token rather than the token itself and expire at the token's
+ * {@code exp}; tokens without one are kept for at most {@code maxTtl}.
+ */
+class VerifiedTokenCache {
+
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+    private final MessageDigest sha256;
+
+    VerifiedTokenCache(long maximumSize, Duration maxTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(maxTtl))
+                .build();
+        try {
+            this.sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    VerifiedToken get(String token) {
+        return cache.getIfPresent(hash(token));
+    }
+
+    void put(String token, VerifiedToken verified) {
+        cache.put(hash(token), verified);
+    }
+
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private ByteBuffer hash(String token) {
+        MessageDigest digest;
+        try {
+            // Cloning the configured instance is much cheaper than a provider lookup per call
+            digest = (MessageDigest) sha256.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 digest cannot be cloned", e);
+        }
+        return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static final class TokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        private final Duration maxTtl;
+        private final long maxTtlNanos;
+
+        private TokenExpiry(Duration maxTtl) {
+            this.maxTtl = maxTtl;
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            Instant expiresAt = value.getExpiresAt();
+            if (expiresAt == null) {
+                return maxTtlNanos;
+            }
+            // Clamped before converting: toNanos() overflows for an exp a few hundred years out
+            Duration untilExpiry = Duration.between(Instant.now(), expiresAt);
+            if (untilExpiry.compareTo(maxTtl) >= 0) {
+                return maxTtlNanos;
+            }
+            return untilExpiry.isNegative() ? 0 : untilExpiry.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
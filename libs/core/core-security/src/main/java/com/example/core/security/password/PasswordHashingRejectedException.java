@@ -0,0 +1,12 @@
+package com.example.core.security.password;
+
+/**
+ * Thrown when the password hashing queue is full. Callers should answer with a retryable error such as 503
+ * rather than wait, so a login storm sheds load instead of piling up request threads.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(int queueCapacity) {
+        super("Password hashing queue is full (capacity " + queueCapacity + ")");
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.core.security.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs password hashing on a small dedicated pool instead of request threads. Hashing is deliberately slow and
+ * CPU-bound, so the pool is sized to the cores it may use and its queue is bounded: once the queue is full new
+ * work fails fast with {@link PasswordHashingRejectedException} and the rest of the API keeps its threads.
+ *
+ * <p>Meters: {@code security.password.hashing} (time spent hashing, by operation), {@code
+ * security.password.hashing.wait} (time queued), {@code security.password.hashing.queue} and {@code
+ * security.password.hashing.active} gauges, and {@code security.password.hashing.rejected}.
+ */
+public class PasswordHashingService implements AutoCloseable {
+
+    private static final String METER_PREFIX = "security.password.hashing";
+
+    private final PasswordEncoder passwordEncoder;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer verifyTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer =
+                Timer.builder(METER_PREFIX).tag("operation", "encode").register(meterRegistry);
+        this.verifyTimer =
+                Timer.builder(METER_PREFIX).tag("operation", "verify").register(meterRegistry);
+        this.waitTimer = Timer.builder(METER_PREFIX + ".wait").register(meterRegistry);
+        this.rejected = Counter.builder(METER_PREFIX + ".rejected").register(meterRegistry);
+        Gauge.builder(METER_PREFIX + ".queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder(METER_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Checks the password and, if it matches a hash that is due for an upgrade, re-hashes it with the current
+     * algorithm in the same task.
+     */
+    public CompletableFuture<PasswordVerification> verify(CharSequence rawPassword, String encodedPassword) {
+        return submit(verifyTimer, () -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return PasswordVerification.mismatch();
+            }
+            String upgradedHash =
+                    passwordEncoder.upgradeEncoding(encodedPassword) ? passwordEncoder.encode(rawPassword) : null;
+            return PasswordVerification.matched(upgradedHash);
+        });
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> task) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> {
+                        waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                        return timer.record(task);
+                    },
+                    executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new PasswordHashingRejectedException(queueCapacity));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.core.security.password;
+
+import java.util.Optional;
+
+/**
+ * Outcome of checking a password against a stored hash. When the password matched but the hash was made with
+ * an outdated algorithm or cost, {@link #getUpgradedHash()} holds a fresh hash the caller should store.
+ */
+public class PasswordVerification {
+
+    private static final PasswordVerification MISMATCH = new PasswordVerification(false, null);
+
+    private final boolean matches;
+    private final String upgradedHash;
+
+    private PasswordVerification(boolean matches, String upgradedHash) {
+        this.matches = matches;
+        this.upgradedHash = upgradedHash;
+    }
+
+    static PasswordVerification mismatch() {
+        return MISMATCH;
+    }
+
+    static PasswordVerification matched(String upgradedHash) {
+        return new PasswordVerification(true, upgradedHash);
+    }
+
+    public boolean matches() {
+        return matches;
+    }
+
+    public Optional<String> getUpgradedHash() {
+        return Optional.ofNullable(upgradedHash);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.core.security.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buckets kept in a {@link SharedRateLimitState}, so a client's limit holds across all nodes. Uses wall-clock
+ * time, since arrival times are compared between nodes. The limiter fails open: if the shared store errors,
+ * or stays contended for a key, the request is let through rather than failing it for a limiter problem.
+ */
+public class DistributedRateLimitStore implements RateLimitStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DistributedRateLimitStore.class);
+
+    private static final int MAX_ATTEMPTS = 8;
+
+    private final SharedRateLimitState state;
+
+    public DistributedRateLimitStore(SharedRateLimitState state) {
+        this.state = state;
+    }
+
+    @Override
+    public long tryAcquire(RateLimitRule rule, String clientKey) {
+        String key = rule.getName() + ':' + clientKey;
+        long now = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+        try {
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                Long current = state.get(key);
+                long next = rule.nextArrival(current != null ? current : Long.MIN_VALUE, now);
+                long wait = rule.waitNanos(next, now);
+                if (wait > 0) {
+                    return wait;
+                }
+                if (state.compareAndSet(key, current, next, rule.getPeriod())) {
+                    return 0;
+                }
+            }
+            logger.debug("Rate limit state for {} stayed contended, allowing request", key);
+        } catch (RuntimeException e) {
+            logger.warn("Shared rate limit state unavailable, allowing request: {}", e.getMessage());
+        }
+        return 0;
+    }
+}
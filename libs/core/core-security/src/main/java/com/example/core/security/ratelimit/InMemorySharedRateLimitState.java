@@ -0,0 +1,51 @@
+package com.example.core.security.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link SharedRateLimitState} in a local map: a stand-in for tests and single-node runs of the distributed
+ * mode. Expired entries are only dropped when their key is touched again.
+ */
+public class InMemorySharedRateLimitState implements SharedRateLimitState {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public Long get(String key) {
+        Entry entry = entries.get(key);
+        return entry != null && !entry.isExpired(System.currentTimeMillis()) ? entry.value : null;
+    }
+
+    @Override
+    public boolean compareAndSet(String key, Long expected, long update, Duration ttl) {
+        boolean[] updated = new boolean[1];
+        entries.compute(key, (k, entry) -> {
+            long now = System.currentTimeMillis();
+            Long current = entry != null && !entry.isExpired(now) ? entry.value : null;
+            if (!Objects.equals(current, expected)) {
+                return entry;
+            }
+            updated[0] = true;
+            return new Entry(update, now + ttl.toMillis());
+        });
+        return updated[0];
+    }
+
+    private static final class Entry {
+
+        private final long value;
+        private final long expiresAtMillis;
+
+        private Entry(long value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.core.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buckets held on this node only, so each node enforces the limit on its own. Buckets live in a bounded map
+ * per rule and are dropped once idle, when they would be full anyway; updating one is a single CAS.
+ */
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final long maximumClients;
+    private final Duration idleTimeout;
+    private final Map<String, Cache<String, AtomicLong>> bucketsByRule = new ConcurrentHashMap<>();
+
+    public LocalRateLimitStore(long maximumClients, Duration idleTimeout) {
+        this.maximumClients = maximumClients;
+        this.idleTimeout = idleTimeout;
+    }
+
+    @Override
+    public long tryAcquire(RateLimitRule rule, String clientKey) {
+        AtomicLong arrival = buckets(rule).get(clientKey, key -> new AtomicLong(Long.MIN_VALUE));
+        long now = System.nanoTime();
+        while (true) {
+            long current = arrival.get();
+            long next = rule.nextArrival(current, now);
+            long wait = rule.waitNanos(next, now);
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private Cache<String, AtomicLong> buckets(RateLimitRule rule) {
+        Cache<String, AtomicLong> buckets = bucketsByRule.get(rule.getName());
+        if (buckets != null) {
+            return buckets;
+        }
+        // Idle for longer than the period means the bucket has refilled, so forgetting it changes nothing
+        Duration expiry = idleTimeout.compareTo(rule.getPeriod()) > 0 ? idleTimeout : rule.getPeriod();
+        return bucketsByRule.computeIfAbsent(rule.getName(), name -> Caffeine.newBuilder()
+                .maximumSize(maximumClients)
+                .expireAfterAccess(expiry)
+                .build());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.core.security.ratelimit;
+
+import com.example.core.web.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies the first {@link RateLimitRule} whose pattern matches the request path, keyed by the authenticated
+ * subject or, for anonymous requests, the client address. Runs after {@code JwtAuthenticationFilter} so the
+ * subject is known. Rejected requests get 429 with {@code Retry-After} in whole seconds.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<RateLimitRule> rules;
+    private final RateLimitStore store;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+            SecurityContextHolder.getContextHolderStrategy();
+
+    public RateLimitFilter(
+            List<RateLimitRule> rules, RateLimitStore store, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rules = List.copyOf(rules);
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimitRule rule = matchingRule(request);
+        if (rule != null) {
+            long waitNanos = store.tryAcquire(rule, clientKey(request));
+            if (waitNanos > 0) {
+                reject(rule, waitNanos, request, response);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitRule matchingRule(HttpServletRequest request) {
+        if (rules.isEmpty()) {
+            return null;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (RateLimitRule rule : rules) {
+            if (rule.matches(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication =
+                securityContextHolderStrategy.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "sub:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(RateLimitRule rule, long waitNanos, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Counter.builder("security.rate-limit.rejected")
+                .tag("rule", rule.getName())
+                .register(meterRegistry)
+                .increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(
+                response.getOutputStream(), ApiResponse.error("Too many requests", request.getRequestURI()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.core.security.ratelimit;
+
+import java.time.Duration;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Allows bursts of up to {@code capacity} requests per client, refilled at {@code capacity} per {@code period}.
+ *
+ * <p>Buckets are kept as a single "theoretical arrival time" (the generic cell rate algorithm): each request
+ * pushes it forward by one emission interval ({@code period / capacity}), and a request is allowed while it
+ * stays within {@code period} of now. This is equivalent to a token bucket but needs one number per client,
+ * so it can be updated with a single compare-and-set.
+ */
+public class RateLimitRule {
+
+    private final String name;
+    private final PathPattern pattern;
+    private final long emissionIntervalNanos;
+    private final long periodNanos;
+
+    public RateLimitRule(String name, String pattern, long capacity, Duration period) {
+        if (capacity <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limit " + name + " needs a positive capacity and period");
+        }
+        this.name = name;
+        this.pattern = PathPatternParser.defaultInstance.parse(pattern);
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.periodNanos = emissionIntervalNanos * capacity;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean matches(PathContainer path) {
+        return pattern.matches(path);
+    }
+
+    /**
+     * The arrival time to store if a request at {@code now} is allowed, given the stored {@code arrival}.
+     */
+    long nextArrival(long arrival, long now) {
+        return Math.max(arrival, now) + emissionIntervalNanos;
+    }
+
+    /**
+     * Nanoseconds until a request at {@code now} would be allowed, or zero if it is allowed now.
+     */
+    long waitNanos(long nextArrival, long now) {
+        return Math.max(0, nextArrival - now - periodNanos);
+    }
+
+    /**
+     * How long an idle client's state matters: after this its bucket is full again.
+     */
+    Duration getPeriod() {
+        return Duration.ofNanos(periodNanos);
+    }
+}
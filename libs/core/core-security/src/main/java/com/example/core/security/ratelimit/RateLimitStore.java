@@ -0,0 +1,14 @@
+package com.example.core.security.ratelimit;
+
+/**
+ * Holds the per-client state of every rate limit rule.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes one request from the client's bucket for {@code rule}.
+     *
+     * @return zero if the request is allowed, otherwise the nanoseconds until it would be
+     */
+    long tryAcquire(RateLimitRule rule, String clientKey);
+}
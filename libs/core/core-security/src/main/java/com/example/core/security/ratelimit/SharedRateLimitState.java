@@ -0,0 +1,22 @@
+package com.example.core.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * A key-value store shared by all nodes, such as Redis or a data grid, that {@link DistributedRateLimitStore}
+ * keeps bucket state in. Implementations only need an atomic compare-and-set on a single long with a
+ * time-to-live.
+ */
+public interface SharedRateLimitState {
+
+    /**
+     * Returns the stored value, or {@code null} if there is none or it has expired.
+     */
+    Long get(String key);
+
+    /**
+     * Stores {@code update} if the current value is {@code expected} ({@code null} meaning absent), expiring it
+     * after {@code ttl}.
+     */
+    boolean compareAndSet(String key, Long expected, long update, Duration ttl);
+}
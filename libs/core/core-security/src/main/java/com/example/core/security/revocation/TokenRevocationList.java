@@ -0,0 +1,67 @@
+package com.example.core.security.revocation;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Revoked token ids ({@code jti}) known to this node. Every authenticated request asks whether its token is
+ * revoked, and almost none are, so the check first consults a Bloom filter and only goes to the exact set on
+ * a (rare, false-positive or genuine) hit. Reads take no locks.
+ *
+ * <p>Entries are kept until the token's own expiry, after which the token is rejected anyway; {@link
+ * #purgeExpired(Instant)} drops them and rebuilds the filter, which cannot remove entries itself.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final long expectedRevocations;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+
+    public TokenRevocationList(@Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations) {
+        this.expectedRevocations = expectedRevocations;
+        this.filter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Tokens without a {@code jti} (issued before ids were added) cannot be revoked and are never reported.
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    /**
+     * Records a revocation. Returns {@code false} if the token was already known to be revoked.
+     */
+    public synchronized boolean revoke(String tokenId, Instant expiresAt) {
+        // Map first: a reader that sees the filter bit must also find the entry
+        boolean added = revoked.put(tokenId, expiresAt != null ? expiresAt : Instant.MAX) == null;
+        filter.add(tokenId);
+        return added;
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * Removes revocations of tokens that have expired by {@code now} and rebuilds the filter from the rest,
+     * growing it if revocations have outgrown the configured expectation.
+     */
+    public synchronized int purgeExpired(Instant now) {
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, 2L * revoked.size()), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+        return before - revoked.size();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.core.security.revocation;
+
+import com.example.core.messaging.outbox.OutboxEventPublisher;
+import com.example.core.security.jwt.JwtService;
+import com.example.core.security.jwt.VerifiedToken;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Revokes tokens across all nodes. A revocation is recorded in the outbox as part of the caller's transaction,
+ * from which it is relayed to {@code jwt.revocation.topic}, and takes effect on this node once that transaction
+ * commits (at once when there is none); if the transaction rolls back the revocation is dropped with it instead
+ * of silently staying local. Every node consumes the
+ * topic under its own group, named after {@code app.instance-id}, and rewinds to the beginning whenever it is
+ * assigned partitions, so a node that starts later rebuilds the full list. The topic's retention must
+ * therefore be at least the longest token lifetime (the refresh token expiration).
+ *
+ * <p>{@code security.token.revocation.propagation} times how long revocations issued elsewhere take to arrive
+ * here; revocations older than this node are replayed history and are not recorded.
+ */
+@Service
+public class TokenRevocationService implements ConsumerSeekAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final JwtService jwtService;
+    private final TokenRevocationList revocationList;
+    private final OutboxEventPublisher eventPublisher;
+    private final String topic;
+    private final Timer propagationTimer;
+    private final Instant startedAt = Instant.now();
+
+    public TokenRevocationService(
+            JwtService jwtService,
+            TokenRevocationList revocationList,
+            OutboxEventPublisher eventPublisher,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${jwt.revocation.topic:token-revocations}") String topic) {
+        this.jwtService = jwtService;
+        this.revocationList = revocationList;
+        this.eventPublisher = eventPublisher;
+        this.topic = topic;
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.propagationTimer = Timer.builder("security.token.revocation.propagation")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        Gauge.builder("security.token.revocation.size", revocationList, TokenRevocationList::size)
+                .register(registry);
+    }
+
+    /**
+     * Revokes a token that is still valid. Returns {@code false} if it is invalid, expired, already revoked
+     * or has no {@code jti}.
+     */
+    @Transactional
+    public boolean revoke(String token) {
+        return jwtService.verify(token).map(this::revoke).orElse(false);
+    }
+
+    @Transactional
+    public boolean revoke(VerifiedToken token) {
+        if (token.getId() == null) {
+            logger.warn("Cannot revoke token for subject {} without a jti claim", token.getSubject());
+            return false;
+        }
+        return revoke(token.getId(), token.getExpiresAt());
+    }
+
+    /**
+     * Revokes a token by id, for callers that recorded the id and expiry when the token was issued.
+     */
+    @Transactional
+    public boolean revoke(String tokenId, Instant expiresAt) {
+        if (revocationList.isRevoked(tokenId)) {
+            return false;
+        }
+        eventPublisher.publishEvent(topic, tokenId, new TokenRevokedEvent(tokenId, expiresAt));
+        // Only listed locally once the outbox row is committed, so a rollback leaves the token revocable on a retry
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revocationList.revoke(tokenId, expiresAt);
+                }
+            });
+            return true;
+        }
+        return revocationList.revoke(tokenId, expiresAt);
+    }
+
+    @KafkaListener(
+            topics = "${jwt.revocation.topic:token-revocations}",
+            groupId = "token-revocations-${app.instance-id:localhost}",
+            autoStartup = "${jwt.revocation.replication.enabled:true}")
+    public void onTokenRevoked(TokenRevokedEvent event, Acknowledgment acknowledgment) {
+        if (revocationList.revoke(event.getTokenId(), event.getExpiresAt())
+                && event.getTimestamp().isAfter(startedAt)) {
+            propagationTimer.record(Duration.between(event.getTimestamp(), Instant.now()));
+        }
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * The group is stable across restarts but the list is not, so every assignment replays the topic rather
+     * than resuming from the group's committed offsets.
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToBeginning(assignments.keySet());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:10m}")
+    public void purgeExpired() {
+        int purged = revocationList.purgeExpired(Instant.now());
+        if (purged > 0) {
+            logger.info("Purged {} expired token revocations, {} remain", purged, revocationList.size());
+        }
+    }
+}
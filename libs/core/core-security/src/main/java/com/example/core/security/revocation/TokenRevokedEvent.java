@@ -0,0 +1,39 @@
+package com.example.core.security.revocation;
+
+import com.example.core.messaging.event.BaseEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
+
+public class TokenRevokedEvent extends BaseEvent {
+
+    @JsonProperty("tokenId")
+    private final String tokenId;
+
+    @JsonProperty("expiresAt")
+    private final Instant expiresAt;
+
+    public TokenRevokedEvent(String tokenId, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+
+    @JsonCreator
+    public TokenRevokedEvent(
+            @JsonProperty("eventId") String eventId,
+            @JsonProperty("timestamp") Instant timestamp,
+            @JsonProperty("tokenId") String tokenId,
+            @JsonProperty("expiresAt") Instant expiresAt) {
+        super(eventId, timestamp);
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
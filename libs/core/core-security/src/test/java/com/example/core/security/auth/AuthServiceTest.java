@@ -0,0 +1,167 @@
+package com.example.core.security.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.core.security.jwt.IssuedToken;
+import com.example.core.security.jwt.JwtService;
+import com.example.core.security.password.PasswordHashingService;
+import com.example.core.security.password.PasswordVerification;
+import com.example.core.security.revocation.TokenRevocationService;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class AuthServiceTest {
+
+    private static final int PURGE_BATCH_SIZE = 2;
+
+    private UserDetailsService userDetailsService;
+    private UserDetailsPasswordService userDetailsPasswordService;
+    private PasswordHashingService passwordHashingService;
+    private JwtService jwtService;
+    private RefreshTokenRepository refreshTokenRepository;
+    private RecordingTransactionManager transactionManager;
+    private AuthService authService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userDetailsService = mock(UserDetailsService.class);
+        userDetailsPasswordService = mock(UserDetailsPasswordService.class);
+        ObjectProvider<UserDetailsPasswordService> passwordServiceProvider = mock(ObjectProvider.class);
+        doAnswer(invocation -> {
+                    invocation
+                            .<Consumer<UserDetailsPasswordService>>getArgument(0)
+                            .accept(userDetailsPasswordService);
+                    return null;
+                })
+                .when(passwordServiceProvider)
+                .ifAvailable(any());
+        passwordHashingService = mock(PasswordHashingService.class);
+        jwtService = mock(JwtService.class);
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        transactionManager = new RecordingTransactionManager();
+        authService = new AuthService(
+                userDetailsService,
+                passwordServiceProvider,
+                passwordHashingService,
+                jwtService,
+                refreshTokenRepository,
+                mock(TokenRevocationService.class),
+                transactionManager);
+        ReflectionTestUtils.setField(authService, "purgeBatchSize", PURGE_BATCH_SIZE);
+    }
+
+    @Test
+    void issueTokens_ShouldVerifyPasswordOutsideTransactionAndStoreInOne() {
+        UserDetails user =
+                User.withUsername("user").password("{old}hash").roles("USER").build();
+        when(userDetailsService.loadUserByUsername("user")).thenReturn(user);
+        List<String> steps = new ArrayList<>();
+        PasswordVerification verification = mock(PasswordVerification.class);
+        when(verification.matches()).thenReturn(true);
+        when(verification.getUpgradedHash()).thenReturn(Optional.of("{new}hash"));
+        when(passwordHashingService.verify("secret", "{old}hash")).thenAnswer(invocation -> {
+            steps.add("verify " + TransactionSynchronizationManager.isActualTransactionActive());
+            return CompletableFuture.completedFuture(verification);
+        });
+        when(userDetailsPasswordService.updatePassword(user, "{new}hash")).thenAnswer(invocation -> {
+            steps.add("upgrade " + TransactionSynchronizationManager.isActualTransactionActive());
+            return user;
+        });
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+        when(jwtService.issueAccessToken(eq("user"), any(Map.class)))
+                .thenReturn(new IssuedToken("access", "access-id", expiresAt));
+        when(jwtService.issueRefreshToken("user")).thenReturn(new IssuedToken("refresh", "refresh-id", expiresAt));
+        doAnswer(invocation -> {
+                    steps.add("save " + TransactionSynchronizationManager.isActualTransactionActive());
+                    return null;
+                })
+                .when(refreshTokenRepository)
+                .save(any(), any(), anyString(), any(), any());
+
+        authService.issueTokens("user", "secret");
+
+        assertThat(steps).containsExactly("verify false", "upgrade true", "save true");
+        assertThat(transactionManager.commits).isEqualTo(1);
+    }
+
+    @Test
+    void purgeExpiredRefreshTokens_ShouldCommitEachBatchInItsOwnTransaction() {
+        List<Boolean> inTransaction = new ArrayList<>();
+        when(refreshTokenRepository.deleteExpired(any(Instant.class), eq(PURGE_BATCH_SIZE)))
+                .thenAnswer(invocation -> {
+                    inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+                    return inTransaction.size() < 3 ? PURGE_BATCH_SIZE : 1;
+                });
+
+        authService.purgeExpiredRefreshTokens();
+
+        verify(refreshTokenRepository, times(3)).deleteExpired(any(Instant.class), eq(PURGE_BATCH_SIZE));
+        assertThat(inTransaction).containsExactly(true, true, true);
+        assertThat(transactionManager.commits).isEqualTo(3);
+    }
+
+    @Test
+    void purgeExpiredRefreshTokens_ShouldStopAfterEmptyBatch() {
+        when(refreshTokenRepository.deleteExpired(any(Instant.class), eq(PURGE_BATCH_SIZE)))
+                .thenReturn(0);
+
+        authService.purgeExpiredRefreshTokens();
+
+        verify(refreshTokenRepository, times(1)).deleteExpired(any(Instant.class), eq(PURGE_BATCH_SIZE));
+        assertThat(transactionManager.commits).isEqualTo(1);
+    }
+
+    /** Marks transactions active as a real manager would, and counts commits. */
+    private static final class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        private int commits;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {}
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.core.security.authentication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.core.security.jwt.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+class JwtAuthenticationTokenTest {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final VerifiedToken verifiedToken =
+            new VerifiedToken(Jwts.claims().subject("john@example.com").build());
+
+    @Test
+    void constructor_ShouldExposeSubjectAndAuthorities() {
+        JwtAuthenticationToken authentication =
+                new JwtAuthenticationToken(verifiedToken, AUTHORITIES, new MockHttpServletRequest());
+
+        assertThat(authentication.getPrincipal()).isEqualTo("john@example.com");
+        assertThat(authentication.getName()).isEqualTo("john@example.com");
+        assertThat(authentication.getCredentials()).isNull();
+        assertThat(authentication.getAuthorities()).isSameAs(AUTHORITIES);
+        assertThat(authentication.getToken()).isSameAs(verifiedToken);
+        assertThat(authentication.isAuthenticated()).isTrue();
+    }
+
+    @Test
+    void constructor_ShouldCaptureDetailsBeforeRequestIsRecycled() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        request.setSession(new MockHttpSession(null, "session-1"));
+
+        JwtAuthenticationToken authentication = new JwtAuthenticationToken(verifiedToken, AUTHORITIES, request);
+        // The container reuses request objects once the request completes
+        request.setRemoteAddr("10.0.0.2");
+        request.setSession(new MockHttpSession(null, "session-2"));
+
+        WebAuthenticationDetails details = (WebAuthenticationDetails) authentication.getDetails();
+        assertThat(details.getRemoteAddress()).isEqualTo("10.0.0.1");
+        assertThat(details.getSessionId()).isEqualTo("session-1");
+    }
+
+    @Test
+    void getDetails_ShouldBuildDetailsOnceOnFirstUse() {
+        JwtAuthenticationToken authentication =
+                new JwtAuthenticationToken(verifiedToken, AUTHORITIES, new MockHttpServletRequest());
+
+        assertThat(authentication.getDetails()).isSameAs(authentication.getDetails());
+    }
+
+    @Test
+    void constructor_ShouldNotCreateSession() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        JwtAuthenticationToken authentication = new JwtAuthenticationToken(verifiedToken, AUTHORITIES, request);
+
+        assertThat(((WebAuthenticationDetails) authentication.getDetails()).getSessionId())
+                .isNull();
+        assertThat(request.getSession(false)).isNull();
+    }
+
+    @Test
+    void equals_ShouldCompareByPrincipalAuthoritiesAndDetails() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletRequest otherAddress = new MockHttpServletRequest();
+        otherAddress.setRemoteAddr("10.0.0.2");
+
+        JwtAuthenticationToken authentication = new JwtAuthenticationToken(verifiedToken, AUTHORITIES, request);
+        JwtAuthenticationToken same = new JwtAuthenticationToken(
+                new VerifiedToken(Jwts.claims().subject("john@example.com").build()), AUTHORITIES, request);
+
+        assertThat(authentication).isEqualTo(same).hasSameHashCodeAs(same);
+        assertThat(authentication).isNotEqualTo(new JwtAuthenticationToken(verifiedToken, List.of(), request));
+        assertThat(authentication).isNotEqualTo(new JwtAuthenticationToken(verifiedToken, AUTHORITIES, otherAddress));
+    }
+
+    @Test
+    void setAuthenticated_ShouldOnlyAllowRevoking() {
+        JwtAuthenticationToken authentication =
+                new JwtAuthenticationToken(verifiedToken, AUTHORITIES, new MockHttpServletRequest());
+
+        assertThatThrownBy(() -> authentication.setAuthenticated(true)).isInstanceOf(IllegalArgumentException.class);
+
+        authentication.setAuthenticated(false);
+        assertThat(authentication.isAuthenticated()).isFalse();
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.core.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.core.security.revocation.TokenRevocationList;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JwksKeyLocatorTest {
+
+    private static final Duration SCHEDULED_REFRESH = Duration.ofHours(1);
+
+    @TempDir
+    Path directory;
+
+    private Path jwksFile;
+    private CountingSource source;
+    private final KeyPair first = Jwts.SIG.ES256.keyPair().build();
+    private final KeyPair second = Jwts.SIG.ES256.keyPair().build();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jwksFile = directory.resolve("jwks.json");
+        writeJwks(new NamedKey("key-1", first.getPublic()));
+        source = new CountingSource(new FileJwksSource(jwksFile));
+    }
+
+    @Test
+    void locate_ShouldResolveKnownKeyId() {
+        try (JwksKeyLocator locator = new JwksKeyLocator(source, SCHEDULED_REFRESH, Duration.ZERO)) {
+            String token = sign(first, "key-1");
+
+            assertThat(parseSubject(locator, token)).isEqualTo("user");
+            assertThat(locator.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void locate_ShouldPickUpRotatedKeyAfterUnknownKeyIdTriggersRefresh() throws Exception {
+        try (JwksKeyLocator locator = new JwksKeyLocator(source, SCHEDULED_REFRESH, Duration.ZERO)) {
+            writeJwks(new NamedKey("key-1", first.getPublic()), new NamedKey("key-2", second.getPublic()));
+            String token = sign(second, "key-2");
+
+            // Rejected at once; the lookup only schedules the refresh
+            assertThatThrownBy(() -> parseSubject(locator, token)).isInstanceOf(JwtException.class);
+            awaitTrue(() -> locator.size() == 2);
+
+            assertThat(parseSubject(locator, token)).isEqualTo("user");
+            assertThat(parseSubject(locator, sign(first, "key-1"))).isEqualTo("user");
+        }
+    }
+
+    @Test
+    void locate_ShouldRefreshAtMostOncePerMinimumIntervalForUnknownKeyIds() throws Exception {
+        Duration minRefreshInterval = Duration.ofMillis(200);
+        try (JwksKeyLocator locator = new JwksKeyLocator(source, SCHEDULED_REFRESH, minRefreshInterval)) {
+            String token = sign(second, "unknown");
+
+            // Within the interval of the initial load: no refresh at all
+            for (int i = 0; i < 10; i++) {
+                assertThatThrownBy(() -> parseSubject(locator, token)).isInstanceOf(JwtException.class);
+            }
+            assertThat(source.fetches.get()).isEqualTo(1);
+
+            Thread.sleep(minRefreshInterval.toMillis() + 50);
+            for (int i = 0; i < 10; i++) {
+                assertThatThrownBy(() -> parseSubject(locator, token)).isInstanceOf(JwtException.class);
+            }
+            awaitTrue(() -> source.fetches.get() == 2);
+            Thread.sleep(50);
+            assertThat(source.fetches.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void refresh_ShouldKeepKnownKeysWhenSourceFails() throws IOException {
+        try (JwksKeyLocator locator = new JwksKeyLocator(source, SCHEDULED_REFRESH, Duration.ZERO)) {
+            Files.writeString(jwksFile, "not json");
+
+            locator.refresh();
+
+            assertThat(locator.size()).isEqualTo(1);
+            assertThat(parseSubject(locator, sign(first, "key-1"))).isEqualTo("user");
+        }
+    }
+
+    @Test
+    void refresh_WhenKeyIdIsWithdrawn_ShouldRejectTokensVerifiedWithItBefore() throws IOException {
+        try (JwksKeyLocator locator = new JwksKeyLocator(source, SCHEDULED_REFRESH, Duration.ZERO)) {
+            JwtService jwtService = new JwtService(
+                    new JwksJwtKeyProvider(locator, null),
+                    new TokenRevocationList(0),
+                    3600,
+                    86400,
+                    100,
+                    Duration.ofHours(1));
+            String token = sign(first, "key-1");
+            assertThat(jwtService.verify(token)).isPresent();
+
+            writeJwks(new NamedKey("key-2", second.getPublic()));
+            locator.refresh();
+
+            assertThat(jwtService.verify(token)).isEmpty();
+        }
+    }
+
+    private static String parseSubject(JwksKeyLocator locator, String token) {
+        return Jwts.parser()
+                .keyLocator(locator)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+
+    private static String sign(KeyPair keyPair, String keyId) {
+        return Jwts.builder()
+                .header()
+                .keyId(keyId)
+                .and()
+                .subject("user")
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+
+    private void writeJwks(NamedKey... keys) throws IOException {
+        String jwks = Stream.of(keys)
+                .map(key -> Jwks.json(Jwks.builder().key(key.key()).id(key.id()).build()))
+                .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+        Files.writeString(jwksFile, jwks);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private record NamedKey(String id, PublicKey key) {}
+
+    private static final class CountingSource implements JwksSource {
+
+        private final JwksSource delegate;
+        private final AtomicInteger fetches = new AtomicInteger();
+
+        private CountingSource(JwksSource delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String fetch() throws IOException {
+            fetches.incrementAndGet();
+            return delegate.fetch();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.core.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Jwts;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100, Duration.ofMinutes(5));
+
+    @Test
+    void put_ShouldCacheTokenUntilItsExpiry() {
+        VerifiedToken verified = token(Instant.now().plus(1, ChronoUnit.MINUTES));
+
+        cache.put("token", verified);
+
+        assertThat(cache.get("token")).isSameAs(verified);
+        assertThat(cache.get("other-token")).isNull();
+    }
+
+    @Test
+    void put_ShouldNotCacheExpiredToken() {
+        cache.put("token", token(Instant.now().minus(1, ChronoUnit.MINUTES)));
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void put_ShouldCacheTokenWithFarFutureExpiry() {
+        // Nanoseconds until this exp do not fit in a long
+        VerifiedToken verified = token(Instant.parse("9999-12-31T23:59:59Z"));
+
+        cache.put("token", verified);
+
+        assertThat(cache.get("token")).isSameAs(verified);
+    }
+
+    @Test
+    void put_ShouldCacheTokenWithoutExpiry() {
+        VerifiedToken verified = new VerifiedToken(Jwts.claims().subject("user").build());
+
+        cache.put("token", verified);
+
+        assertThat(cache.get("token")).isSameAs(verified);
+    }
+
+    @Test
+    void invalidateAll_ShouldDropCachedTokens() {
+        cache.put("token", token(Instant.now().plus(1, ChronoUnit.MINUTES)));
+
+        cache.invalidateAll();
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    private static VerifiedToken token(Instant expiresAt) {
+        return new VerifiedToken(
+                Jwts.claims().subject("user").expiration(Date.from(expiresAt)).build());
+    }
+}
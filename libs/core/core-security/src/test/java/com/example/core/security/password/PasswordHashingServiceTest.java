@@ -0,0 +1,135 @@
+package com.example.core.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.core.security.config.PasswordHashingConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PasswordHashingServiceTest {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    @Test
+    void verify_ShouldUpgradeLegacyBcryptHashToCurrentAlgorithm() {
+        PasswordEncoder encoder = passwordEncoder("argon2");
+        service = new PasswordHashingService(encoder, 1, 4, meterRegistry);
+        // Written before hashes carried an {id} prefix
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        PasswordVerification verification = service.verify(PASSWORD, legacyHash).join();
+
+        assertThat(verification.matches()).isTrue();
+        String upgradedHash = verification.getUpgradedHash().orElseThrow();
+        assertThat(upgradedHash).startsWith("{argon2}");
+        PasswordVerification afterUpgrade =
+                service.verify(PASSWORD, upgradedHash).join();
+        assertThat(afterUpgrade.matches()).isTrue();
+        assertThat(afterUpgrade.getUpgradedHash()).isEmpty();
+    }
+
+    @Test
+    void verify_ShouldUpgradePrefixedHashFromPreviousAlgorithm() {
+        String bcryptHash = passwordEncoder("bcrypt").encode(PASSWORD);
+        service = new PasswordHashingService(passwordEncoder("argon2"), 1, 4, meterRegistry);
+
+        PasswordVerification verification = service.verify(PASSWORD, bcryptHash).join();
+
+        assertThat(bcryptHash).startsWith("{bcrypt}");
+        assertThat(verification.matches()).isTrue();
+        assertThat(verification.getUpgradedHash())
+                .hasValueSatisfying(hash -> assertThat(hash).startsWith("{argon2}"));
+    }
+
+    @Test
+    void verify_ShouldNotUpgradeOnMismatch() {
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        service = new PasswordHashingService(passwordEncoder("argon2"), 1, 4, meterRegistry);
+
+        PasswordVerification verification = service.verify("wrong", legacyHash).join();
+
+        assertThat(verification.matches()).isFalse();
+        assertThat(verification.getUpgradedHash()).isEmpty();
+    }
+
+    @Test
+    void encode_ShouldRejectWhenPoolAndQueueAreFull() {
+        CountDownLatch release = new CountDownLatch(1);
+        service = new PasswordHashingService(new BlockingEncoder(release), 1, 1, meterRegistry);
+        try {
+            CompletableFuture<String> running = service.encode(PASSWORD);
+            CompletableFuture<String> queued = service.encode(PASSWORD);
+
+            CompletableFuture<String> rejected = service.encode(PASSWORD);
+
+            assertThatThrownBy(rejected::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(PasswordHashingRejectedException.class);
+            assertThat(meterRegistry
+                            .get("security.password.hashing.rejected")
+                            .counter()
+                            .count())
+                    .isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.join()).isEqualTo("hashed");
+            assertThat(queued.join()).isEqualTo("hashed");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static PasswordEncoder passwordEncoder(String algorithm) {
+        PasswordHashingConfig config = new PasswordHashingConfig();
+        ReflectionTestUtils.setField(config, "algorithm", algorithm);
+        // Cheapest parameters, so the tests exercise the algorithms without paying production cost
+        ReflectionTestUtils.setField(config, "bcryptStrength", 4);
+        ReflectionTestUtils.setField(config, "argon2MemoryKib", 1024);
+        ReflectionTestUtils.setField(config, "argon2Iterations", 1);
+        ReflectionTestUtils.setField(config, "argon2Parallelism", 1);
+        return config.passwordEncoder();
+    }
+
+    /** Holds every hashing thread until released, so the pool can be filled deterministically. */
+    private static final class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch release;
+
+        private BlockingEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
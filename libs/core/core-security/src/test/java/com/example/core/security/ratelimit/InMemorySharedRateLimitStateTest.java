@@ -0,0 +1,64 @@
+package com.example.core.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class InMemorySharedRateLimitStateTest {
+
+    private final InMemorySharedRateLimitState state = new InMemorySharedRateLimitState();
+
+    @Test
+    void compareAndSet_ShouldOnlyUpdateFromExpectedValue() {
+        assertThat(state.compareAndSet("key", 1L, 2, Duration.ofMinutes(1))).isFalse();
+        assertThat(state.compareAndSet("key", null, 1, Duration.ofMinutes(1))).isTrue();
+        assertThat(state.compareAndSet("key", null, 5, Duration.ofMinutes(1))).isFalse();
+        assertThat(state.compareAndSet("key", 1L, 2, Duration.ofMinutes(1))).isTrue();
+
+        assertThat(state.get("key")).isEqualTo(2L);
+    }
+
+    @Test
+    void get_ShouldTreatExpiredEntryAsAbsent() throws InterruptedException {
+        state.compareAndSet("key", null, 1, Duration.ofMillis(20));
+
+        Thread.sleep(40);
+
+        assertThat(state.get("key")).isNull();
+        assertThat(state.compareAndSet("key", null, 2, Duration.ofMinutes(1))).isTrue();
+    }
+
+    @Test
+    void distributedStore_ShouldShareBucketsBetweenNodes() {
+        RateLimitRule rule = new RateLimitRule("auth", "/api/auth/**", 2, Duration.ofMinutes(1));
+        DistributedRateLimitStore node1 = new DistributedRateLimitStore(state);
+        DistributedRateLimitStore node2 = new DistributedRateLimitStore(state);
+
+        assertThat(node1.tryAcquire(rule, "ip:10.0.0.1")).isZero();
+        assertThat(node2.tryAcquire(rule, "ip:10.0.0.1")).isZero();
+
+        assertThat(node1.tryAcquire(rule, "ip:10.0.0.1")).isPositive();
+        assertThat(node2.tryAcquire(rule, "ip:10.0.0.1")).isPositive();
+        assertThat(node2.tryAcquire(rule, "ip:10.0.0.2")).isZero();
+    }
+
+    @Test
+    void distributedStore_ShouldFailOpenWhenStateIsUnavailable() {
+        RateLimitRule rule = new RateLimitRule("auth", "/api/auth/**", 1, Duration.ofMinutes(1));
+        DistributedRateLimitStore store = new DistributedRateLimitStore(new SharedRateLimitState() {
+            @Override
+            public Long get(String key) {
+                throw new IllegalStateException("connection refused");
+            }
+
+            @Override
+            public boolean compareAndSet(String key, Long expected, long update, Duration ttl) {
+                throw new IllegalStateException("connection refused");
+            }
+        });
+
+        assertThat(store.tryAcquire(rule, "ip:10.0.0.1")).isZero();
+        assertThat(store.tryAcquire(rule, "ip:10.0.0.1")).isZero();
+    }
+}
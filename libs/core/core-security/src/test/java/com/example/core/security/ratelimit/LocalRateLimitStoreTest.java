@@ -0,0 +1,49 @@
+package com.example.core.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class LocalRateLimitStoreTest {
+
+    private final LocalRateLimitStore store = new LocalRateLimitStore(1_000, Duration.ofMinutes(1));
+
+    @Test
+    void tryAcquire_ShouldRejectOnceBurstIsSpent() {
+        RateLimitRule rule = new RateLimitRule("auth", "/api/auth/**", 3, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.tryAcquire(rule, "ip:10.0.0.1"))
+                    .as("request %d", i)
+                    .isZero();
+        }
+
+        long wait = store.tryAcquire(rule, "ip:10.0.0.1");
+        assertThat(wait).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(20).toNanos());
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillOverTime() throws InterruptedException {
+        RateLimitRule rule = new RateLimitRule("api", "/api/**", 2, Duration.ofMillis(200));
+        store.tryAcquire(rule, "ip:10.0.0.1");
+        store.tryAcquire(rule, "ip:10.0.0.1");
+        long wait = store.tryAcquire(rule, "ip:10.0.0.1");
+        assertThat(wait).isPositive();
+
+        Thread.sleep(Duration.ofNanos(wait).toMillis() + 20);
+
+        assertThat(store.tryAcquire(rule, "ip:10.0.0.1")).isZero();
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepSeparateBucketsPerClientAndRule() {
+        RateLimitRule auth = new RateLimitRule("auth", "/api/auth/**", 1, Duration.ofMinutes(1));
+        RateLimitRule api = new RateLimitRule("api", "/api/**", 1, Duration.ofMinutes(1));
+        store.tryAcquire(auth, "sub:john@example.com");
+
+        assertThat(store.tryAcquire(auth, "sub:john@example.com")).isPositive();
+        assertThat(store.tryAcquire(auth, "sub:jane@example.com")).isZero();
+        assertThat(store.tryAcquire(api, "sub:john@example.com")).isZero();
+    }
+}
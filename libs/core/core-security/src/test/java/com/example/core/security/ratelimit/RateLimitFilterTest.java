@@ -0,0 +1,117 @@
+package com.example.core.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class RateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        List<RateLimitRule> rules = List.of(
+                new RateLimitRule("auth", "/api/auth/**", 1, Duration.ofSeconds(30)),
+                new RateLimitRule("api", "/api/**", 2, Duration.ofMinutes(1)));
+        filter = new RateLimitFilter(
+                rules, new LocalRateLimitStore(1_000, Duration.ofMinutes(1)), objectMapper, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_ShouldRejectWithRetryAfterOnceLimitIsReached() throws Exception {
+        assertThat(perform("/api/auth/token", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+
+        MockHttpServletResponse response = perform("/api/auth/token", "10.0.0.1");
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        // 30 s until the single request of the burst is back
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("success").asBoolean()).isFalse();
+        assertThat(body.get("path").asText()).isEqualTo("/api/auth/token");
+        assertThat(meterRegistry
+                        .get("security.rate-limit.rejected")
+                        .tag("rule", "auth")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_ShouldApplyFirstMatchingRuleOnly() throws Exception {
+        perform("/api/auth/token", "10.0.0.1");
+
+        // The auth bucket is empty, but /api/users falls under the api rule
+        assertThat(perform("/api/users", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(perform("/api/users", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(perform("/api/users", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void doFilter_ShouldNotLimitUnmatchedPaths() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(perform("/actuator/health", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+    }
+
+    @Test
+    void doFilter_ShouldKeyAnonymousRequestsByRemoteAddress() throws Exception {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new AnonymousAuthenticationToken(
+                        "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        perform("/api/auth/token", "10.0.0.1");
+
+        assertThat(perform("/api/auth/token", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(perform("/api/auth/token", "10.0.0.2").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void doFilter_ShouldKeyAuthenticatedRequestsBySubject() throws Exception {
+        authenticate("john@example.com");
+        perform("/api/auth/refresh", "10.0.0.1");
+
+        // Same subject from another address shares the bucket
+        assertThat(perform("/api/auth/refresh", "10.0.0.2").getStatus())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+
+        // Another subject behind the same address has its own
+        authenticate("jane@example.com");
+        assertThat(perform("/api/auth/refresh", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    private void authenticate(String subject) {
+        TestingAuthenticationToken authentication = new TestingAuthenticationToken(subject, null, "ROLE_USER");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private MockHttpServletResponse perform(String path, String remoteAddress) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(remoteAddress);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
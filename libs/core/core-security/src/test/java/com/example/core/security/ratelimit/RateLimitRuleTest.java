@@ -0,0 +1,81 @@
+package com.example.core.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+
+class RateLimitRuleTest {
+
+    // Five requests per second: one every 200 ms once the burst is spent
+    private static final long INTERVAL = Duration.ofMillis(200).toNanos();
+
+    private final RateLimitRule rule = new RateLimitRule("api", "/api/**", 5, Duration.ofSeconds(1));
+
+    @Test
+    void waitNanos_ShouldAllowBurstUpToCapacity() {
+        long now = 1_000_000_000L;
+        long arrival = Long.MIN_VALUE;
+
+        for (int i = 0; i < 5; i++) {
+            long next = rule.nextArrival(arrival, now);
+            assertThat(rule.waitNanos(next, now)).as("request %d", i).isZero();
+            arrival = next;
+        }
+
+        assertThat(rule.waitNanos(rule.nextArrival(arrival, now), now)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void waitNanos_ShouldRefillOneRequestPerEmissionInterval() {
+        long now = 1_000_000_000L;
+        long arrival = exhaust(now);
+
+        long almost = now + INTERVAL - 1;
+        assertThat(rule.waitNanos(rule.nextArrival(arrival, almost), almost)).isEqualTo(1);
+
+        long refilled = now + INTERVAL;
+        long next = rule.nextArrival(arrival, refilled);
+        assertThat(rule.waitNanos(next, refilled)).isZero();
+        // Only one request came back, so the next one waits again
+        assertThat(rule.waitNanos(rule.nextArrival(next, refilled), refilled)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void waitNanos_ShouldRestoreFullBurstAfterIdlePeriod() {
+        long now = 1_000_000_000L;
+        long arrival = exhaust(now);
+
+        long later = now + rule.getPeriod().toNanos();
+        for (int i = 0; i < 5; i++) {
+            long next = rule.nextArrival(arrival, later);
+            assertThat(rule.waitNanos(next, later)).as("request %d", i).isZero();
+            arrival = next;
+        }
+        assertThat(rule.waitNanos(rule.nextArrival(arrival, later), later)).isPositive();
+    }
+
+    @Test
+    void matches_ShouldUsePathPattern() {
+        assertThat(rule.matches(PathContainer.parsePath("/api/users/1"))).isTrue();
+        assertThat(rule.matches(PathContainer.parsePath("/actuator/health"))).isFalse();
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPositiveCapacityOrPeriod() {
+        assertThatThrownBy(() -> new RateLimitRule("api", "/api/**", 0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimitRule("api", "/api/**", 5, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long exhaust(long now) {
+        long arrival = Long.MIN_VALUE;
+        for (int i = 0; i < 5; i++) {
+            arrival = rule.nextArrival(arrival, now);
+        }
+        return arrival;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.core.security.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ShouldReportEveryAddedValue() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        List<String> values = IntStream.range(0, 10_000)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toList();
+
+        values.forEach(filter::add);
+
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void mightContain_ShouldStayNearConfiguredFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add("revoked-" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("valid-" + i))
+                .count();
+
+        // 1% expected; allow for hash quality, not for a broken filter
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void mightContain_ShouldBeFalseForEmptyFilter() {
+        BloomFilter filter = new BloomFilter(0, 0.01);
+
+        assertThat(filter.mightContain("token")).isFalse();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.core.security.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TokenRevocationListTest {
+
+    private final Instant now = Instant.now();
+
+    @Test
+    void revoke_ShouldReportTokenAsRevoked() {
+        TokenRevocationList list = new TokenRevocationList(100);
+
+        assertThat(list.revoke("token-1", now.plus(1, ChronoUnit.HOURS))).isTrue();
+
+        assertThat(list.isRevoked("token-1")).isTrue();
+        assertThat(list.isRevoked("token-2")).isFalse();
+        assertThat(list.size()).isEqualTo(1);
+    }
+
+    @Test
+    void revoke_ShouldReturnFalseWhenAlreadyRevoked() {
+        TokenRevocationList list = new TokenRevocationList(100);
+        list.revoke("token-1", now.plus(1, ChronoUnit.HOURS));
+
+        assertThat(list.revoke("token-1", now.plus(1, ChronoUnit.HOURS))).isFalse();
+        assertThat(list.size()).isEqualTo(1);
+    }
+
+    @Test
+    void isRevoked_ShouldIgnoreTokensWithoutId() {
+        TokenRevocationList list = new TokenRevocationList(100);
+
+        assertThat(list.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    void purgeExpired_ShouldDropExpiredRevocationsOnly() {
+        TokenRevocationList list = new TokenRevocationList(100);
+        list.revoke("expired", now.minus(1, ChronoUnit.MINUTES));
+        list.revoke("valid", now.plus(1, ChronoUnit.HOURS));
+        list.revoke("no-expiry", null);
+
+        int purged = list.purgeExpired(now);
+
+        assertThat(purged).isEqualTo(1);
+        assertThat(list.isRevoked("expired")).isFalse();
+        assertThat(list.isRevoked("valid")).isTrue();
+        assertThat(list.isRevoked("no-expiry")).isTrue();
+        assertThat(list.size()).isEqualTo(2);
+    }
+
+    @Test
+    void purgeExpired_ShouldRebuildFilterBeyondExpectedCount() {
+        TokenRevocationList list = new TokenRevocationList(10);
+        IntStream.range(0, 1_000).forEach(i -> list.revoke("token-" + i, now.plus(1, ChronoUnit.HOURS)));
+
+        list.purgeExpired(now);
+
+        assertThat(IntStream.range(0, 1_000)).allMatch(i -> list.isRevoked("token-" + i));
+        assertThat(list.isRevoked("other-token")).isFalse();
+    }
+}
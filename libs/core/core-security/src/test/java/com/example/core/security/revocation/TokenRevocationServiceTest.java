@@ -0,0 +1,143 @@
+package com.example.core.security.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.core.messaging.outbox.OutboxEventPublisher;
+import com.example.core.security.jwt.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class TokenRevocationServiceTest {
+
+    private static final String TOPIC = "token-revocations";
+
+    private final Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+
+    private TokenRevocationList revocationList;
+    private OutboxEventPublisher eventPublisher;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        revocationList = new TokenRevocationList(100);
+        eventPublisher = mock(OutboxEventPublisher.class);
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        service = new TokenRevocationService(
+                mock(JwtService.class), revocationList, eventPublisher, meterRegistry, TOPIC);
+    }
+
+    @Test
+    void revoke_ShouldRecordRevocationInOutboxAndLocally() {
+        assertThat(service.revoke("token-1", expiresAt)).isTrue();
+
+        verify(eventPublisher).publishEvent(eq(TOPIC), eq("token-1"), any(TokenRevokedEvent.class));
+        assertThat(revocationList.isRevoked("token-1")).isTrue();
+    }
+
+    @Test
+    void revoke_ShouldNotPublishAgainWhenAlreadyRevoked() {
+        service.revoke("token-1", expiresAt);
+
+        assertThat(service.revoke("token-1", expiresAt)).isFalse();
+
+        verify(eventPublisher, times(1)).publishEvent(eq(TOPIC), eq("token-1"), any(TokenRevokedEvent.class));
+    }
+
+    @Test
+    void revoke_ShouldFailAndStayRetryableWhenOutboxWriteFails() {
+        doThrow(new DataAccessResourceFailureException("database down"))
+                .when(eventPublisher)
+                .publishEvent(eq(TOPIC), eq("token-1"), any(TokenRevokedEvent.class));
+
+        assertThatThrownBy(() -> service.revoke("token-1", expiresAt))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(revocationList.isRevoked("token-1")).isFalse();
+    }
+
+    @Test
+    void revoke_InTransaction_ShouldOnlyRevokeLocallyOnceCommitted() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(service.revoke("token-1", expiresAt)).isTrue();
+            assertThat(revocationList.isRevoked("token-1")).isFalse();
+            status.setRollbackOnly();
+        });
+        assertThat(revocationList.isRevoked("token-1")).isFalse();
+
+        transactionTemplate.executeWithoutResult(status -> service.revoke("token-1", expiresAt));
+
+        verify(eventPublisher, times(2)).publishEvent(eq(TOPIC), eq("token-1"), any(TokenRevokedEvent.class));
+        assertThat(revocationList.isRevoked("token-1")).isTrue();
+    }
+
+    @Test
+    void onTokenRevoked_ShouldRecordRevocationWithoutPublishing() {
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        service.onTokenRevoked(new TokenRevokedEvent("token-1", expiresAt), acknowledgment);
+
+        assertThat(revocationList.isRevoked("token-1")).isTrue();
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void onPartitionsAssigned_ShouldReplayTopicFromBeginning() {
+        ConsumerSeekCallback callback = mock(ConsumerSeekCallback.class);
+        Map<TopicPartition, Long> assignments =
+                Map.of(new TopicPartition(TOPIC, 0), 42L, new TopicPartition(TOPIC, 1), 7L);
+
+        service.onPartitionsAssigned(assignments, callback);
+
+        verify(callback).seekToBeginning(assignments.keySet());
+    }
+
+    /** Runs transaction synchronizations as a real manager would, without a database. */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {}
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {}
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return false;
+        }
+    }
+}
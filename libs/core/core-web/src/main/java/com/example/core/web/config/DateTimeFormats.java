@@ -0,0 +1,52 @@
+package com.example.core.web.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * The ISO-8601 formats dates and times are written in, shared by the JSON {@code ObjectMapper} and the
+ * exporters that do not go through Jackson, so a timestamp reads the same in every response format.
+ * {@code LocalDateTime.toString()} is not one of them: it drops zero seconds, {@code 10:00} instead of
+ * {@code 10:00:00}.
+ */
+public final class DateTimeFormats {
+
+    public static final DateTimeFormatter LOCAL_DATE = DateTimeFormatter.ISO_LOCAL_DATE;
+    public static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    public static final DateTimeFormatter OFFSET_DATE_TIME = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+    public static final DateTimeFormatter INSTANT = DateTimeFormatter.ISO_INSTANT;
+
+    private DateTimeFormats() {}
+
+    /** Returns a {@link JavaTimeModule} that writes local dates and date-times with these formats. */
+    public static Module javaTimeModule() {
+        JavaTimeModule module = new JavaTimeModule();
+        module.addSerializer(LocalDate.class, new LocalDateSerializer(LOCAL_DATE));
+        module.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(LOCAL_DATE_TIME));
+        return module;
+    }
+
+    /** Formats a date or time value as the JSON responses write it, and anything else with {@code toString()}. */
+    public static String format(Object value) {
+        if (value instanceof LocalDateTime localDateTime) {
+            return LOCAL_DATE_TIME.format(localDateTime);
+        }
+        if (value instanceof LocalDate localDate) {
+            return LOCAL_DATE.format(localDate);
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return OFFSET_DATE_TIME.format(offsetDateTime);
+        }
+        if (value instanceof Instant instant) {
+            return INSTANT.format(instant);
+        }
+        return value.toString();
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.core.web.controller;
 
+import com.example.core.web.export.ExportFormat;
 import com.example.core.web.response.ApiResponse;
+import com.example.core.web.response.CursorPageResult;
 import com.example.core.web.response.PageResult;
+import com.example.core.web.response.TotalCountStrategy;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public abstract class BaseController {
 
@@ -51,18 +57,40 @@ public abstract class BaseController {
                 pageResult.getTotalElements(),
                 pageResult.getTotalPages(),
                 pageResult.isFirst(),
-                pageResult.isLast());
+                pageResult.isLast(),
+                pageResult.getTotalCountStrategy());
         return ResponseEntity.ok(ApiResponse.success(pagedResponse));
     }
 
+    // Keyset
+    protected <T> ResponseEntity<ApiResponse<CursorPagedResponse<T>>> cursorPagedSuccess(
+            CursorPageResult<T> pageResult) {
+        CursorPagedResponse<T> pagedResponse = new CursorPagedResponse<>(
+                pageResult.getContent(), pageResult.getSize(), pageResult.getNextCursor(), pageResult.hasNext());
+        return ResponseEntity.ok(ApiResponse.success(pagedResponse));
+    }
+
+    // Streaming: the body is written after the handler returns, outside any transaction of the handler
+    protected ResponseEntity<StreamingResponseBody> streamed(
+            ExportFormat format, String filename, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(filename + "." + format.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
     public static class PagedResponse<T> {
         private final java.util.List<T> content;
         private final int page;
         private final int size;
-        private final long totalElements;
-        private final int totalPages;
+        private final Long totalElements;
+        private final Integer totalPages;
         private final boolean first;
         private final boolean last;
+        private final TotalCountStrategy totalCount;
 
         public PagedResponse(
                 java.util.List<T> content,
@@ -72,6 +100,18 @@ public abstract class BaseController {
                 int totalPages,
                 boolean first,
                 boolean last) {
+            this(content, page, size, totalElements, totalPages, first, last, TotalCountStrategy.EXACT);
+        }
+
+        public PagedResponse(
+                java.util.List<T> content,
+                int page,
+                int size,
+                Long totalElements,
+                Integer totalPages,
+                boolean first,
+                boolean last,
+                TotalCountStrategy totalCount) {
             this.content = content;
             this.page = page;
             this.size = size;
@@ -79,6 +119,7 @@ public abstract class BaseController {
             this.totalPages = totalPages;
             this.first = first;
             this.last = last;
+            this.totalCount = totalCount;
         }
 
         // Getters
@@ -94,11 +135,11 @@ public abstract class BaseController {
             return size;
         }
 
-        public long getTotalElements() {
+        public Long getTotalElements() {
             return totalElements;
         }
 
-        public int getTotalPages() {
+        public Integer getTotalPages() {
             return totalPages;
         }
 
@@ -109,5 +150,44 @@ public abstract class BaseController {
         public boolean isLast() {
             return last;
         }
+
+        public boolean isHasNext() {
+            return !last;
+        }
+
+        public TotalCountStrategy getTotalCount() {
+            return totalCount;
+        }
+    }
+
+    public static class CursorPagedResponse<T> {
+        private final java.util.List<T> content;
+        private final int size;
+        private final String nextCursor;
+        private final boolean hasNext;
+
+        public CursorPagedResponse(java.util.List<T> content, int size, String nextCursor, boolean hasNext) {
+            this.content = content;
+            this.size = size;
+            this.nextCursor = nextCursor;
+            this.hasNext = hasNext;
+        }
+
+        // Getters
+        public java.util.List<T> getContent() {
+            return content;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+
+        public boolean isHasNext() {
+            return hasNext;
+        }
     }
 }
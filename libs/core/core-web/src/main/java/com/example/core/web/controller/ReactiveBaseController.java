@@ -0,0 +1,103 @@
+package com.example.core.web.controller;
+
+import com.example.core.web.controller.BaseController.CursorPagedResponse;
+import com.example.core.web.controller.BaseController.PagedResponse;
+import com.example.core.web.export.ExportFormat;
+import com.example.core.web.export.RecordWriter;
+import com.example.core.web.response.ApiResponse;
+import com.example.core.web.response.CursorPageResult;
+import com.example.core.web.response.PageResult;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.function.Function;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of {@link BaseController}: the same response envelopes, built from a {@link Mono} once
+ * the service emits.
+ */
+public abstract class ReactiveBaseController {
+
+    protected <T> Mono<ResponseEntity<ApiResponse<T>>> success(Mono<T> data) {
+        return data.map(value -> ResponseEntity.ok(ApiResponse.success(value)));
+    }
+
+    protected <T> Mono<ResponseEntity<ApiResponse<T>>> success(String message, Mono<T> data) {
+        return data.map(value -> ResponseEntity.ok(ApiResponse.success(message, value)));
+    }
+
+    protected <T> Mono<ResponseEntity<ApiResponse<T>>> created(Mono<T> data) {
+        return created("Resource created successfully", data);
+    }
+
+    protected <T> Mono<ResponseEntity<ApiResponse<T>>> created(String message, Mono<T> data) {
+        return data.map(value -> ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(message, value)));
+    }
+
+    protected Mono<ResponseEntity<ApiResponse<Void>>> noContent(Mono<Void> completion) {
+        return completion.then(
+                Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+    protected <T> Mono<ResponseEntity<ApiResponse<PagedResponse<T>>>> pagedSuccess(Mono<PageResult<T>> pageResult) {
+        return pageResult.map(page -> ResponseEntity.ok(ApiResponse.success(new PagedResponse<>(
+                page.getContent(),
+                page.getPage(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.isFirst(),
+                page.isLast(),
+                page.getTotalCountStrategy()))));
+    }
+
+    protected <T> Mono<ResponseEntity<ApiResponse<CursorPagedResponse<T>>>> cursorPagedSuccess(
+            Mono<CursorPageResult<T>> pageResult) {
+        return pageResult.map(page -> ResponseEntity.ok(ApiResponse.success(
+                new CursorPagedResponse<>(page.getContent(), page.getSize(), page.getNextCursor(), page.hasNext()))));
+    }
+
+    /**
+     * Streams {@code records} as an attachment, encoding each one with the writer from {@code writerFactory}
+     * into its own buffer. Records are only requested from upstream as the connection accepts more data, so
+     * a slow client slows the query down instead of filling memory.
+     */
+    protected <T> ResponseEntity<Flux<DataBuffer>> streamed(
+            ExportFormat format,
+            String filename,
+            Flux<T> records,
+            Function<OutputStream, RecordWriter<T>> writerFactory) {
+        Flux<DataBuffer> body = Flux.defer(() -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            RecordWriter<T> writer = writerFactory.apply(out);
+            // Writers may emit a preamble such as a CSV header before the first record
+            writer.finish();
+            Flux<DataBuffer> preamble = out.size() > 0 ? Flux.just(drain(out)) : Flux.empty();
+            return preamble.concatWith(records.map(record -> {
+                writer.accept(record);
+                writer.finish();
+                return drain(out);
+            }));
+        });
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(filename + "." + format.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    private static DataBuffer drain(ByteArrayOutputStream out) {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(out.toByteArray());
+        out.reset();
+        return buffer;
+    }
+}
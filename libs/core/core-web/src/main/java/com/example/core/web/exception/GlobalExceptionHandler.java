@@ -6,14 +6,19 @@ import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
@@ -40,6 +45,29 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("Validation failed", errors, request.getRequestURI()));
     }
 
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ApiResponse<Map<String, String>>> handleParameterValidationException(
+            HandlerMethodValidationException e, HttpServletRequest request) {
+        Map<String, String> errors = new HashMap<>();
+        e.getParameterValidationResults().forEach(result -> {
+            String parameterName = parameterName(result.getMethodParameter());
+            result.getResolvableErrors().forEach(error -> errors.put(parameterName, error.getDefaultMessage()));
+        });
+
+        logger.warn("Validation failed: {}", errors);
+        return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Validation failed", errors, request.getRequestURI()));
+    }
+
+    private static String parameterName(MethodParameter parameter) {
+        // Report the name the client sent, which compiled parameter names may not match or may not have
+        RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+        if (requestParam != null && !requestParam.name().isEmpty()) {
+            return requestParam.name();
+        }
+        return parameter.getParameterName();
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGenericException(Exception e, HttpServletRequest request) {
         logger.error("Unexpected error", e);
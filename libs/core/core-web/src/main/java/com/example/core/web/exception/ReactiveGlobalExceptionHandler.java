@@ -0,0 +1,91 @@
+package com.example.core.web.exception;
+
+import com.example.core.web.response.ApiResponse;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.server.ResponseStatusException;
+
+/** WebFlux counterpart of {@link GlobalExceptionHandler}, producing the same error bodies. */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveGlobalExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveGlobalExceptionHandler.class);
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBusinessException(BusinessException e, ServerHttpRequest request) {
+        logger.warn("Business exception: {}", e.getMessage());
+        return ResponseEntity.status(e.getHttpStatus())
+                .body(ApiResponse.error(e.getMessage(), request.getPath().value()));
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationException(
+            WebExchangeBindException e, ServerHttpRequest request) {
+        Map<String, String> errors = new HashMap<>();
+        e.getBindingResult().getAllErrors().forEach(error -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+
+        logger.warn("Validation failed: {}", errors);
+        return ResponseEntity.badRequest()
+                .body(ApiResponse.error(
+                        "Validation failed", errors, request.getPath().value()));
+    }
+
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ApiResponse<Map<String, String>>> handleParameterValidationException(
+            HandlerMethodValidationException e, ServerHttpRequest request) {
+        Map<String, String> errors = new HashMap<>();
+        e.getParameterValidationResults().forEach(result -> {
+            String parameterName = parameterName(result.getMethodParameter());
+            result.getResolvableErrors().forEach(error -> errors.put(parameterName, error.getDefaultMessage()));
+        });
+
+        logger.warn("Validation failed: {}", errors);
+        return ResponseEntity.badRequest()
+                .body(ApiResponse.error(
+                        "Validation failed", errors, request.getPath().value()));
+    }
+
+    private static String parameterName(MethodParameter parameter) {
+        // Report the name the client sent, which compiled parameter names may not match or may not have
+        RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+        if (requestParam != null && !requestParam.name().isEmpty()) {
+            return requestParam.name();
+        }
+        return parameter.getParameterName();
+    }
+
+    // Unmatched routes and unreadable parameters surface as ResponseStatusException in WebFlux
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ApiResponse<Void>> handleResponseStatusException(
+            ResponseStatusException e, ServerHttpRequest request) {
+        logger.warn("Request failed: {}", e.getMessage());
+        return ResponseEntity.status(e.getStatusCode())
+                .body(ApiResponse.error(e.getReason(), request.getPath().value()));
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiResponse<Void>> handleGenericException(Exception e, ServerHttpRequest request) {
+        logger.error("Unexpected error", e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error(
+                        "An unexpected error occurred", request.getPath().value()));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.core.web.export;
+
+import com.example.core.web.config.DateTimeFormats;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Writes RFC 4180 CSV with a header row taken from the column names. Dates and times are written in the
+ * {@link DateTimeFormats} the JSON responses use.
+ */
+public class CsvRecordWriter<T> implements RecordWriter<T> {
+
+    private final Writer writer;
+    private final Function<T, ?>[] extractors;
+
+    /**
+     * @param columns column name to value extractor, in output order
+     */
+    @SuppressWarnings("unchecked")
+    public CsvRecordWriter(OutputStream out, LinkedHashMap<String, Function<T, ?>> columns) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.extractors = columns.values().toArray(new Function[0]);
+        try {
+            int i = 0;
+            for (Map.Entry<String, Function<T, ?>> column : columns.entrySet()) {
+                if (i++ > 0) {
+                    writer.write(',');
+                }
+                writeField(column.getKey());
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void accept(T record) {
+        try {
+            for (int i = 0; i < extractors.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = extractors[i].apply(record);
+                if (value != null) {
+                    writeField(DateTimeFormats.format(value));
+                }
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0
+                || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.core.web.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/** Writes one JSON document per line (newline-delimited JSON). */
+public class NdjsonRecordWriter<T> implements RecordWriter<T> {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    public NdjsonRecordWriter(OutputStream out, ObjectMapper objectMapper, Class<T> type) {
+        try {
+            this.generator = objectMapper
+                    .getFactory()
+                    .createGenerator(out)
+                    .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            this.generator.setRootValueSeparator(null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.writer = objectMapper.writerFor(type);
+    }
+
+    @Override
+    public void accept(T record) {
+        try {
+            writer.writeValue(generator, record);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.core.web.export;
+
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes records one at a time to an output stream, so an export never holds more than the current record
+ * in memory. It is a {@link Consumer} so it can be handed straight to a repository's streaming query.
+ */
+public interface RecordWriter<T> extends Consumer<T> {
+
+    /**
+     * Writes one record.
+     *
+     * @throws UncheckedIOException if the client went away or the stream failed
+     */
+    @Override
+    void accept(T record);
+
+    /** Flushes any buffered output. Does not close the underlying stream. */
+    void finish();
+}
@@ -0,0 +1,35 @@
+package com.example.core.web.response;
+
+import java.util.List;
+
+/**
+ * A page fetched by keyset (seek) pagination. Unlike {@link PageResult} it carries no page number or
+ * total; the client follows {@code nextCursor} until {@code hasNext} is false.
+ */
+public class CursorPageResult<T> {
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+
+    public CursorPageResult(List<T> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -6,13 +6,36 @@ public class PageResult<T> {
     private final List<T> content;
     private final int page;
     private final int size;
-    private final long totalElements;
+    private final Long totalElements;
+    private final boolean hasNext;
+    private final TotalCountStrategy totalCountStrategy;
 
     public PageResult(List<T> content, int page, int size, long totalElements) {
+        this(content, page, size, totalElements, (long) (page + 1) * size < totalElements, TotalCountStrategy.EXACT);
+    }
+
+    /**
+     * @param totalElements the total as produced by {@code totalCountStrategy}, or {@code null} for
+     *     {@link TotalCountStrategy#NONE}
+     * @param hasNext whether another page follows, independently of how the total was obtained
+     */
+    public PageResult(
+            List<T> content,
+            int page,
+            int size,
+            Long totalElements,
+            boolean hasNext,
+            TotalCountStrategy totalCountStrategy) {
         this.content = content;
         this.page = page;
         this.size = size;
         this.totalElements = totalElements;
+        this.hasNext = hasNext;
+        this.totalCountStrategy = totalCountStrategy;
+    }
+
+    public static <T> PageResult<T> withoutTotal(List<T> content, int page, int size, boolean hasNext) {
+        return new PageResult<>(content, page, size, null, hasNext, TotalCountStrategy.NONE);
     }
 
     public List<T> getContent() {
@@ -27,19 +50,30 @@ public class PageResult<T> {
         return size;
     }
 
-    public long getTotalElements() {
+    public Long getTotalElements() {
         return totalElements;
     }
 
-    public int getTotalPages() {
+    public Integer getTotalPages() {
+        if (totalElements == null) {
+            return null;
+        }
         return (int) Math.ceil((double) totalElements / size);
     }
 
+    public TotalCountStrategy getTotalCountStrategy() {
+        return totalCountStrategy;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
     public boolean isFirst() {
         return page == 0;
     }
 
     public boolean isLast() {
-        return page >= getTotalPages() - 1;
+        return !hasNext;
     }
 }
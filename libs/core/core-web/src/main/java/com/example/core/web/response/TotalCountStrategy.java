@@ -0,0 +1,16 @@
+package com.example.core.web.response;
+
+/**
+ * How a paged endpoint obtains {@link PageResult#getTotalElements()}. Counting a large table is often more
+ * expensive than reading the page itself, so each endpoint picks the cheapest strategy it can live with.
+ */
+public enum TotalCountStrategy {
+    /** Run {@code COUNT(*)} on every request. */
+    EXACT,
+    /** Reuse an exact count for a short time-to-live. */
+    CACHED,
+    /** Use the planner's row estimate; may be off by a few percent. */
+    ESTIMATED,
+    /** Skip the total entirely and only report whether a next page exists. */
+    NONE
+}
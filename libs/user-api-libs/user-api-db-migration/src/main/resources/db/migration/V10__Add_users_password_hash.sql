@@ -0,0 +1,3 @@
+-- Password hash for logging in through /api/auth/token, stored with its {id} algorithm prefix. Users without
+-- one cannot log in.
+ALTER TABLE users ADD COLUMN password_hash VARCHAR(255);
@@ -0,0 +1,3 @@
+-- Supports keyset pagination over (created_at DESC, id DESC); supersedes the single-column index
+CREATE INDEX idx_users_created_at_id ON users(created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_users_created_at;
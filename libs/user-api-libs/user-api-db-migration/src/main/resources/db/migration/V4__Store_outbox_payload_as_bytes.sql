@@ -0,0 +1,2 @@
+-- Payloads are stored as serialized by the configured event serializer, which may be binary
+ALTER TABLE outbox_events ALTER COLUMN payload TYPE BYTEA USING convert_to(payload, 'UTF8');
@@ -0,0 +1,18 @@
+-- Issued refresh tokens, stored by SHA-256 hash. Tokens issued from one login form a family; each refresh
+-- marks the presented token used and issues the next one, and presenting a used token revokes the family.
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    token_hash BYTEA NOT NULL,
+    family_id UUID NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    access_token_id VARCHAR(64) NOT NULL,
+    access_token_expires_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    used_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Lookups are by exact hash only, which a hash index serves in constant time
+CREATE INDEX idx_refresh_tokens_token_hash ON refresh_tokens USING HASH (token_hash);
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens(family_id);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens(expires_at);
@@ -0,0 +1,15 @@
+-- Append-only event streams, one per aggregate. Rows are never updated or deleted; id is the global order.
+CREATE TABLE IF NOT EXISTS domain_events (
+    id BIGSERIAL PRIMARY KEY,
+    event_id UUID NOT NULL,
+    aggregate_id VARCHAR(255) NOT NULL,
+    aggregate_type VARCHAR(255) NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    version BIGINT NOT NULL,
+    occurred_at TIMESTAMPTZ NOT NULL,
+    payload BYTEA NOT NULL,
+    -- Enforces optimistic concurrency, and its index serves per-aggregate reads in version order
+    CONSTRAINT uq_domain_events_aggregate_version UNIQUE (aggregate_id, version)
+);
+
+CREATE INDEX idx_domain_events_event_type ON domain_events(event_type, id);
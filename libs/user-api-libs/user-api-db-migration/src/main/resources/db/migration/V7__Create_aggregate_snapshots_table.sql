@@ -0,0 +1,10 @@
+-- Latest snapshot of each event-sourced aggregate; loading replays only the events after aggregate_version.
+-- Snapshots are a cache of domain_events and can be deleted at any time.
+CREATE TABLE IF NOT EXISTS aggregate_snapshots (
+    aggregate_id VARCHAR(255) PRIMARY KEY,
+    aggregate_type VARCHAR(255) NOT NULL,
+    aggregate_version BIGINT NOT NULL,
+    snapshot_version INT NOT NULL,
+    state BYTEA NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
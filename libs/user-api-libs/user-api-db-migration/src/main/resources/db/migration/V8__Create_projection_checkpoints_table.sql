@@ -0,0 +1,6 @@
+-- Position in domain_events of the last event each projection has handled; deleting a row rebuilds it.
+CREATE TABLE IF NOT EXISTS projection_checkpoints (
+    projection_name VARCHAR(255) PRIMARY KEY,
+    position BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
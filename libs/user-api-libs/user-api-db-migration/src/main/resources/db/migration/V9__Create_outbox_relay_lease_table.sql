@@ -0,0 +1,7 @@
+-- Which relay may publish the outbox, and until when; renewed before every batch so a stopped relay's lease
+-- runs out and another replica takes over.
+CREATE TABLE IF NOT EXISTS outbox_relay_lease (
+    name VARCHAR(64) PRIMARY KEY,
+    owner VARCHAR(64) NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
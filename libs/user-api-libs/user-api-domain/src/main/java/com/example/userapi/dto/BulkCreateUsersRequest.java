@@ -0,0 +1,26 @@
+package com.example.userapi.dto;
+
+import com.example.userapi.model.User;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public class BulkCreateUsersRequest {
+
+    @NotEmpty(message = "Users are required")
+    private List<@Valid User> users;
+
+    public BulkCreateUsersRequest() {}
+
+    public BulkCreateUsersRequest(List<User> users) {
+        this.users = users;
+    }
+
+    public List<User> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<User> users) {
+        this.users = users;
+    }
+}
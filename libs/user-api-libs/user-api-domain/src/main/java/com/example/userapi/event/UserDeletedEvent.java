@@ -1,7 +1,9 @@
 package com.example.userapi.event;
 
 import com.example.core.messaging.event.BaseEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
 
 public class UserDeletedEvent extends BaseEvent {
 
@@ -16,6 +18,17 @@ public class UserDeletedEvent extends BaseEvent {
         this.userEmail = userEmail;
     }
 
+    @JsonCreator
+    public UserDeletedEvent(
+            @JsonProperty("eventId") String eventId,
+            @JsonProperty("timestamp") Instant timestamp,
+            @JsonProperty("userId") Long userId,
+            @JsonProperty("userEmail") String userEmail) {
+        super(eventId, timestamp);
+        this.userId = userId;
+        this.userEmail = userEmail;
+    }
+
     public Long getUserId() {
         return userId;
     }
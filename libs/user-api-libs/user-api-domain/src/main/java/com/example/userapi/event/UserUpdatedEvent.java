@@ -1,7 +1,9 @@
 package com.example.userapi.event;
 
 import com.example.core.messaging.event.BaseEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
 
 public class UserUpdatedEvent extends BaseEvent {
 
@@ -20,6 +22,19 @@ public class UserUpdatedEvent extends BaseEvent {
         this.userEmail = userEmail;
     }
 
+    @JsonCreator
+    public UserUpdatedEvent(
+            @JsonProperty("eventId") String eventId,
+            @JsonProperty("timestamp") Instant timestamp,
+            @JsonProperty("userId") Long userId,
+            @JsonProperty("userName") String userName,
+            @JsonProperty("userEmail") String userEmail) {
+        super(eventId, timestamp);
+        this.userId = userId;
+        this.userName = userName;
+        this.userEmail = userEmail;
+    }
+
     public Long getUserId() {
         return userId;
     }
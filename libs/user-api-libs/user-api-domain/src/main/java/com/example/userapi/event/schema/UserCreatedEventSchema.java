@@ -0,0 +1,34 @@
+package com.example.userapi.event.schema;
+
+import com.example.core.messaging.serialization.BinaryEventReader;
+import com.example.core.messaging.serialization.BinaryEventWriter;
+import com.example.core.messaging.serialization.EventSchema;
+import com.example.userapi.event.UserCreatedEvent;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserCreatedEventSchema implements EventSchema<UserCreatedEvent> {
+
+    @Override
+    public int getSchemaId() {
+        return UserEventSchemaIds.USER_CREATED_V1;
+    }
+
+    @Override
+    public Class<UserCreatedEvent> getEventType() {
+        return UserCreatedEvent.class;
+    }
+
+    @Override
+    public void write(UserCreatedEvent event, BinaryEventWriter out) {
+        out.writeNullableLong(event.getUserId());
+        out.writeString(event.getUserName());
+        out.writeString(event.getUserEmail());
+    }
+
+    @Override
+    public UserCreatedEvent read(String eventId, Instant timestamp, BinaryEventReader in) {
+        return new UserCreatedEvent(eventId, timestamp, in.readNullableLong(), in.readString(), in.readString());
+    }
+}
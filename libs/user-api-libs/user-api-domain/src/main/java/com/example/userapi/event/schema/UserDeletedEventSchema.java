@@ -0,0 +1,33 @@
+package com.example.userapi.event.schema;
+
+import com.example.core.messaging.serialization.BinaryEventReader;
+import com.example.core.messaging.serialization.BinaryEventWriter;
+import com.example.core.messaging.serialization.EventSchema;
+import com.example.userapi.event.UserDeletedEvent;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserDeletedEventSchema implements EventSchema<UserDeletedEvent> {
+
+    @Override
+    public int getSchemaId() {
+        return UserEventSchemaIds.USER_DELETED_V1;
+    }
+
+    @Override
+    public Class<UserDeletedEvent> getEventType() {
+        return UserDeletedEvent.class;
+    }
+
+    @Override
+    public void write(UserDeletedEvent event, BinaryEventWriter out) {
+        out.writeNullableLong(event.getUserId());
+        out.writeString(event.getUserEmail());
+    }
+
+    @Override
+    public UserDeletedEvent read(String eventId, Instant timestamp, BinaryEventReader in) {
+        return new UserDeletedEvent(eventId, timestamp, in.readNullableLong(), in.readString());
+    }
+}
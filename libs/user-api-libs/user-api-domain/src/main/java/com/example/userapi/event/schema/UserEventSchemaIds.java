@@ -0,0 +1,14 @@
+package com.example.userapi.event.schema;
+
+/**
+ * Schema ids of user events. They are written into every binary message, so an id must never be reused or
+ * reassigned; a changed layout gets a new constant.
+ */
+final class UserEventSchemaIds {
+
+    static final int USER_CREATED_V1 = 1;
+    static final int USER_UPDATED_V1 = 2;
+    static final int USER_DELETED_V1 = 3;
+
+    private UserEventSchemaIds() {}
+}
@@ -0,0 +1,34 @@
+package com.example.userapi.event.schema;
+
+import com.example.core.messaging.serialization.BinaryEventReader;
+import com.example.core.messaging.serialization.BinaryEventWriter;
+import com.example.core.messaging.serialization.EventSchema;
+import com.example.userapi.event.UserUpdatedEvent;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserUpdatedEventSchema implements EventSchema<UserUpdatedEvent> {
+
+    @Override
+    public int getSchemaId() {
+        return UserEventSchemaIds.USER_UPDATED_V1;
+    }
+
+    @Override
+    public Class<UserUpdatedEvent> getEventType() {
+        return UserUpdatedEvent.class;
+    }
+
+    @Override
+    public void write(UserUpdatedEvent event, BinaryEventWriter out) {
+        out.writeNullableLong(event.getUserId());
+        out.writeString(event.getUserName());
+        out.writeString(event.getUserEmail());
+    }
+
+    @Override
+    public UserUpdatedEvent read(String eventId, Instant timestamp, BinaryEventReader in) {
+        return new UserUpdatedEvent(eventId, timestamp, in.readNullableLong(), in.readString(), in.readString());
+    }
+}
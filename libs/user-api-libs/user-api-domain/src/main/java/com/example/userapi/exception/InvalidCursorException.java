@@ -0,0 +1,20 @@
+package com.example.userapi.exception;
+
+import com.example.core.web.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends BusinessException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+}
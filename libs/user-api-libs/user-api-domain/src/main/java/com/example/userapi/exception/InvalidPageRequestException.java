@@ -0,0 +1,20 @@
+package com.example.userapi.exception;
+
+import com.example.core.web.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidPageRequestException extends BusinessException {
+
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidPageRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.userapi.cache;
+
+import com.example.core.database.cache.EntityCache;
+import com.example.userapi.model.User;
+import com.example.userapi.repository.UserRepository;
+import java.util.Optional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through cache for user lookups. Users are cached by id; the email index only maps an email to an id
+ * and is verified against the cached user on every hit, so evicting a user by id is enough to invalidate
+ * both views even when the email has changed.
+ *
+ * <p>Cached instances are shared between callers and must not be modified. Writes should load the user from
+ * the repository instead.
+ */
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final EntityCache<Long, User> usersById;
+    private final EntityCache<String, Long> userIdsByEmail;
+
+    public UserCache(
+            UserRepository userRepository,
+            EntityCache<Long, User> usersById,
+            EntityCache<String, Long> userIdsByEmail) {
+        this.userRepository = userRepository;
+        this.usersById = usersById;
+        this.userIdsByEmail = userIdsByEmail;
+    }
+
+    public Optional<User> findById(Long id) {
+        return usersById.get(id, userRepository::findById);
+    }
+
+    public Optional<User> findByEmail(String email) {
+        Optional<Long> id =
+                userIdsByEmail.get(email, key -> userRepository.findByEmail(key).map(user -> {
+                    usersById.put(user.getId(), user);
+                    return user.getId();
+                }));
+        if (id.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<User> user = findById(id.get());
+        if (user.isPresent() && email.equals(user.get().getEmail())) {
+            return user;
+        }
+        // The user was deleted or changed email since the mapping was cached
+        userIdsByEmail.invalidate(email);
+        return userRepository.findByEmail(email);
+    }
+
+    /**
+     * Evicts the user now and again once the surrounding transaction commits, so a concurrent reader cannot
+     * re-cache the row as it was before the write became visible.
+     */
+    public void evict(Long id, String... emails) {
+        evictNow(id, emails);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(id, emails);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        usersById.invalidateAll();
+        userIdsByEmail.invalidateAll();
+    }
+
+    private void evictNow(Long id, String... emails) {
+        usersById.invalidate(id);
+        for (String email : emails) {
+            userIdsByEmail.invalidate(email);
+        }
+    }
+}
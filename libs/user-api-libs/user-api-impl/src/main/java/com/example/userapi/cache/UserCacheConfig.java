@@ -0,0 +1,68 @@
+package com.example.userapi.cache;
+
+import com.example.core.database.cache.CaffeineEntityCache;
+import com.example.core.database.cache.NoOpEntityCache;
+import com.example.core.monitoring.metrics.CacheMetrics;
+import com.example.userapi.model.User;
+import com.example.userapi.repository.UserRepository;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+@Configuration
+public class UserCacheConfig {
+
+    @Value("${users.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${users.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${users.cache.expire-after-write:PT10M}")
+    private Duration expireAfterWrite;
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Bean
+    public UserCache userCache(UserRepository userRepository, CacheMetrics cacheMetrics) {
+        if (!enabled) {
+            return new UserCache(userRepository, new NoOpEntityCache<>(), new NoOpEntityCache<>());
+        }
+        CaffeineEntityCache<Long, User> usersById = new CaffeineEntityCache<>(maximumSize, expireAfterWrite);
+        CaffeineEntityCache<String, Long> userIdsByEmail = new CaffeineEntityCache<>(maximumSize, expireAfterWrite);
+        cacheMetrics.monitor("users-by-id", usersById.getNativeCache());
+        cacheMetrics.monitor("users-by-email", userIdsByEmail.getNativeCache());
+        return new UserCache(userRepository, usersById, userIdsByEmail);
+    }
+
+    /**
+     * Only the record key (the user id) is needed to invalidate, so payloads are left undecoded. Each replica
+     * joins its own consumer group, named after {@code app.instance-id}, and starts from the latest offset:
+     * every instance must see every change, and changes made before it started are already reflected in its
+     * empty cache. The id must be stable across restarts, or every start leaves an orphaned group behind on the
+     * broker.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> userCacheInvalidationContainerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
+
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        return factory;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.userapi.cache;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts users changed by other replicas. Events are keyed by user id, which is all the cache needs.
+ */
+@Component
+public class UserCacheInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCacheInvalidationListener.class);
+
+    private final UserCache userCache;
+
+    public UserCacheInvalidationListener(UserCache userCache) {
+        this.userCache = userCache;
+    }
+
+    @KafkaListener(
+            topics = "user-events",
+            groupId = "user-cache-${app.instance-id:localhost}",
+            containerFactory = "userCacheInvalidationContainerFactory",
+            autoStartup = "${users.cache.invalidation.enabled:true}")
+    public void onUserEvent(ConsumerRecord<String, byte[]> record) {
+        Long id = parseUserId(record.key());
+        if (id == null) {
+            // Without a key we cannot tell which user changed
+            logger.warn("Unkeyed user event at offset {}, clearing user cache", record.offset());
+            userCache.evictAll();
+            return;
+        }
+        userCache.evict(id);
+    }
+
+    private static Long parseUserId(String key) {
+        if (key == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
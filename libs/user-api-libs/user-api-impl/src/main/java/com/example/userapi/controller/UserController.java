@@ -1,22 +1,52 @@
 package com.example.userapi.controller;
 
 import com.example.core.web.controller.BaseController;
+import com.example.core.web.export.CsvRecordWriter;
+import com.example.core.web.export.ExportFormat;
+import com.example.core.web.export.NdjsonRecordWriter;
+import com.example.core.web.export.RecordWriter;
 import com.example.core.web.response.ApiResponse;
+import com.example.core.web.response.CursorPageResult;
 import com.example.core.web.response.PageResult;
+import com.example.core.web.response.TotalCountStrategy;
+import com.example.userapi.dto.BulkCreateUsersRequest;
+import com.example.userapi.exception.InvalidPageRequestException;
 import com.example.userapi.model.User;
 import com.example.userapi.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/users")
 public class UserController extends BaseController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final LinkedHashMap<String, Function<User, ?>> CSV_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        CSV_COLUMNS.put("id", User::getId);
+        CSV_COLUMNS.put("name", User::getName);
+        CSV_COLUMNS.put("email", User::getEmail);
+        CSV_COLUMNS.put("created_at", User::getCreatedAt);
+        CSV_COLUMNS.put("updated_at", User::getUpdatedAt);
+    }
+
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ObjectMapper objectMapper) {
         this.userService = userService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -25,6 +55,12 @@ public class UserController extends BaseController {
         return created(createdUser);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<User>>> createUsers(@Valid @RequestBody BulkCreateUsersRequest request) {
+        List<User> createdUsers = userService.createUsers(request.getUsers());
+        return created("Users created successfully", createdUsers);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<User>> getUserById(@PathVariable("id") Long id) {
         User user = userService.getUserById(id);
@@ -33,12 +69,37 @@ public class UserController extends BaseController {
 
     @GetMapping
     public ResponseEntity<ApiResponse<PagedResponse<User>>> getAllUsers(
-            @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
-        PageResult<User> users = userService.getAllUsers(page, size);
+            @RequestParam(name = "page", defaultValue = "0") @Min(0) int page,
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam(name = "count", defaultValue = "CACHED") TotalCountStrategy count) {
+        if (count == TotalCountStrategy.EXACT) {
+            // An exact COUNT(*) per request is what CACHED exists to avoid; keep it off the public API
+            throw new InvalidPageRequestException("count=EXACT is not supported, use CACHED, ESTIMATED or NONE");
+        }
+        PageResult<User> users = userService.getAllUsers(page, size, count);
         return pagedSuccess(users);
     }
 
+    // Keyset pagination: pass an empty cursor for the first page, then follow nextCursor
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPagedResponse<User>>> getAllUsers(
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        CursorPageResult<User> users = userService.getAllUsers(cursor, size);
+        return cursorPagedSuccess(users);
+    }
+
+    // Streams every user without building a list; memory use is independent of table size
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(name = "format", defaultValue = "NDJSON") ExportFormat format) {
+        return streamed(format, "users", out -> {
+            RecordWriter<User> writer = recordWriter(format, out);
+            userService.exportUsers(writer);
+            writer.finish();
+        });
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<User>> updateUser(@PathVariable("id") Long id, @Valid @RequestBody User user) {
         User updatedUser = userService.updateUser(id, user);
@@ -50,4 +111,11 @@ public class UserController extends BaseController {
         userService.deleteUser(id);
         return noContent();
     }
+
+    private RecordWriter<User> recordWriter(ExportFormat format, OutputStream out) {
+        return switch (format) {
+            case NDJSON -> new NdjsonRecordWriter<>(out, objectMapper, User.class);
+            case CSV -> new CsvRecordWriter<>(out, CSV_COLUMNS);
+        };
+    }
 }
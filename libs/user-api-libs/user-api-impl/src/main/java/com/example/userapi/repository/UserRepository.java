@@ -1,11 +1,17 @@
 package com.example.userapi.repository;
 
+import com.example.core.database.pagination.KeysetCursor;
 import com.example.core.database.repository.BaseRepository;
 import com.example.userapi.model.User;
-import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -47,6 +53,15 @@ public class UserRepository extends BaseRepository<User, Long> {
         SELECT id, name, email, created_at, updated_at FROM users WHERE email = ?
         """;
 
+    private static final String SELECT_PASSWORD_HASH_BY_EMAIL =
+            "SELECT password_hash FROM users WHERE email = ? AND password_hash IS NOT NULL";
+
+    private static final String UPDATE_PASSWORD_HASH = "UPDATE users SET password_hash = ? WHERE email = ?";
+
+    private static final List<String> IMPORT_COLUMNS = List.of("name", "email", "created_at", "updated_at");
+
+    private static final String SELECT_EXISTING_EMAILS = "SELECT email FROM users WHERE email = ANY(?)";
+
     private final RowMapper<User> userRowMapper = new UserRowMapper();
 
     public UserRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
@@ -78,6 +93,40 @@ public class UserRepository extends BaseRepository<User, Long> {
         return user;
     }
 
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<User> inserts = new ArrayList<>();
+        List<MapSqlParameterSource> insertParams = new ArrayList<>();
+        List<MapSqlParameterSource> updateParams = new ArrayList<>();
+        for (User user : users) {
+            if (user.getId() == null) {
+                inserts.add(user);
+                insertParams.add(new MapSqlParameterSource()
+                        .addValue("name", user.getName())
+                        .addValue("email", user.getEmail())
+                        .addValue("createdAt", user.getCreatedAt())
+                        .addValue("updatedAt", user.getUpdatedAt()));
+            } else {
+                updateParams.add(new MapSqlParameterSource()
+                        .addValue("id", user.getId())
+                        .addValue("name", user.getName())
+                        .addValue("email", user.getEmail())
+                        .addValue("updatedAt", user.getUpdatedAt()));
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            List<Long> ids = executeBatchInsertAndReturnKeys(INSERT_USER, insertParams);
+            for (int i = 0; i < inserts.size(); i++) {
+                inserts.get(i).setId(ids.get(i));
+            }
+        }
+        if (!updateParams.isEmpty()) {
+            executeBatchUpdate(UPDATE_USER, updateParams);
+        }
+        return users;
+    }
+
     @Override
     public Optional<User> findById(Long id) {
         List<User> users = jdbcTemplate.query(SELECT_USER_BY_ID, userRowMapper, id);
@@ -89,6 +138,14 @@ public class UserRepository extends BaseRepository<User, Long> {
         return jdbcTemplate.query(SELECT_ALL_USERS, userRowMapper);
     }
 
+    /**
+     * Streams every user to {@code consumer} in {@code created_at DESC} order through a server-side cursor.
+     * Must be called inside a transaction.
+     */
+    public void streamAll(Consumer<? super User> consumer) {
+        streamQuery(SELECT_ALL_USERS, userRowMapper, consumer);
+    }
+
     @Override
     public void deleteById(Long id) {
         jdbcTemplate.update(DELETE_USER_BY_ID, id);
@@ -105,17 +162,45 @@ public class UserRepository extends BaseRepository<User, Long> {
         return users.isEmpty() ? Optional.empty() : Optional.of(users.get(0));
     }
 
-    private static class UserRowMapper implements RowMapper<User> {
-        @Override
-        public User mapRow(ResultSet rs, int rowNum) throws SQLException {
-            User user = new User();
-            user.setId(rs.getLong("id"));
-            user.setName(rs.getString("name"));
-            user.setEmail(rs.getString("email"));
-            user.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-            user.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
-            return user;
+    /**
+     * Returns the password hash of the user with this email, or empty if there is no such user or it has no
+     * password.
+     */
+    public Optional<String> findPasswordHashByEmail(String email) {
+        return jdbcTemplate.queryForList(SELECT_PASSWORD_HASH_BY_EMAIL, String.class, email).stream()
+                .findFirst();
+    }
+
+    public boolean updatePasswordHash(String email, String passwordHash) {
+        return jdbcTemplate.update(UPDATE_PASSWORD_HASH, passwordHash, email) > 0;
+    }
+
+    /**
+     * Streams users into the table with PostgreSQL {@code COPY}, upserting on email: existing users get their
+     * name and {@code updated_at} refreshed, new users are inserted. Generated ids are not read back, so the
+     * passed users are left untouched. Must be called inside a transaction.
+     *
+     * @return the number of users inserted or updated
+     */
+    public long importUsers(Iterator<User> users) {
+        return copyBulkLoader.stageAndMerge(
+                "users", IMPORT_COLUMNS, List.of("email"), List.of("name", "updated_at"), users, user ->
+                        new Object[] {user.getName(), user.getEmail(), user.getCreatedAt(), user.getUpdatedAt()});
+    }
+
+    /**
+     * Returns which of {@code emails} are already taken, using a single {@code = ANY(array)} query so the
+     * statement has one bind parameter regardless of how many emails are checked.
+     */
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
         }
+        List<String> existing = jdbcTemplate.query(
+                SELECT_EXISTING_EMAILS,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", emails.toArray())),
+                (rs, rowNum) -> rs.getString("email"));
+        return new HashSet<>(existing);
     }
 
     private static final String SELECT_ALL_USERS_PAGINATED =
@@ -131,8 +216,45 @@ public class UserRepository extends BaseRepository<User, Long> {
         return jdbcTemplate.query(SELECT_ALL_USERS_PAGINATED, userRowMapper, limit, offset);
     }
 
+    private static final String SELECT_FIRST_USERS_KEYSET =
+            """
+            SELECT id, name, email, created_at, updated_at FROM users
+            ORDER BY created_at DESC, id DESC
+            LIMIT ?
+            """;
+
+    private static final String SELECT_USERS_AFTER_KEYSET =
+            """
+            SELECT id, name, email, created_at, updated_at FROM users
+            WHERE (created_at, id) < (?, ?)
+            ORDER BY created_at DESC, id DESC
+            LIMIT ?
+            """;
+
+    /**
+     * Seeks to the rows that follow {@code after} in {@code (created_at DESC, id DESC)} order, so the cost of
+     * a page does not depend on how deep into the result set it is. A {@code null} cursor returns the first
+     * page.
+     */
+    public List<User> findAllAfter(KeysetCursor after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(SELECT_FIRST_USERS_KEYSET, userRowMapper, limit);
+        }
+        return jdbcTemplate.query(
+                SELECT_USERS_AFTER_KEYSET,
+                userRowMapper,
+                Timestamp.valueOf(after.getCreatedAt()),
+                after.getId(),
+                limit);
+    }
+
     public long count() {
         Long count = jdbcTemplate.queryForObject(COUNT_ALL_USERS, Long.class);
         return count != null ? count : 0L;
     }
+
+    public long estimateCount() {
+        long estimate = estimateRowCount("users");
+        return estimate >= 0 ? estimate : count();
+    }
 }
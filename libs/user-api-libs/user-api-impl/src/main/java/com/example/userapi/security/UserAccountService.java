@@ -0,0 +1,43 @@
+package com.example.userapi.security;
+
+import com.example.userapi.repository.UserRepository;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Login accounts for {@code /api/auth/token}, backed by the {@code users} table: the username is the email
+ * and every user with a password hash can log in with the {@code USER} role. Hashes upgraded on login are
+ * written back to the same row.
+ */
+@Service
+public class UserAccountService implements UserDetailsService, UserDetailsPasswordService {
+
+    private static final String USER_ROLE = "USER";
+
+    private final UserRepository userRepository;
+
+    public UserAccountService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String email) {
+        return userRepository
+                .findPasswordHashByEmail(email)
+                .map(passwordHash -> User.withUsername(email)
+                        .password(passwordHash)
+                        .roles(USER_ROLE)
+                        .build())
+                .orElseThrow(() -> new UsernameNotFoundException("No user with a password for " + email));
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordHash(user.getUsername(), newPassword);
+        return User.withUserDetails(user).password(newPassword).build();
+    }
+}
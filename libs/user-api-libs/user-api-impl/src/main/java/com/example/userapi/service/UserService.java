@@ -1,15 +1,26 @@
 package com.example.userapi.service;
 
-import com.example.core.messaging.producer.EventPublisher;
+import com.example.core.database.pagination.CachedRowCount;
+import com.example.core.database.pagination.KeysetCursor;
+import com.example.core.messaging.outbox.OutboxEventPublisher;
+import com.example.core.web.response.CursorPageResult;
 import com.example.core.web.response.PageResult;
+import com.example.core.web.response.TotalCountStrategy;
+import com.example.userapi.cache.UserCache;
 import com.example.userapi.event.UserCreatedEvent;
 import com.example.userapi.event.UserDeletedEvent;
 import com.example.userapi.event.UserUpdatedEvent;
+import com.example.userapi.exception.InvalidCursorException;
 import com.example.userapi.exception.UserAlreadyExistsException;
 import com.example.userapi.exception.UserNotFoundException;
 import com.example.userapi.model.User;
 import com.example.userapi.repository.UserRepository;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -21,20 +32,24 @@ public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
     private static final String USER_EVENTS_TOPIC = "user-events";
+    private static final Duration USER_COUNT_TTL = Duration.ofSeconds(30);
 
     private final UserRepository userRepository;
-    private final EventPublisher eventPublisher;
+    private final OutboxEventPublisher eventPublisher;
+    private final UserCache userCache;
+    private final CachedRowCount cachedUserCount = new CachedRowCount(USER_COUNT_TTL);
 
-    public UserService(UserRepository userRepository, EventPublisher eventPublisher) {
+    public UserService(UserRepository userRepository, OutboxEventPublisher eventPublisher, UserCache userCache) {
         this.userRepository = userRepository;
         this.eventPublisher = eventPublisher;
+        this.userCache = userCache;
     }
 
     public User createUser(User user) {
         logger.info("Creating user: {}", user.getEmail());
 
         // Check if user already exists
-        if (userRepository.findByEmail(user.getEmail()).isPresent()) {
+        if (userCache.findByEmail(user.getEmail()).isPresent()) {
             throw new UserAlreadyExistsException("User with email " + user.getEmail() + " already exists");
         }
 
@@ -48,11 +63,40 @@ public class UserService {
         return savedUser;
     }
 
+    /**
+     * Creates all users in one transaction. Duplicate emails, whether within the request or already stored,
+     * are detected with a single query up front and reject the whole import.
+     */
+    public List<User> createUsers(List<User> users) {
+        logger.info("Bulk creating {} users", users.size());
+
+        Set<String> emails = new HashSet<>(users.size());
+        Set<String> duplicates = new LinkedHashSet<>();
+        for (User user : users) {
+            if (!emails.add(user.getEmail())) {
+                duplicates.add(user.getEmail());
+            }
+        }
+        duplicates.addAll(userRepository.findExistingEmails(emails));
+        if (!duplicates.isEmpty()) {
+            throw new UserAlreadyExistsException("Users with emails " + duplicates + " already exist");
+        }
+
+        List<User> savedUsers = userRepository.saveAll(users);
+
+        List<UserCreatedEvent> events = savedUsers.stream()
+                .map(user -> new UserCreatedEvent(user.getId(), user.getName(), user.getEmail()))
+                .toList();
+        eventPublisher.publishEvents(
+                USER_EVENTS_TOPIC, events, event -> event.getUserId().toString());
+
+        logger.info("Bulk created {} users", savedUsers.size());
+        return savedUsers;
+    }
+
     @Transactional(readOnly = true)
     public User getUserById(Long id) {
-        return userRepository
-                .findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+        return userCache.findById(id).orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
     }
 
     @Transactional(readOnly = true)
@@ -60,22 +104,63 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public void exportUsers(Consumer<? super User> consumer) {
+        userRepository.streamAll(consumer);
+    }
+
     @Transactional(readOnly = true)
     public PageResult<User> getAllUsers(int page, int size) {
+        return getAllUsers(page, size, TotalCountStrategy.EXACT);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResult<User> getAllUsers(int page, int size, TotalCountStrategy totalCountStrategy) {
         int offset = page * size;
-        List<User> users = userRepository.findAll(size, offset);
-        long total = userRepository.count();
-        return new PageResult<>(users, page, size, total);
+        // Fetch one extra row so hasNext is exact whatever the count strategy
+        List<User> users = userRepository.findAll(size + 1, offset);
+        boolean hasNext = users.size() > size;
+        List<User> content = hasNext ? users.subList(0, size) : users;
+
+        Long total =
+                switch (totalCountStrategy) {
+                    case EXACT -> userRepository.count();
+                    case CACHED -> cachedUserCount.get(userRepository::count);
+                    case ESTIMATED -> userRepository.estimateCount();
+                    case NONE -> null;
+                };
+        if (total != null && totalCountStrategy != TotalCountStrategy.EXACT) {
+            // An approximate total must never contradict the rows we actually read
+            long seen = (long) offset + content.size() + (hasNext ? 1 : 0);
+            total = Math.max(total, seen);
+        }
+        return new PageResult<>(content, page, size, total, hasNext, totalCountStrategy);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResult<User> getAllUsers(String cursor, int size) {
+        KeysetCursor after = decodeCursor(cursor);
+        // Fetch one extra row to learn whether another page follows without counting
+        List<User> users = userRepository.findAllAfter(after, size + 1);
+        if (users.size() <= size) {
+            return new CursorPageResult<>(users, size, null);
+        }
+        List<User> page = users.subList(0, size);
+        User last = page.get(size - 1);
+        String nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        return new CursorPageResult<>(page, size, nextCursor);
     }
 
     public User updateUser(Long id, User userUpdate) {
         logger.info("Updating user: {}", id);
 
-        User existingUser = getUserById(id);
+        // Load from the repository: cached users are shared and must not be modified
+        User existingUser = findUserForUpdate(id);
+        String previousEmail = existingUser.getEmail();
 
         // Check if email is being changed and if new email already exists
-        if (!existingUser.getEmail().equals(userUpdate.getEmail())) {
-            userRepository.findByEmail(userUpdate.getEmail()).ifPresent(user -> {
+        if (!previousEmail.equals(userUpdate.getEmail())) {
+            userCache.findByEmail(userUpdate.getEmail()).ifPresent(user -> {
                 throw new UserAlreadyExistsException("User with email " + userUpdate.getEmail() + " already exists");
             });
         }
@@ -84,6 +169,7 @@ public class UserService {
         existingUser.setEmail(userUpdate.getEmail());
 
         User updatedUser = userRepository.save(existingUser);
+        userCache.evict(updatedUser.getId(), previousEmail);
 
         // Publish event
         UserUpdatedEvent event =
@@ -97,8 +183,9 @@ public class UserService {
     public void deleteUser(Long id) {
         logger.info("Deleting user: {}", id);
 
-        User user = getUserById(id);
+        User user = findUserForUpdate(id);
         userRepository.deleteById(id);
+        userCache.evict(id, user.getEmail());
 
         // Publish event
         UserDeletedEvent event = new UserDeletedEvent(user.getId(), user.getEmail());
@@ -106,4 +193,21 @@ public class UserService {
 
         logger.info("User deleted successfully: {}", id);
     }
+
+    private User findUserForUpdate(Long id) {
+        return userRepository
+                .findById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+    }
+
+    private KeysetCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid pagination cursor", e);
+        }
+    }
 }
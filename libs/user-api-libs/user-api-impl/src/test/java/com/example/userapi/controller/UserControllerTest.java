@@ -2,26 +2,38 @@ package com.example.userapi.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.example.core.security.authentication.JwtAuthoritiesMapper;
+import com.example.core.security.jwt.JwtService;
+import com.example.core.web.response.CursorPageResult;
 import com.example.core.web.response.PageResult;
+import com.example.core.web.response.TotalCountStrategy;
+import com.example.userapi.dto.BulkCreateUsersRequest;
 import com.example.userapi.model.User;
 import com.example.userapi.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(UserController.class)
+// Authentication is core-security's concern; these tests cover the controller alone
+@AutoConfigureMockMvc(addFilters = false)
 @ActiveProfiles("test")
 class UserControllerTest {
 
@@ -31,6 +43,12 @@ class UserControllerTest {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private JwtAuthoritiesMapper jwtAuthoritiesMapper;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -55,6 +73,39 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.data.email").value("john@example.com"));
     }
 
+    @Test
+    void createUsers_ShouldReturnCreatedUsers() throws Exception {
+        User user1 = new User("John Doe", "john@example.com");
+        User user2 = new User("Jane Smith", "jane@example.com");
+        User created1 = new User("John Doe", "john@example.com");
+        created1.setId(1L);
+        User created2 = new User("Jane Smith", "jane@example.com");
+        created2.setId(2L);
+
+        when(userService.createUsers(any())).thenReturn(List.of(created1, created2));
+
+        mockMvc.perform(post("/api/users/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkCreateUsersRequest(List.of(user1, user2)))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("Users created successfully"))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(jsonPath("$.data[1].id").value(2));
+    }
+
+    @Test
+    void createUsers_ShouldRejectInvalidUser() throws Exception {
+        User invalid = new User("J", "not-an-email");
+
+        mockMvc.perform(post("/api/users/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkCreateUsersRequest(List.of(invalid)))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
     @Test
     void getUserById_ShouldReturnUser() throws Exception {
         User user = new User("John Doe", "john@example.com");
@@ -82,7 +133,7 @@ class UserControllerTest {
         List<User> users = Arrays.asList(user1, user2);
         PageResult<User> pageResult = new PageResult<>(users, 0, 10, 2L);
 
-        when(userService.getAllUsers(0, 10)).thenReturn(pageResult);
+        when(userService.getAllUsers(0, 10, TotalCountStrategy.CACHED)).thenReturn(pageResult);
 
         mockMvc.perform(get("/api/users").param("page", "0").param("size", "10"))
                 .andExpect(status().isOk())
@@ -132,7 +183,7 @@ class UserControllerTest {
         List<User> users = Arrays.asList(user1);
         PageResult<User> pageResult = new PageResult<>(users, 0, 10, 1L);
 
-        when(userService.getAllUsers(0, 10)).thenReturn(pageResult);
+        when(userService.getAllUsers(0, 10, TotalCountStrategy.CACHED)).thenReturn(pageResult);
 
         mockMvc.perform(get("/api/users"))
                 .andExpect(status().isOk())
@@ -150,7 +201,7 @@ class UserControllerTest {
         List<User> users = Arrays.asList(user1);
         PageResult<User> pageResult = new PageResult<>(users, 1, 5, 6L);
 
-        when(userService.getAllUsers(1, 5)).thenReturn(pageResult);
+        when(userService.getAllUsers(1, 5, TotalCountStrategy.CACHED)).thenReturn(pageResult);
 
         mockMvc.perform(get("/api/users").param("page", "1").param("size", "5"))
                 .andExpect(status().isOk())
@@ -160,4 +211,127 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.data.totalElements").value(6))
                 .andExpect(jsonPath("$.data.first").value(false));
     }
+
+    @Test
+    void getAllUsers_WithCursor_ShouldReturnCursorPage() throws Exception {
+        User user1 = new User("John Doe", "john@example.com");
+        user1.setId(2L);
+        User user2 = new User("Jane Smith", "jane@example.com");
+        user2.setId(1L);
+
+        CursorPageResult<User> pageResult = new CursorPageResult<>(Arrays.asList(user1, user2), 2, "next-token");
+
+        when(userService.getAllUsers("", 2)).thenReturn(pageResult);
+
+        mockMvc.perform(get("/api/users").param("cursor", "").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.size").value(2))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+    }
+
+    @Test
+    void getAllUsers_WithoutCount_ShouldReturnHasNextOnly() throws Exception {
+        User user1 = new User("John Doe", "john@example.com");
+        user1.setId(1L);
+
+        PageResult<User> pageResult = PageResult.withoutTotal(List.of(user1), 0, 1, true);
+
+        when(userService.getAllUsers(0, 1, TotalCountStrategy.NONE)).thenReturn(pageResult);
+
+        mockMvc.perform(get("/api/users").param("size", "1").param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.totalElements").isEmpty())
+                .andExpect(jsonPath("$.data.totalPages").isEmpty())
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.last").value(false))
+                .andExpect(jsonPath("$.data.totalCount").value("NONE"));
+    }
+
+    @Test
+    void getAllUsers_WithExactCount_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/users").param("count", "EXACT"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void getAllUsers_WithNonPositiveSize_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/users").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.data.size").exists());
+
+        mockMvc.perform(get("/api/users").param("cursor", "").param("size", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getAllUsers_WithOversizedPage_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/users").param("size", "101")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/users").param("page", "-1")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportUsers_ShouldStreamNdjson() throws Exception {
+        stubExport();
+
+        MvcResult result = mockMvc.perform(get("/api/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.ndjson\""))
+                .andExpect(content()
+                        .string("{\"id\":1,\"name\":\"John Doe\",\"email\":\"john@example.com\","
+                                + "\"createdAt\":\"2024-01-01T10:00:00\",\"updatedAt\":\"2024-01-01T10:00:00\"}\n"
+                                + "{\"id\":2,\"name\":\"Doe, Jane\",\"email\":\"jane@example.com\","
+                                + "\"createdAt\":\"2024-01-01T10:00:00\",\"updatedAt\":\"2024-01-01T10:00:00\"}\n"));
+    }
+
+    @Test
+    void exportUsers_ShouldStreamCsv() throws Exception {
+        stubExport();
+
+        MvcResult result = mockMvc.perform(get("/api/users/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content()
+                        .string("id,name,email,created_at,updated_at\r\n"
+                                + "1,John Doe,john@example.com,2024-01-01T10:00:00,2024-01-01T10:00:00\r\n"
+                                + "2,\"Doe, Jane\",jane@example.com,2024-01-01T10:00:00,2024-01-01T10:00:00\r\n"));
+    }
+
+    private void stubExport() {
+        LocalDateTime timestamp = LocalDateTime.of(2024, 1, 1, 10, 0);
+        User user1 = new User("John Doe", "john@example.com");
+        user1.setId(1L);
+        User user2 = new User("Doe, Jane", "jane@example.com");
+        user2.setId(2L);
+        for (User user : List.of(user1, user2)) {
+            user.setCreatedAt(timestamp);
+            user.setUpdatedAt(timestamp);
+        }
+
+        doAnswer(invocation -> {
+                    Consumer<User> consumer = invocation.getArgument(0);
+                    consumer.accept(user1);
+                    consumer.accept(user2);
+                    return null;
+                })
+                .when(userService)
+                .exportUsers(any());
+    }
 }
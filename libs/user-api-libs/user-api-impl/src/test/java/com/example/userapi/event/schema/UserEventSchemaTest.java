@@ -0,0 +1,79 @@
+package com.example.userapi.event.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.core.messaging.serialization.BinaryEventDeserializer;
+import com.example.core.messaging.serialization.BinaryEventSerializer;
+import com.example.core.messaging.serialization.EventSchemaRegistry;
+import com.example.userapi.event.UserCreatedEvent;
+import com.example.userapi.event.UserDeletedEvent;
+import com.example.userapi.event.UserUpdatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+class UserEventSchemaTest {
+
+    private static final String TOPIC = "user-events";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private BinaryEventSerializer serializer;
+    private BinaryEventDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        EventSchemaRegistry registry = new EventSchemaRegistry(
+                List.of(new UserCreatedEventSchema(), new UserUpdatedEventSchema(), new UserDeletedEventSchema()));
+        serializer = new BinaryEventSerializer(registry, new JsonSerializer<>(objectMapper));
+        deserializer = new BinaryEventDeserializer(registry, new JsonDeserializer<>(objectMapper));
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+    }
+
+    @Test
+    void binaryFormat_ShouldRoundTripUserEvents() {
+        UserCreatedEvent created = new UserCreatedEvent(1L, "John Doe", "john@example.com");
+        UserUpdatedEvent updated = new UserUpdatedEvent(1L, "Jöhn Dœ", "john.doe@example.com");
+        UserDeletedEvent deleted = new UserDeletedEvent(1L, null);
+
+        assertThat(roundTrip(created)).usingRecursiveComparison().isEqualTo(created);
+        assertThat(roundTrip(updated)).usingRecursiveComparison().isEqualTo(updated);
+        assertThat(roundTrip(deleted)).usingRecursiveComparison().isEqualTo(deleted);
+    }
+
+    @Test
+    void binaryFormat_ShouldBeSmallerThanJson() throws Exception {
+        UserCreatedEvent event = new UserCreatedEvent(123456L, "John Doe", "john@example.com");
+
+        byte[] binary = serializer.serialize(TOPIC, event);
+        byte[] json = objectMapper.writeValueAsBytes(event);
+
+        assertThat(binary.length).isLessThan(json.length / 3);
+    }
+
+    @Test
+    void deserializer_ShouldReadJsonMessages() {
+        UserCreatedEvent event = new UserCreatedEvent(1L, "John Doe", "john@example.com");
+        RecordHeaders headers = new RecordHeaders();
+        byte[] json = new JsonSerializer<>(objectMapper).serialize(TOPIC, headers, event);
+
+        Object result = deserializer.deserialize(TOPIC, headers, json);
+
+        assertThat(result).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    private Object roundTrip(Object event) {
+        return deserializer.deserialize(TOPIC, new RecordHeaders(), serializer.serialize(TOPIC, event));
+    }
+}
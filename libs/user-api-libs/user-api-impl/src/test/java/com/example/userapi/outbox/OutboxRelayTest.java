@@ -0,0 +1,151 @@
+package com.example.userapi.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.core.messaging.outbox.OutboxRelay;
+import com.example.core.testing.annotation.IntegrationTest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@IntegrationTest
+// The application's own relay would otherwise publish the rows these tests insert
+@TestPropertySource(properties = "messaging.outbox.relay.enabled=false")
+class OutboxRelayTest {
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO outbox_events (topic, event_key, event_type, payload) VALUES ('user-events', ?, 'Test', ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+    private List<String> sent;
+    private Set<String> failing;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        sent = new ArrayList<>();
+        failing = Set.of();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            ProducerRecord<String, byte[]> record = invocation.getArgument(0);
+            String payload = new String(record.value(), StandardCharsets.UTF_8);
+            sent.add(payload);
+            if (failing.contains(payload)) {
+                return CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"));
+            }
+            return CompletableFuture.completedFuture(new SendResult<>(record, null));
+        });
+    }
+
+    @Test
+    void relayBatch_ShouldPublishEachKeyInOrderAndDeleteAcknowledgedEvents() {
+        insert("1", "a1", "2", "b1", "1", "a2", null, "n1", "1", "a3");
+
+        int published = relay().relayBatch();
+
+        assertThat(published).isEqualTo(5);
+        assertThat(sent).containsExactly("a1", "b1", "n1", "a2", "a3");
+        assertThat(remaining()).isEmpty();
+    }
+
+    @Test
+    void relayBatch_ShouldStopSendingKeyAfterItsFirstFailure() {
+        insert("1", "a1", "2", "b1", "1", "a2", "2", "b2");
+        failing = Set.of("a1");
+
+        int published = relay().relayBatch();
+
+        assertThat(published).isEqualTo(2);
+        // a2 must not reach the broker ahead of the a1 retry
+        assertThat(sent).containsExactly("a1", "b1", "b2");
+        assertThat(remaining()).containsExactly("a1", "a2");
+
+        failing = Set.of();
+        sent.clear();
+        assertThat(relay().relayBatch()).isEqualTo(2);
+        assertThat(sent).containsExactly("a1", "a2");
+        assertThat(remaining()).isEmpty();
+    }
+
+    @Test
+    void relayBatch_ShouldNotHoldTransactionWhileSending() {
+        insert("1", "a1");
+        List<Boolean> transactionActive = new ArrayList<>();
+        List<Integer> visibleLeases = new ArrayList<>();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            // Read on another connection: the lease must already be committed
+            visibleLeases.add(transactionTemplate.execute(
+                    status -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_relay_lease", Integer.class)));
+            ProducerRecord<String, byte[]> record = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(new SendResult<>(record, null));
+        });
+
+        relay().relayBatch();
+
+        assertThat(transactionActive).containsExactly(false);
+        assertThat(visibleLeases).containsExactly(1);
+    }
+
+    @Test
+    void relayBatch_ShouldSkipWhileAnotherRelayHoldsTheLease() {
+        OutboxRelay active = relay();
+        OutboxRelay standby = relay();
+        active.relayBatch();
+        insert("1", "a1");
+
+        assertThat(standby.relayBatch()).isZero();
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE outbox_relay_lease SET expires_at = CURRENT_TIMESTAMP - INTERVAL '1 second'"));
+        assertThat(standby.relayBatch()).isEqualTo(1);
+        assertThat(active.relayBatch()).isZero();
+    }
+
+    private OutboxRelay relay() {
+        return new OutboxRelay(jdbcTemplate, transactionTemplate, kafkaTemplate, 100, 1_000, 5_000);
+    }
+
+    /** Inserts events given as alternating key and payload. */
+    private void insert(String... keysAndPayloads) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < keysAndPayloads.length; i += 2) {
+                jdbcTemplate.update(
+                        INSERT_EVENT, keysAndPayloads[i], keysAndPayloads[i + 1].getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+
+    private List<String> remaining() {
+        return jdbcTemplate.query(
+                "SELECT payload FROM outbox_events ORDER BY id",
+                (rs, rowNum) -> new String(rs.getBytes("payload"), StandardCharsets.UTF_8));
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.userapi.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.example.core.testing.annotation.IntegrationTest;
 import com.example.userapi.model.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @IntegrationTest
 class UserRepositoryTest {
@@ -15,6 +21,9 @@ class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Test
     void save_ShouldPersistUser() {
         User user = new User("John Doe", "john@example.com");
@@ -99,4 +108,102 @@ class UserRepositoryTest {
 
         assertThat(exists).isFalse();
     }
+
+    @Test
+    void saveAll_ShouldBatchInsertAndAssignIdsInOrder() {
+        List<User> users = List.of(
+                new User("John Doe", "john@example.com"),
+                new User("Jane Smith", "jane@example.com"),
+                new User("Bob Brown", "bob@example.com"));
+
+        List<User> savedUsers = userRepository.saveAll(users);
+
+        assertThat(savedUsers).extracting(User::getId).doesNotContainNull().isSorted();
+        assertThat(userRepository.findById(savedUsers.get(1).getId()))
+                .get()
+                .extracting(User::getEmail)
+                .isEqualTo("jane@example.com");
+        assertThat(userRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void findExistingEmails_ShouldReturnOnlyStoredEmails() {
+        userRepository.save(new User("John Doe", "john@example.com"));
+
+        Set<String> existing = userRepository.findExistingEmails(List.of("john@example.com", "jane@example.com"));
+
+        assertThat(existing).containsExactly("john@example.com");
+    }
+
+    @Test
+    void streamAll_ShouldHandEveryUserToConsumer() {
+        userRepository.saveAll(List.of(
+                new User("John Doe", "john@example.com"),
+                new User("Jane Smith", "jane@example.com"),
+                new User("Bob Brown", "bob@example.com")));
+        List<User> streamed = new ArrayList<>();
+
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> userRepository.streamAll(streamed::add));
+
+        assertThat(streamed)
+                .extracting(User::getEmail)
+                .containsExactlyInAnyOrder("john@example.com", "jane@example.com", "bob@example.com");
+    }
+
+    @Test
+    void importUsers_ShouldInsertNewUsers() {
+        userRepository.save(new User("John Doe", "john@example.com"));
+        User jane = new User("Jane Smith", "jane@example.com");
+        jane.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        jane.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 10, 0));
+
+        Long imported = new TransactionTemplate(transactionManager)
+                .execute(status -> userRepository.importUsers(
+                        List.of(jane, new User("Bob Brown", "bob@example.com")).iterator()));
+
+        assertThat(imported).isEqualTo(2L);
+        assertThat(jane.getId()).isNull();
+        assertThat(userRepository.count()).isEqualTo(3);
+        User stored = userRepository.findByEmail("jane@example.com").orElseThrow();
+        assertThat(stored.getId()).isNotNull();
+        assertThat(stored.getName()).isEqualTo("Jane Smith");
+        assertThat(stored.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 1, 10, 0));
+        assertThat(stored.getUpdatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 2, 10, 0));
+    }
+
+    @Test
+    void importUsers_ShouldUpdateExistingUsersOnEmailConflict() {
+        Long johnId =
+                userRepository.save(new User("Old Name", "john@example.com")).getId();
+        LocalDateTime johnCreatedAt =
+                userRepository.findById(johnId).orElseThrow().getCreatedAt();
+
+        Long imported = new TransactionTemplate(transactionManager)
+                .execute(status -> userRepository.importUsers(List.of(
+                                new User("John Doe", "john@example.com"),
+                                new User("Jane Smith", "jane@example.com"),
+                                new User("Jane Latest", "jane@example.com"))
+                        .iterator()));
+
+        assertThat(imported).isEqualTo(2L);
+        assertThat(userRepository.count()).isEqualTo(2);
+        User john = userRepository.findByEmail("john@example.com").orElseThrow();
+        assertThat(john.getId()).isEqualTo(johnId);
+        assertThat(john.getName()).isEqualTo("John Doe");
+        assertThat(john.getCreatedAt()).isEqualTo(johnCreatedAt);
+        assertThat(userRepository.findByEmail("jane@example.com"))
+                .get()
+                .extracting(User::getName)
+                .isEqualTo("Jane Latest");
+    }
+
+    @Test
+    void importUsers_ShouldRequireTransaction() {
+        List<User> users = List.of(new User("John Doe", "john@example.com"));
+
+        assertThatThrownBy(() -> userRepository.importUsers(users.iterator()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(userRepository.count()).isZero();
+    }
 }
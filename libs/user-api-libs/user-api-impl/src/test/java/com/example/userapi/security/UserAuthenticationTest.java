@@ -0,0 +1,223 @@
+package com.example.userapi.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.core.security.auth.AuthService;
+import com.example.core.security.auth.InvalidRefreshTokenException;
+import com.example.core.security.auth.TokenResponse;
+import com.example.core.security.jwt.JwtService;
+import com.example.core.testing.annotation.IntegrationTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@IntegrationTest
+// Revocations stay in the outbox where the tests can see them
+@TestPropertySource(properties = {"messaging.outbox.relay.enabled=false", "jwt.refresh-tokens.purge-batch-size=2"})
+class UserAuthenticationTest {
+
+    private static final String EMAIL = "john@example.com";
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (name, email, password_hash) VALUES ('John Doe', ?, ?)";
+
+    private static final String INSERT_REFRESH_TOKEN =
+            """
+            INSERT INTO refresh_tokens
+                (token_hash, family_id, subject, access_token_id, access_token_expires_at, expires_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void token_ShouldAuthenticateUserFromUsersTable() {
+        insertUser(passwordEncoder.encode(PASSWORD));
+
+        ResponseEntity<JsonNode> response =
+                postJson("/api/auth/token", Map.of("username", EMAIL, "password", PASSWORD));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String accessToken = response.getBody().at("/data/accessToken").asText();
+        assertThat(response.getBody().at("/data/refreshToken").asText()).isNotBlank();
+        assertThat(getUsers(accessToken).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void token_WithWrongPassword_ShouldReturnUnauthorized() {
+        insertUser(passwordEncoder.encode(PASSWORD));
+
+        ResponseEntity<JsonNode> response = postJson("/api/auth/token", Map.of("username", EMAIL, "password", "wrong"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void token_ForUserWithoutPassword_ShouldReturnUnauthorized() {
+        insertUser(null);
+
+        ResponseEntity<JsonNode> response =
+                postJson("/api/auth/token", Map.of("username", EMAIL, "password", PASSWORD));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void users_WithoutToken_ShouldBeRejected() {
+        assertThat(getUsers(null).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void issueTokens_ShouldUpgradeLegacyPasswordHash() {
+        // Unprefixed bcrypt, as written before hashes carried their algorithm id
+        insertUser(new BCryptPasswordEncoder().encode(PASSWORD));
+
+        authService.issueTokens(EMAIL, PASSWORD);
+
+        String storedHash =
+                jdbcTemplate.queryForObject("SELECT password_hash FROM users WHERE email = ?", String.class, EMAIL);
+        assertThat(storedHash).startsWith("{argon2}");
+        assertThat(passwordEncoder.matches(PASSWORD, storedHash)).isTrue();
+    }
+
+    @Test
+    void refresh_ShouldRotateRefreshToken() {
+        insertUser(passwordEncoder.encode(PASSWORD));
+        TokenResponse issued = authService.issueTokens(EMAIL, PASSWORD);
+
+        TokenResponse refreshed = authService.refresh(issued.getRefreshToken());
+
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(issued.getRefreshToken());
+        assertThat(jwtService.verify(refreshed.getAccessToken())).isPresent();
+        // The next token of the family can be exchanged in turn
+        TokenResponse next = authService.refresh(refreshed.getRefreshToken());
+        assertThat(next.getRefreshToken()).isNotEqualTo(refreshed.getRefreshToken());
+        assertThat(countRefreshTokens("used_at IS NULL")).isEqualTo(1);
+        assertThat(countRefreshTokens("used_at IS NOT NULL")).isEqualTo(2);
+    }
+
+    @Test
+    void refresh_WithReusedToken_ShouldRevokeTokenFamily() {
+        insertUser(passwordEncoder.encode(PASSWORD));
+        TokenResponse issued = authService.issueTokens(EMAIL, PASSWORD);
+        TokenResponse refreshed = authService.refresh(issued.getRefreshToken());
+
+        assertThatThrownBy(() -> authService.refresh(issued.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        // The legitimate holder's newer token is dead too, and so are the access tokens of the family
+        assertThatThrownBy(() -> authService.refresh(refreshed.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        assertThat(jwtService.verify(issued.getAccessToken())).isEmpty();
+        assertThat(jwtService.verify(refreshed.getAccessToken())).isEmpty();
+        // Both revocations were committed for the other nodes despite the failed request
+        Integer published = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE topic = 'token-revocations'", Integer.class);
+        assertThat(published).isEqualTo(2);
+    }
+
+    @Test
+    void refresh_ShouldRevokeFamilyOfRemovedUser() {
+        insertUser(passwordEncoder.encode(PASSWORD));
+        TokenResponse issued = authService.issueTokens(EMAIL, PASSWORD);
+        transactionTemplate.executeWithoutResult(
+                status -> jdbcTemplate.update("DELETE FROM users WHERE email = ?", EMAIL));
+
+        assertThatThrownBy(() -> authService.refresh(issued.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        assertThat(jwtService.verify(issued.getAccessToken())).isEmpty();
+    }
+
+    @Test
+    void purgeExpiredRefreshTokens_ShouldDeleteExpiredTokensInCommittedBatches() {
+        Instant now = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 5; i++) {
+                insertRefreshToken(now.minus(1, ChronoUnit.HOURS));
+            }
+            insertRefreshToken(now.plus(1, ChronoUnit.HOURS));
+        });
+
+        authService.purgeExpiredRefreshTokens();
+
+        assertThat(countRefreshTokens("expires_at <= ?", Timestamp.from(now))).isZero();
+        assertThat(countRefreshTokens("expires_at > ?", Timestamp.from(now))).isEqualTo(1);
+    }
+
+    private void insertUser(String passwordHash) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_USER, EMAIL, passwordHash));
+    }
+
+    private void insertRefreshToken(Instant expiresAt) {
+        Timestamp expiry = Timestamp.from(expiresAt);
+        jdbcTemplate.update(
+                INSERT_REFRESH_TOKEN,
+                UUID.randomUUID().toString().getBytes(),
+                UUID.randomUUID(),
+                EMAIL,
+                UUID.randomUUID().toString(),
+                expiry,
+                expiry);
+    }
+
+    private int countRefreshTokens(String condition, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE " + condition, Integer.class, args);
+        return count != null ? count : 0;
+    }
+
+    private ResponseEntity<JsonNode> postJson(String path, Map<String, String> body) {
+        return restTemplate.postForEntity(path, body, JsonNode.class);
+    }
+
+    private ResponseEntity<JsonNode> getUsers(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        if (accessToken != null) {
+            headers.setBearerAuth(accessToken);
+        }
+        return restTemplate.exchange("/api/users", HttpMethod.GET, new HttpEntity<>(headers), JsonNode.class);
+    }
+}
@@ -3,15 +3,30 @@ package com.example.userapi.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
-import com.example.core.messaging.producer.EventPublisher;
+import com.example.core.database.cache.CaffeineEntityCache;
+import com.example.core.database.pagination.KeysetCursor;
+import com.example.core.messaging.outbox.OutboxEventPublisher;
+import com.example.core.web.response.CursorPageResult;
+import com.example.core.web.response.PageResult;
+import com.example.core.web.response.TotalCountStrategy;
+import com.example.userapi.cache.UserCache;
+import com.example.userapi.exception.InvalidCursorException;
 import com.example.userapi.exception.UserAlreadyExistsException;
 import com.example.userapi.exception.UserNotFoundException;
 import com.example.userapi.model.User;
 import com.example.userapi.repository.UserRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,13 +40,17 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private EventPublisher eventPublisher;
+    private OutboxEventPublisher eventPublisher;
 
     private UserService userService;
 
     @BeforeEach
     void setUp() {
-        userService = new UserService(userRepository, eventPublisher);
+        UserCache userCache = new UserCache(
+                userRepository,
+                new CaffeineEntityCache<>(100, Duration.ofMinutes(1)),
+                new CaffeineEntityCache<>(100, Duration.ofMinutes(1)));
+        userService = new UserService(userRepository, eventPublisher, userCache);
     }
 
     @Test
@@ -67,6 +86,56 @@ class UserServiceTest {
         verify(eventPublisher, never()).publishEvent(anyString(), anyString(), any());
     }
 
+    @Test
+    void createUsers_ShouldBatchInsertAndPublishEvents_WhenEmailsAreNew() {
+        User user1 = new User("John Doe", "john@example.com");
+        User user2 = new User("Jane Smith", "jane@example.com");
+        List<User> users = List.of(user1, user2);
+
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(userRepository.saveAll(users)).thenAnswer(invocation -> {
+            user1.setId(1L);
+            user2.setId(2L);
+            return users;
+        });
+
+        List<User> result = userService.createUsers(users);
+
+        assertThat(result).containsExactly(user1, user2);
+        verify(userRepository).findExistingEmails(Set.of("john@example.com", "jane@example.com"));
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(userRepository, never()).save(any());
+        verify(eventPublisher).publishEvents(eq("user-events"), argThat(events -> events.size() == 2), any());
+    }
+
+    @Test
+    void createUsers_ShouldThrowException_WhenAnyEmailExists() {
+        List<User> users =
+                List.of(new User("John Doe", "john@example.com"), new User("Jane Smith", "jane@example.com"));
+
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("jane@example.com"));
+
+        assertThatThrownBy(() -> userService.createUsers(users))
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessageContaining("jane@example.com");
+
+        verify(userRepository, never()).saveAll(any());
+        verify(eventPublisher, never()).publishEvents(anyString(), any(), any());
+    }
+
+    @Test
+    void createUsers_ShouldThrowException_WhenEmailRepeatedInRequest() {
+        List<User> users = List.of(new User("John Doe", "john@example.com"), new User("Johnny", "john@example.com"));
+
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+
+        assertThatThrownBy(() -> userService.createUsers(users))
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessageContaining("john@example.com");
+
+        verify(userRepository, never()).saveAll(any());
+    }
+
     @Test
     void getUserById_ShouldReturnUser_WhenExists() {
         User user = new User("John Doe", "john@example.com");
@@ -91,6 +160,52 @@ class UserServiceTest {
         verify(userRepository).findById(1L);
     }
 
+    @Test
+    void getUserById_ShouldServeRepeatedLookupsFromCache() {
+        User user = new User("John Doe", "john@example.com");
+        user.setId(1L);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        userService.getUserById(1L);
+        User result = userService.getUserById(1L);
+
+        assertThat(result).isEqualTo(user);
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void getUserById_ShouldNotCacheMissingUser() {
+        User user = new User("John Doe", "john@example.com");
+        user.setId(1L);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.empty(), Optional.of(user));
+
+        assertThatThrownBy(() -> userService.getUserById(1L)).isInstanceOf(UserNotFoundException.class);
+        assertThat(userService.getUserById(1L)).isEqualTo(user);
+    }
+
+    @Test
+    void updateUser_ShouldEvictCachedUser() {
+        User cachedUser = new User("John Doe", "john@example.com");
+        cachedUser.setId(1L);
+        User existingUser = new User("John Doe", "john@example.com");
+        existingUser.setId(1L);
+        User updatedUser = new User("John Updated", "john@example.com");
+        updatedUser.setId(1L);
+
+        when(userRepository.findById(1L))
+                .thenReturn(Optional.of(cachedUser), Optional.of(existingUser), Optional.of(updatedUser));
+        when(userRepository.save(any(User.class))).thenReturn(updatedUser);
+
+        userService.getUserById(1L);
+        userService.updateUser(1L, new User("John Updated", "john@example.com"));
+        User result = userService.getUserById(1L);
+
+        assertThat(result.getName()).isEqualTo("John Updated");
+        assertThat(cachedUser.getName()).isEqualTo("John Doe");
+    }
+
     @Test
     void updateUser_ShouldUpdateUser_WhenValidData() {
         User existingUser = new User("John Doe", "john@example.com");
@@ -124,4 +239,107 @@ class UserServiceTest {
         verify(userRepository).deleteById(1L);
         verify(eventPublisher).publishEvent(anyString(), anyString(), any());
     }
+
+    @Test
+    void getAllUsers_ShouldCountExactly_ByDefault() {
+        User user = userWithId(1L, LocalDateTime.of(2024, 1, 1, 10, 0));
+
+        when(userRepository.findAll(11, 0)).thenReturn(List.of(user));
+        when(userRepository.count()).thenReturn(1L);
+
+        PageResult<User> result = userService.getAllUsers(0, 10);
+
+        assertThat(result.getContent()).containsExactly(user);
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+        assertThat(result.getTotalCountStrategy()).isEqualTo(TotalCountStrategy.EXACT);
+        assertThat(result.isLast()).isTrue();
+    }
+
+    @Test
+    void getAllUsers_ShouldReuseCount_WhenCached() {
+        when(userRepository.findAll(11, 0)).thenReturn(List.of());
+        when(userRepository.count()).thenReturn(42L);
+
+        userService.getAllUsers(0, 10, TotalCountStrategy.CACHED);
+        PageResult<User> result = userService.getAllUsers(0, 10, TotalCountStrategy.CACHED);
+
+        assertThat(result.getTotalElements()).isEqualTo(42L);
+        verify(userRepository, times(1)).count();
+    }
+
+    @Test
+    void getAllUsers_ShouldNotUnderstateEstimate_WhenMoreRowsWereRead() {
+        User user1 = userWithId(2L, LocalDateTime.of(2024, 1, 2, 10, 0));
+        User user2 = userWithId(1L, LocalDateTime.of(2024, 1, 1, 10, 0));
+
+        when(userRepository.findAll(2, 5)).thenReturn(List.of(user1, user2));
+        when(userRepository.estimateCount()).thenReturn(3L);
+
+        PageResult<User> result = userService.getAllUsers(5, 1, TotalCountStrategy.ESTIMATED);
+
+        assertThat(result.getContent()).containsExactly(user1);
+        assertThat(result.getTotalElements()).isEqualTo(7L);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void getAllUsers_ShouldSkipCount_WhenStrategyIsNone() {
+        User user1 = userWithId(2L, LocalDateTime.of(2024, 1, 2, 10, 0));
+        User user2 = userWithId(1L, LocalDateTime.of(2024, 1, 1, 10, 0));
+
+        when(userRepository.findAll(2, 0)).thenReturn(List.of(user1, user2));
+
+        PageResult<User> result = userService.getAllUsers(0, 1, TotalCountStrategy.NONE);
+
+        assertThat(result.getContent()).containsExactly(user1);
+        assertThat(result.getTotalElements()).isNull();
+        assertThat(result.hasNext()).isTrue();
+        verify(userRepository, never()).count();
+        verify(userRepository, never()).estimateCount();
+    }
+
+    @Test
+    void getAllUsersByCursor_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        User user1 = userWithId(3L, LocalDateTime.of(2024, 1, 3, 10, 0));
+        User user2 = userWithId(2L, LocalDateTime.of(2024, 1, 2, 10, 0));
+        User user3 = userWithId(1L, LocalDateTime.of(2024, 1, 1, 10, 0));
+
+        when(userRepository.findAllAfter(null, 3)).thenReturn(List.of(user1, user2, user3));
+
+        CursorPageResult<User> result = userService.getAllUsers("", 2);
+
+        assertThat(result.getContent()).containsExactly(user1, user2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(result.getNextCursor()))
+                .isEqualTo(new KeysetCursor(user2.getCreatedAt(), user2.getId()));
+    }
+
+    @Test
+    void getAllUsersByCursor_ShouldSeekFromCursor_AndStopOnLastPage() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 1, 2, 10, 0), 2L);
+        User user = userWithId(1L, LocalDateTime.of(2024, 1, 1, 10, 0));
+
+        when(userRepository.findAllAfter(cursor, 3)).thenReturn(List.of(user));
+
+        CursorPageResult<User> result = userService.getAllUsers(cursor.encode(), 2);
+
+        assertThat(result.getContent()).containsExactly(user);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getAllUsersByCursor_ShouldThrowException_WhenCursorMalformed() {
+        assertThatThrownBy(() -> userService.getAllUsers("not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verify(userRepository, never()).findAllAfter(any(), anyInt());
+    }
+
+    private User userWithId(Long id, LocalDateTime createdAt) {
+        User user = new User("User " + id, "user" + id + "@example.com");
+        user.setId(id);
+        user.setCreatedAt(createdAt);
+        return user;
+    }
 }
@@ -0,0 +1,115 @@
+package com.example.userapi.reactive.controller;
+
+import com.example.core.web.controller.BaseController.CursorPagedResponse;
+import com.example.core.web.controller.BaseController.PagedResponse;
+import com.example.core.web.controller.ReactiveBaseController;
+import com.example.core.web.export.CsvRecordWriter;
+import com.example.core.web.export.ExportFormat;
+import com.example.core.web.export.NdjsonRecordWriter;
+import com.example.core.web.export.RecordWriter;
+import com.example.core.web.response.ApiResponse;
+import com.example.core.web.response.TotalCountStrategy;
+import com.example.userapi.dto.BulkCreateUsersRequest;
+import com.example.userapi.exception.InvalidPageRequestException;
+import com.example.userapi.model.User;
+import com.example.userapi.reactive.service.ReactiveUserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** The servlet {@code UserController}'s endpoints, served without blocking a thread per request. */
+@RestController
+@RequestMapping("/api/users")
+public class ReactiveUserController extends ReactiveBaseController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final LinkedHashMap<String, Function<User, ?>> CSV_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        CSV_COLUMNS.put("id", User::getId);
+        CSV_COLUMNS.put("name", User::getName);
+        CSV_COLUMNS.put("email", User::getEmail);
+        CSV_COLUMNS.put("created_at", User::getCreatedAt);
+        CSV_COLUMNS.put("updated_at", User::getUpdatedAt);
+    }
+
+    private final ReactiveUserService userService;
+    private final ObjectMapper objectMapper;
+
+    public ReactiveUserController(ReactiveUserService userService, ObjectMapper objectMapper) {
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<User>>> createUser(@Valid @RequestBody User user) {
+        return created(userService.createUser(user));
+    }
+
+    @PostMapping("/bulk")
+    public Mono<ResponseEntity<ApiResponse<List<User>>>> createUsers(
+            @Valid @RequestBody BulkCreateUsersRequest request) {
+        return created("Users created successfully", userService.createUsers(request.getUsers()));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<User>>> getUserById(@PathVariable("id") Long id) {
+        return success(userService.getUserById(id));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<PagedResponse<User>>>> getAllUsers(
+            @RequestParam(name = "page", defaultValue = "0") @Min(0) int page,
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam(name = "count", defaultValue = "CACHED") TotalCountStrategy count) {
+        if (count == TotalCountStrategy.EXACT) {
+            // An exact COUNT(*) per request is what CACHED exists to avoid; keep it off the public API
+            throw new InvalidPageRequestException("count=EXACT is not supported, use CACHED, ESTIMATED or NONE");
+        }
+        return pagedSuccess(userService.getAllUsers(page, size, count));
+    }
+
+    // Keyset pagination: pass an empty cursor for the first page, then follow nextCursor
+    @GetMapping(params = "cursor")
+    public Mono<ResponseEntity<ApiResponse<CursorPagedResponse<User>>>> getAllUsers(
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        return cursorPagedSuccess(userService.getAllUsers(cursor, size));
+    }
+
+    // Streams every user at the pace the client reads; memory use is independent of table size
+    @GetMapping("/export")
+    public ResponseEntity<Flux<DataBuffer>> exportUsers(
+            @RequestParam(name = "format", defaultValue = "NDJSON") ExportFormat format) {
+        return streamed(format, "users", userService.exportUsers(), out -> recordWriter(format, out));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<User>>> updateUser(
+            @PathVariable("id") Long id, @Valid @RequestBody User user) {
+        return success("User updated successfully", userService.updateUser(id, user));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<Void>>> deleteUser(@PathVariable("id") Long id) {
+        return noContent(userService.deleteUser(id));
+    }
+
+    private RecordWriter<User> recordWriter(ExportFormat format, OutputStream out) {
+        return switch (format) {
+            case NDJSON -> new NdjsonRecordWriter<>(out, objectMapper, User.class);
+            case CSV -> new CsvRecordWriter<>(out, CSV_COLUMNS);
+        };
+    }
+}
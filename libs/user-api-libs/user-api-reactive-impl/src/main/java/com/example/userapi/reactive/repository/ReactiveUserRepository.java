@@ -0,0 +1,251 @@
+package com.example.userapi.reactive.repository;
+
+import com.example.core.database.pagination.KeysetCursor;
+import com.example.core.database.repository.ReactiveBaseRepository;
+import com.example.userapi.model.User;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** R2DBC counterpart of the servlet {@code UserRepository}, running the same statements. */
+@Repository
+public class ReactiveUserRepository extends ReactiveBaseRepository<User, Long> {
+
+    private static final String INSERT_USER =
+            """
+            INSERT INTO users (name, email, created_at, updated_at)
+            VALUES (:name, :email, :createdAt, :updatedAt)
+            """;
+
+    private static final String BATCH_INSERT_USER =
+            """
+            INSERT INTO users (name, email, created_at, updated_at)
+            VALUES ($1, $2, $3, $4)
+            """;
+
+    private static final String UPDATE_USER =
+            """
+            UPDATE users SET name = :name, email = :email, updated_at = :updatedAt
+            WHERE id = :id
+            """;
+
+    private static final String BATCH_UPDATE_USER =
+            """
+            UPDATE users SET name = $2, email = $3, updated_at = $4
+            WHERE id = $1
+            """;
+
+    private static final String SELECT_ALL_USERS =
+            """
+            SELECT id, name, email, created_at, updated_at FROM users
+            ORDER BY created_at DESC
+            """;
+
+    private static final String SELECT_USER_BY_ID =
+            """
+            SELECT id, name, email, created_at, updated_at FROM users WHERE id = :id
+            """;
+
+    private static final String SELECT_USER_BY_EMAIL =
+            """
+            SELECT id, name, email, created_at, updated_at FROM users WHERE email = :email
+            """;
+
+    private static final String DELETE_USER_BY_ID = "DELETE FROM users WHERE id = :id";
+
+    private static final String EXISTS_USER_BY_ID = "SELECT EXISTS (SELECT 1 FROM users WHERE id = :id)";
+
+    private static final String SELECT_EXISTING_EMAILS = "SELECT email FROM users WHERE email = ANY(:emails)";
+
+    private static final String SELECT_ALL_USERS_PAGINATED =
+            """
+            SELECT id, name, email, created_at, updated_at FROM users
+            ORDER BY created_at DESC
+            LIMIT :limit OFFSET :offset
+            """;
+
+    private static final String SELECT_FIRST_USERS_KEYSET =
+            """
+            SELECT id, name, email, created_at, updated_at FROM users
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """;
+
+    private static final String SELECT_USERS_AFTER_KEYSET =
+            """
+            SELECT id, name, email, created_at, updated_at FROM users
+            WHERE (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """;
+
+    private static final String COUNT_ALL_USERS = "SELECT COUNT(*) FROM users";
+
+    public ReactiveUserRepository(DatabaseClient databaseClient) {
+        super(databaseClient);
+    }
+
+    @Override
+    public Mono<User> save(User user) {
+        if (user.getId() == null) {
+            return executeInsertAndReturnKey(databaseClient
+                            .sql(INSERT_USER)
+                            .bind("name", user.getName())
+                            .bind("email", user.getEmail())
+                            .bind("createdAt", nullable(user.getCreatedAt(), LocalDateTime.class))
+                            .bind("updatedAt", nullable(user.getUpdatedAt(), LocalDateTime.class)))
+                    .map(id -> {
+                        user.setId(id);
+                        return user;
+                    });
+        }
+        return databaseClient
+                .sql(UPDATE_USER)
+                .bind("id", user.getId())
+                .bind("name", user.getName())
+                .bind("email", user.getEmail())
+                .bind("updatedAt", nullable(user.getUpdatedAt(), LocalDateTime.class))
+                .then()
+                .thenReturn(user);
+    }
+
+    @Override
+    public Flux<User> saveAll(List<User> users) {
+        List<User> inserts = new ArrayList<>();
+        List<User> updates = new ArrayList<>();
+        for (User user : users) {
+            (user.getId() == null ? inserts : updates).add(user);
+        }
+
+        Mono<Void> insert = executeBatchInsertAndReturnKeys(BATCH_INSERT_USER, inserts, (statement, user) -> statement
+                        .bind(0, user.getName())
+                        .bind(1, user.getEmail())
+                        .bind(2, nullable(user.getCreatedAt(), LocalDateTime.class))
+                        .bind(3, nullable(user.getUpdatedAt(), LocalDateTime.class)))
+                .index()
+                .doOnNext(key -> inserts.get(key.getT1().intValue()).setId(key.getT2()))
+                .then();
+        Mono<Void> update = executeBatchUpdate(BATCH_UPDATE_USER, updates, (statement, user) -> statement
+                .bind(0, user.getId())
+                .bind(1, user.getName())
+                .bind(2, user.getEmail())
+                .bind(3, nullable(user.getUpdatedAt(), LocalDateTime.class)));
+        return insert.then(update).thenMany(Flux.fromIterable(users));
+    }
+
+    @Override
+    public Mono<User> findById(Long id) {
+        return databaseClient
+                .sql(SELECT_USER_BY_ID)
+                .bind("id", id)
+                .map(ReactiveUserRepository::mapUser)
+                .one();
+    }
+
+    @Override
+    public Flux<User> findAll() {
+        return databaseClient
+                .sql(SELECT_ALL_USERS)
+                .map(ReactiveUserRepository::mapUser)
+                .all();
+    }
+
+    /**
+     * Streams every user in {@code created_at DESC} order, fetching further rows only as downstream demand
+     * arrives. Must be subscribed inside a transaction.
+     */
+    public Flux<User> streamAll() {
+        return streamQuery(SELECT_ALL_USERS, ReactiveUserRepository::mapUser);
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return databaseClient.sql(DELETE_USER_BY_ID).bind("id", id).then();
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient
+                .sql(EXISTS_USER_BY_ID)
+                .bind("id", id)
+                .mapValue(Boolean.class)
+                .one();
+    }
+
+    public Mono<User> findByEmail(String email) {
+        return databaseClient
+                .sql(SELECT_USER_BY_EMAIL)
+                .bind("email", email)
+                .map(ReactiveUserRepository::mapUser)
+                .one();
+    }
+
+    /** Returns which of {@code emails} are already taken, with one {@code = ANY(array)} query. */
+    public Mono<Set<String>> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        return databaseClient
+                .sql(SELECT_EXISTING_EMAILS)
+                .bind("emails", emails.toArray(new String[0]))
+                .mapValue(String.class)
+                .all()
+                .collect(Collectors.toSet());
+    }
+
+    public Flux<User> findAll(int limit, int offset) {
+        return databaseClient
+                .sql(SELECT_ALL_USERS_PAGINATED)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveUserRepository::mapUser)
+                .all();
+    }
+
+    /**
+     * Seeks to the rows that follow {@code after} in {@code (created_at DESC, id DESC)} order. A {@code null}
+     * cursor returns the first page.
+     */
+    public Flux<User> findAllAfter(KeysetCursor after, int limit) {
+        if (after == null) {
+            return databaseClient
+                    .sql(SELECT_FIRST_USERS_KEYSET)
+                    .bind("limit", limit)
+                    .map(ReactiveUserRepository::mapUser)
+                    .all();
+        }
+        return databaseClient
+                .sql(SELECT_USERS_AFTER_KEYSET)
+                .bind("createdAt", after.getCreatedAt())
+                .bind("id", after.getId())
+                .bind("limit", limit)
+                .map(ReactiveUserRepository::mapUser)
+                .all();
+    }
+
+    public Mono<Long> count() {
+        return databaseClient.sql(COUNT_ALL_USERS).mapValue(Long.class).one().defaultIfEmpty(0L);
+    }
+
+    public Mono<Long> estimateCount() {
+        return estimateRowCount("users").flatMap(estimate -> estimate >= 0 ? Mono.just(estimate) : count());
+    }
+
+    private static User mapUser(Readable row) {
+        User user = new User();
+        user.setId(row.get("id", Long.class));
+        user.setName(row.get("name", String.class));
+        user.setEmail(row.get("email", String.class));
+        user.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        user.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return user;
+    }
+}
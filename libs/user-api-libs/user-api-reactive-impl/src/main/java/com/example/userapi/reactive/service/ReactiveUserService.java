@@ -0,0 +1,241 @@
+package com.example.userapi.reactive.service;
+
+import com.example.core.database.pagination.KeysetCursor;
+import com.example.core.messaging.producer.ReactiveEventPublisher;
+import com.example.core.web.response.CursorPageResult;
+import com.example.core.web.response.PageResult;
+import com.example.core.web.response.TotalCountStrategy;
+import com.example.userapi.event.UserCreatedEvent;
+import com.example.userapi.event.UserDeletedEvent;
+import com.example.userapi.event.UserUpdatedEvent;
+import com.example.userapi.exception.InvalidCursorException;
+import com.example.userapi.exception.UserAlreadyExistsException;
+import com.example.userapi.exception.UserNotFoundException;
+import com.example.userapi.model.User;
+import com.example.userapi.reactive.repository.ReactiveUserRepository;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of the servlet {@code UserService}, with the same rules and errors. Writes run in an
+ * R2DBC transaction and their event is published once it has committed, so a rolled-back write never emits
+ * one. Unlike the servlet service's outbox, a broker failure after the commit loses the event: it is logged
+ * and the request still succeeds.
+ */
+@Service
+public class ReactiveUserService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveUserService.class);
+    private static final String USER_EVENTS_TOPIC = "user-events";
+    private static final Duration USER_COUNT_TTL = Duration.ofSeconds(30);
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveEventPublisher eventPublisher;
+    private final TransactionalOperator transactionalOperator;
+    private final TransactionalOperator readOnlyTransactionalOperator;
+    // Concurrent subscribers share one COUNT(*) per TTL; failures are not cached
+    private final Mono<Long> cachedUserCount;
+
+    public ReactiveUserService(
+            ReactiveUserRepository userRepository,
+            ReactiveEventPublisher eventPublisher,
+            ReactiveTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+        DefaultTransactionDefinition readOnly =
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRED);
+        readOnly.setReadOnly(true);
+        this.readOnlyTransactionalOperator = TransactionalOperator.create(transactionManager, readOnly);
+        this.cachedUserCount =
+                userRepository.count().cache(count -> USER_COUNT_TTL, error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    public Mono<User> createUser(User user) {
+        return userRepository
+                .findByEmail(user.getEmail())
+                .flatMap(existing -> Mono.<User>error(
+                        new UserAlreadyExistsException("User with email " + user.getEmail() + " already exists")))
+                .switchIfEmpty(Mono.defer(() -> userRepository.save(user)))
+                .as(transactionalOperator::transactional)
+                .flatMap(savedUser -> publish(
+                                savedUser.getId(),
+                                new UserCreatedEvent(savedUser.getId(), savedUser.getName(), savedUser.getEmail()))
+                        .thenReturn(savedUser))
+                .doOnSubscribe(subscription -> logger.info("Creating user: {}", user.getEmail()))
+                .doOnSuccess(savedUser -> logger.info("User created successfully: {}", savedUser.getId()));
+    }
+
+    /**
+     * Creates all users in one transaction. Duplicate emails, whether within the request or already stored,
+     * are detected with a single query up front and reject the whole import.
+     */
+    public Mono<List<User>> createUsers(List<User> users) {
+        Set<String> emails = new HashSet<>(users.size());
+        Set<String> duplicates = new LinkedHashSet<>();
+        for (User user : users) {
+            if (!emails.add(user.getEmail())) {
+                duplicates.add(user.getEmail());
+            }
+        }
+
+        return userRepository
+                .findExistingEmails(emails)
+                .flatMap(existing -> {
+                    duplicates.addAll(existing);
+                    if (!duplicates.isEmpty()) {
+                        return Mono.error(
+                                new UserAlreadyExistsException("Users with emails " + duplicates + " already exist"));
+                    }
+                    return userRepository.saveAll(users).collectList();
+                })
+                .as(transactionalOperator::transactional)
+                .flatMap(savedUsers -> {
+                    List<UserCreatedEvent> events = savedUsers.stream()
+                            .map(user -> new UserCreatedEvent(user.getId(), user.getName(), user.getEmail()))
+                            .toList();
+                    return eventPublisher
+                            .publishEvents(USER_EVENTS_TOPIC, events, event -> event.getUserId()
+                                    .toString())
+                            .onErrorResume(exception -> Mono.empty())
+                            .thenReturn(savedUsers);
+                })
+                .doOnSubscribe(subscription -> logger.info("Bulk creating {} users", users.size()))
+                .doOnSuccess(savedUsers -> logger.info("Bulk created {} users", savedUsers.size()));
+    }
+
+    public Mono<User> getUserById(Long id) {
+        return userRepository.findById(id).switchIfEmpty(Mono.error(() -> userNotFound(id)));
+    }
+
+    public Flux<User> getAllUsers() {
+        return userRepository.findAll();
+    }
+
+    /** Streams every user, reading further rows only as fast as the subscriber consumes them. */
+    public Flux<User> exportUsers() {
+        return userRepository.streamAll().as(readOnlyTransactionalOperator::transactional);
+    }
+
+    public Mono<PageResult<User>> getAllUsers(int page, int size, TotalCountStrategy totalCountStrategy) {
+        int offset = page * size;
+        Mono<Long> total =
+                switch (totalCountStrategy) {
+                    case EXACT -> userRepository.count();
+                    case CACHED -> cachedUserCount;
+                    case ESTIMATED -> userRepository.estimateCount();
+                    case NONE -> Mono.empty();
+                };
+
+        // The page and the total are independent queries, so they run concurrently
+        return Mono.zip(
+                        // Fetch one extra row so hasNext is exact whatever the count strategy
+                        userRepository.findAll(size + 1, offset).collectList(),
+                        total.map(Optional::of).defaultIfEmpty(Optional.empty()))
+                .map(result -> {
+                    List<User> users = result.getT1();
+                    boolean hasNext = users.size() > size;
+                    List<User> content = hasNext ? users.subList(0, size) : users;
+
+                    Long totalElements = result.getT2().orElse(null);
+                    if (totalElements != null && totalCountStrategy != TotalCountStrategy.EXACT) {
+                        // An approximate total must never contradict the rows we actually read
+                        long seen = (long) offset + content.size() + (hasNext ? 1 : 0);
+                        totalElements = Math.max(totalElements, seen);
+                    }
+                    return new PageResult<>(content, page, size, totalElements, hasNext, totalCountStrategy);
+                });
+    }
+
+    public Mono<CursorPageResult<User>> getAllUsers(String cursor, int size) {
+        return Mono.fromCallable(() -> Optional.ofNullable(decodeCursor(cursor)))
+                // Fetch one extra row to learn whether another page follows without counting
+                .flatMap(after -> userRepository
+                        .findAllAfter(after.orElse(null), size + 1)
+                        .collectList())
+                .map(users -> {
+                    if (users.size() <= size) {
+                        return new CursorPageResult<>(users, size, null);
+                    }
+                    List<User> page = users.subList(0, size);
+                    User last = page.get(size - 1);
+                    String nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+                    return new CursorPageResult<>(page, size, nextCursor);
+                });
+    }
+
+    public Mono<User> updateUser(Long id, User userUpdate) {
+        return findUserForUpdate(id)
+                .flatMap(existingUser -> {
+                    // Check if email is being changed and if new email already exists
+                    Mono<Void> emailCheck = existingUser.getEmail().equals(userUpdate.getEmail())
+                            ? Mono.empty()
+                            : userRepository
+                                    .findByEmail(userUpdate.getEmail())
+                                    .flatMap(user -> Mono.error(new UserAlreadyExistsException(
+                                            "User with email " + userUpdate.getEmail() + " already exists")));
+                    return emailCheck.then(Mono.defer(() -> {
+                        existingUser.setName(userUpdate.getName());
+                        existingUser.setEmail(userUpdate.getEmail());
+                        return userRepository.save(existingUser);
+                    }));
+                })
+                .as(transactionalOperator::transactional)
+                .flatMap(updatedUser -> publish(
+                                updatedUser.getId(),
+                                new UserUpdatedEvent(
+                                        updatedUser.getId(), updatedUser.getName(), updatedUser.getEmail()))
+                        .thenReturn(updatedUser))
+                .doOnSubscribe(subscription -> logger.info("Updating user: {}", id))
+                .doOnSuccess(updatedUser -> logger.info("User updated successfully: {}", updatedUser.getId()));
+    }
+
+    public Mono<Void> deleteUser(Long id) {
+        return findUserForUpdate(id)
+                .flatMap(user -> userRepository.deleteById(id).thenReturn(user))
+                .as(transactionalOperator::transactional)
+                .flatMap(user -> publish(user.getId(), new UserDeletedEvent(user.getId(), user.getEmail())))
+                .doOnSubscribe(subscription -> logger.info("Deleting user: {}", id))
+                .doOnSuccess(ignored -> logger.info("User deleted successfully: {}", id));
+    }
+
+    private Mono<User> findUserForUpdate(Long id) {
+        return userRepository.findById(id).switchIfEmpty(Mono.error(() -> userNotFound(id)));
+    }
+
+    // The write has committed by now; a failed send is logged by the publisher and must not fail the request
+    private Mono<Void> publish(Long userId, Object event) {
+        return eventPublisher
+                .publishEvent(USER_EVENTS_TOPIC, userId.toString(), event)
+                .onErrorResume(exception -> Mono.empty())
+                .then();
+    }
+
+    private static UserNotFoundException userNotFound(Long id) {
+        return new UserNotFoundException("User not found with id: " + id);
+    }
+
+    private KeysetCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid pagination cursor", e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.userapi.reactive.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.core.web.exception.ReactiveGlobalExceptionHandler;
+import com.example.core.web.response.CursorPageResult;
+import com.example.core.web.response.PageResult;
+import com.example.userapi.model.User;
+import com.example.userapi.reactive.service.ReactiveUserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+class ReactiveUserControllerTest {
+
+    private final ReactiveUserService userService = mock(ReactiveUserService.class);
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToController(new ReactiveUserController(userService, new ObjectMapper()))
+                .controllerAdvice(new ReactiveGlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void getAllUsers_ShouldReturnPage() {
+        User user = new User("John Doe", "john@example.com");
+        user.setId(1L);
+        when(userService.getAllUsers(eq(0), eq(10), any()))
+                .thenReturn(Mono.just(new PageResult<>(List.of(user), 0, 10, 1)));
+
+        webTestClient
+                .get()
+                .uri("/api/users?page=0&size=10")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.data.content[0].email")
+                .isEqualTo("john@example.com");
+    }
+
+    @Test
+    void getAllUsers_WithNonPositiveSize_ShouldReturnBadRequest() {
+        webTestClient
+                .get()
+                .uri("/api/users?size=0")
+                .exchange()
+                .expectStatus()
+                .isBadRequest()
+                .expectBody()
+                .jsonPath("$.success")
+                .isEqualTo(false)
+                .jsonPath("$.data.size")
+                .exists();
+
+        webTestClient
+                .get()
+                .uri("/api/users?cursor=&size=-1")
+                .exchange()
+                .expectStatus()
+                .isBadRequest()
+                .expectBody()
+                .jsonPath("$.data.size")
+                .exists();
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void getAllUsers_WithOversizedPage_ShouldReturnBadRequest() {
+        webTestClient.get().uri("/api/users?size=101").exchange().expectStatus().isBadRequest();
+        webTestClient.get().uri("/api/users?page=-1").exchange().expectStatus().isBadRequest();
+        webTestClient
+                .get()
+                .uri("/api/users?cursor=&size=101")
+                .exchange()
+                .expectStatus()
+                .isBadRequest();
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void getAllUsers_WithCursor_ShouldReturnCursorPage() {
+        when(userService.getAllUsers(eq(""), anyInt()))
+                .thenReturn(Mono.just(new CursorPageResult<>(List.of(), 10, null)));
+
+        webTestClient
+                .get()
+                .uri("/api/users?cursor=&size=10")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.success")
+                .isEqualTo(true);
+    }
+}
@@ -0,0 +1,315 @@
+package com.example.userapi.reactive.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.example.core.web.response.PageResult;
+import com.example.userapi.controller.UserController;
+import com.example.userapi.model.User;
+import com.example.userapi.reactive.service.ReactiveUserService;
+import com.example.userapi.service.UserService;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.HttpHandlerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.ReactiveWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import reactor.core.publisher.Mono;
+import reactor.pool.InstrumentedPool;
+import reactor.pool.PoolBuilder;
+
+/**
+ * Runs the same closed-loop load against the servlet {@code UserController} on Tomcat and
+ * {@link ReactiveUserController} on Netty. Both services are stubbed with the same simulated database: reads by
+ * id take {@link #BY_ID_QUERY_TIME}, page reads {@link #PAGE_QUERY_TIME}, and every query holds one of
+ * {@link #POOL_SIZE} connections, a semaphore for Hikari and a reactor-pool, which r2dbc-pool is built on, for
+ * R2DBC. Reports throughput, p99 per endpoint and how many threads each server needed. With the pool as the
+ * bottleneck both stacks are bound to the same throughput; the difference is in threads and tail latency.
+ * Takes about a minute, so it is skipped by default; run it with {@code mvn test -Pload-tests}.
+ */
+@Tag("benchmark")
+class ReactiveUserEndpointsLoadBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveUserEndpointsLoadBenchmarkTest.class);
+
+    private static final int CLIENTS = 1_000;
+    private static final int PAGE_READ_EVERY = 5;
+    private static final int POOL_SIZE = 10;
+    private static final Duration BY_ID_QUERY_TIME = Duration.ofMillis(1);
+    private static final Duration PAGE_QUERY_TIME = Duration.ofMillis(5);
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(15);
+
+    // Tomcat workers, Netty event loops and the Reactor schedulers the stubs and codecs run on
+    private static final List<String> SERVER_THREAD_PREFIXES =
+            List.of("http-nio-", "reactor-http-", "parallel-", "boundedElastic-");
+
+    private static final User USER = user();
+
+    @Test
+    void reactiveStack_ShouldServeTheSameLoadWithFewerThreads() throws Exception {
+        LoadResult servlet = run(ServletConfig.class, WebApplicationType.SERVLET);
+        LoadResult reactive = run(ReactiveConfig.class, WebApplicationType.REACTIVE);
+
+        logger.info(String.format(
+                "%10s %12s %18s %18s %10s", "stack", "req/s", "by id p99 (ms)", "page p99 (ms)", "threads"));
+        logger.info(servlet.format("servlet"));
+        logger.info(reactive.format("reactive"));
+
+        assertThat(reactive.serverThreads).isLessThan(servlet.serverThreads);
+    }
+
+    private LoadResult run(Class<?> config, WebApplicationType type) throws Exception {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(config)
+                .web(type)
+                .properties("server.port=0", "spring.main.banner-mode=off")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI base = URI.create("http://localhost:" + port + "/api/users");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            drive(client, base, WARMUP);
+            AtomicInteger peakServerThreads = new AtomicInteger();
+            sampler.scheduleAtFixedRate(
+                    () -> peakServerThreads.accumulateAndGet(serverThreads(), Math::max),
+                    0,
+                    100,
+                    TimeUnit.MILLISECONDS);
+            LoadResult result = drive(client, base, MEASUREMENT);
+            result.serverThreads = peakServerThreads.get();
+            return result;
+        } finally {
+            sampler.shutdownNow();
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private static int serverThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.isAlive() && SERVER_THREAD_PREFIXES.stream().anyMatch(thread.getName()::startsWith)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private LoadResult drive(HttpClient client, URI base, Duration duration) {
+        HttpRequest byId = HttpRequest.newBuilder(URI.create(base + "/1")).build();
+        HttpRequest page = HttpRequest.newBuilder(URI.create(base + "?page=0&size=10&count=NONE"))
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<Client> clients = new ArrayList<>(CLIENTS);
+        List<CompletableFuture<Void>> running = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            Client c = new Client(client, byId, page, i, deadline);
+            clients.add(c);
+            running.add(c.next());
+        }
+        CompletableFuture.allOf(running.toArray(new CompletableFuture<?>[0])).join();
+
+        List<Long> byIdLatencies = new ArrayList<>();
+        List<Long> pageLatencies = new ArrayList<>();
+        for (Client c : clients) {
+            byIdLatencies.addAll(c.byIdLatencies);
+            pageLatencies.addAll(c.pageLatencies);
+        }
+        assertThat(clients).allSatisfy(c -> assertThat(c.failures).isZero());
+        double throughput = (byIdLatencies.size() + pageLatencies.size()) / (double) duration.toSeconds();
+        return new LoadResult(throughput, p99Millis(byIdLatencies), p99Millis(pageLatencies));
+    }
+
+    private static double p99Millis(List<Long> latencies) {
+        if (latencies.isEmpty()) {
+            return 0;
+        }
+        latencies.sort(null);
+        return latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1) / 1_000_000.0;
+    }
+
+    private static User user() {
+        User user = new User("Load Test", "load.test@example.com");
+        user.setId(1L);
+        return user;
+    }
+
+    /** One closed-loop client: sends its next request as soon as the previous response arrives. */
+    private static final class Client {
+
+        private final HttpClient client;
+        private final HttpRequest byId;
+        private final HttpRequest page;
+        private final long deadline;
+        private final List<Long> byIdLatencies = new ArrayList<>();
+        private final List<Long> pageLatencies = new ArrayList<>();
+        private int sequence;
+        private int failures;
+
+        private Client(HttpClient client, HttpRequest byId, HttpRequest page, int offset, long deadline) {
+            this.client = client;
+            this.byId = byId;
+            this.page = page;
+            this.sequence = offset;
+            this.deadline = deadline;
+        }
+
+        private CompletableFuture<Void> next() {
+            if (System.nanoTime() >= deadline) {
+                return CompletableFuture.completedFuture(null);
+            }
+            boolean pageRead = sequence++ % PAGE_READ_EVERY == 0;
+            long start = System.nanoTime();
+            return client.sendAsync(pageRead ? page : byId, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, exception) -> {
+                        long end = System.nanoTime();
+                        if (exception != null || response.statusCode() != 200) {
+                            failures++;
+                        } else if (end < deadline) {
+                            // Only requests completed inside the window count towards throughput and latency
+                            (pageRead ? pageLatencies : byIdLatencies).add(end - start);
+                        }
+                        return null;
+                    })
+                    .thenCompose(ignored -> next());
+        }
+    }
+
+    private static final class LoadResult {
+
+        private final double throughput;
+        private final double byIdP99Millis;
+        private final double pageP99Millis;
+        private int serverThreads;
+
+        private LoadResult(double throughput, double byIdP99Millis, double pageP99Millis) {
+            this.throughput = throughput;
+            this.byIdP99Millis = byIdP99Millis;
+            this.pageP99Millis = pageP99Millis;
+        }
+
+        private String format(String stack) {
+            return String.format(
+                    "%10s %12.0f %18.1f %18.1f %10d", stack, throughput, byIdP99Millis, pageP99Millis, serverThreads);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({
+        ServletWebServerFactoryAutoConfiguration.class,
+        DispatcherServletAutoConfiguration.class,
+        WebMvcAutoConfiguration.class,
+        HttpMessageConvertersAutoConfiguration.class,
+        JacksonAutoConfiguration.class
+    })
+    @Import(UserController.class)
+    static class ServletConfig {
+
+        @Bean
+        UserService userService() {
+            // Stub-only, so that hundreds of thousands of calls are not recorded for verification
+            UserService userService = mock(UserService.class, withSettings().stubOnly());
+            Semaphore connections = new Semaphore(POOL_SIZE, true);
+
+            when(userService.getUserById(anyLong())).thenAnswer(invocation -> {
+                query(connections, BY_ID_QUERY_TIME);
+                return USER;
+            });
+            when(userService.getAllUsers(anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+                query(connections, PAGE_QUERY_TIME);
+                return new PageResult<>(List.of(USER), 0, 10, 1);
+            });
+            return userService;
+        }
+
+        private static void query(Semaphore connections, Duration queryTime) throws InterruptedException {
+            connections.acquire();
+            try {
+                Thread.sleep(queryTime.toMillis());
+            } finally {
+                connections.release();
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({
+        ReactiveWebServerFactoryAutoConfiguration.class,
+        HttpHandlerAutoConfiguration.class,
+        WebFluxAutoConfiguration.class,
+        CodecsAutoConfiguration.class,
+        JacksonAutoConfiguration.class
+    })
+    @Import(ReactiveUserController.class)
+    static class ReactiveConfig {
+
+        // Tomcat is on the test classpath for the servlet run and would otherwise be picked for WebFlux too
+        @Bean
+        NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+            return new NettyReactiveWebServerFactory();
+        }
+
+        @Bean
+        ReactiveUserService reactiveUserService() {
+            ReactiveUserService userService =
+                    mock(ReactiveUserService.class, withSettings().stubOnly());
+            InstrumentedPool<Object> connections = PoolBuilder.from(Mono.fromSupplier(Object::new))
+                    .sizeBetween(0, POOL_SIZE)
+                    .buildPool();
+
+            when(userService.getUserById(anyLong()))
+                    .thenAnswer(invocation -> query(connections, BY_ID_QUERY_TIME, USER));
+            when(userService.getAllUsers(anyInt(), anyInt(), any()))
+                    .thenAnswer(invocation ->
+                            query(connections, PAGE_QUERY_TIME, new PageResult<>(List.of(USER), 0, 10, 1)));
+            return userService;
+        }
+
+        private static <T> Mono<T> query(InstrumentedPool<Object> connections, Duration queryTime, T result) {
+            return connections
+                    .withPoolable(connection -> Mono.delay(queryTime).thenReturn(result))
+                    .next();
+        }
+    }
+}
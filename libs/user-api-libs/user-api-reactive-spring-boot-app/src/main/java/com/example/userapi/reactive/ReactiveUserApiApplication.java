@@ -0,0 +1,26 @@
+package com.example.userapi.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+// Scans only the packages that work without a DataSource or a servlet container: the JDBC outbox and
+// DatabaseConfig from the core modules stay out of the reactive context
+@SpringBootApplication(
+        scanBasePackages = {
+            "com.example.userapi.reactive",
+            "com.example.userapi.event.schema",
+            "com.example.core.messaging.config",
+            "com.example.core.messaging.producer",
+            "com.example.core.monitoring",
+            "com.example.core.web.config",
+            "com.example.core.web.exception"
+        })
+@EnableConfigurationProperties
+public class ReactiveUserApiApplication {
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactiveUserApiApplication.class);
+        application.setAdditionalProfiles("reactive");
+        application.run(args);
+    }
+}